@@ -2,15 +2,26 @@ package com.example.Spot.filter;
 
 import java.util.UUID;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 
 import reactor.core.publisher.Mono;
 
 @Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, ResponseCacheProperties.class})
 public class GatewayFilterConfig {
 
+    // 응답 캐시 퍼지 신호(spot-store 발행) 구독용
+    @Bean
+    public ReactiveRedisMessageListenerContainer reactiveRedisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+
     @Bean
     public GlobalFilter requestIdFilter() {
         return (exchange, chain) -> {
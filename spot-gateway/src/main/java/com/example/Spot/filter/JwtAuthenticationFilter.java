@@ -0,0 +1,166 @@
+package com.example.Spot.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이에서 JWT 를 한 번만 검증하고, 검증된 사용자 정보를 서명된 헤더로 하위 서비스에 넘긴다.
+ * <ul>
+ *     <li>X-User-Id / X-User-Role : 토큰의 subject, role</li>
+ *     <li>X-Auth-Issued-At : 헤더 발급 시각 (epoch seconds)</li>
+ *     <li>X-Auth-Signature : HMAC-SHA256(userId:role:issuedAt:method:path), 게이트웨이와 서비스만 아는 키로 서명</li>
+ * </ul>
+ * method / path 까지 서명하므로 가로챈 헤더를 다른 API 에 쓸 수 없다. path 는 라우팅 전 경로이므로
+ * 인증이 필요한 라우트는 경로를 바꾸지 않아야 한다.
+ * 클라이언트가 직접 보낸 같은 이름의 헤더(와 서비스 자격 증명 X-Service-Name)는 항상 제거한다.
+ * 서비스는 spot.auth.gateway.trusted=true 일 때 이 헤더만으로 인증하고 JWT 재검증을 건너뛴다.
+ * spot.auth.gateway.secret 이 비어 있으면 토큰 검증만 하고 사용자 헤더는 붙이지 않는다.
+ */
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    public static final String HEADER_USER_ID = "X-User-Id";
+    public static final String HEADER_USER_ROLE = "X-User-Role";
+    public static final String HEADER_ISSUED_AT = "X-Auth-Issued-At";
+    public static final String HEADER_SIGNATURE = "X-Auth-Signature";
+    // 서비스 간 내부 호출용 자격 증명 헤더. 외부에서 들어오면 안 된다
+    public static final String HEADER_SERVICE = "X-Service-Name";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SecretKey jwtKey;
+    private final SecretKeySpec identityKey;
+    private final MeterRegistry meterRegistry;
+
+    public JwtAuthenticationFilter(
+            @Value("${spring.jwt.secret}") String jwtSecret,
+            @Value("${spot.auth.gateway.secret:}") String identitySecret,
+            MeterRegistry meterRegistry) {
+        this.jwtKey = new SecretKeySpec(
+                jwtSecret.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm()
+        );
+        this.identityKey = identitySecret.isBlank()
+                ? null
+                : new SecretKeySpec(identitySecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest.Builder request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(HEADER_USER_ID);
+                    headers.remove(HEADER_USER_ROLE);
+                    headers.remove(HEADER_ISSUED_AT);
+                    headers.remove(HEADER_SIGNATURE);
+                    headers.remove(HEADER_SERVICE);
+                });
+
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            count("anonymous");
+            return chain.filter(exchange.mutate().request(request.build()).build());
+        }
+
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .verifyWith(jwtKey)
+                    .build()
+                    .parseSignedClaims(authorization.substring(BEARER_PREFIX.length()).trim())
+                    .getPayload();
+        } catch (ExpiredJwtException e) {
+            count("expired");
+            return unauthorized(exchange);
+        } catch (JwtException | IllegalArgumentException e) {
+            LOGGER.warn("[GATEWAY-AUTH] invalid token {} {}: {}",
+                    exchange.getRequest().getMethod(), exchange.getRequest().getPath(), e.getMessage());
+            count("invalid");
+            return unauthorized(exchange);
+        }
+
+        // refresh 토큰 등 access 토큰이 아니면 사용자 정보 없이 그대로 넘긴다 (재발급 API 는 서비스가 직접 검증)
+        String userId = claims.getSubject();
+        String role = claims.get("role", String.class);
+        if (!"access".equals(claims.get("type", String.class)) || isBlank(userId) || isBlank(role)) {
+            count("non_access");
+            return chain.filter(exchange.mutate().request(request.build()).build());
+        }
+
+        if (identityKey == null) {
+            count("authenticated");
+            return chain.filter(exchange.mutate().request(request.build()).build());
+        }
+
+        String issuedAt = String.valueOf(Instant.now().getEpochSecond());
+        String method = exchange.getRequest().getMethod().name();
+        String path = exchange.getRequest().getPath().value();
+        request.header(HEADER_USER_ID, userId)
+                .header(HEADER_USER_ROLE, role)
+                .header(HEADER_ISSUED_AT, issuedAt)
+                .header(HEADER_SIGNATURE, sign(userId + ":" + role + ":" + issuedAt + ":" + method + ":" + path));
+
+        count("authenticated");
+        return chain.filter(exchange.mutate().request(request.build()).build());
+    }
+
+    // 요청 id 필터보다 먼저, 라우팅보다 먼저 실행
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(identityKey);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("게이트웨이 인증 헤더 서명에 실패했습니다.", e);
+        }
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("gateway.auth.requests", "result", result).increment();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.Spot.filter;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 사용자 + 라우트 단위 토큰 버킷 요청 제한.
+ * 버킷은 Redis 에 두고 Lua 스크립트로 충전/차감을 원자적으로 처리하므로 게이트웨이 인스턴스가 여러 대여도 한도가 공유된다.
+ * 한도를 넘으면 429 + Retry-After(초)로 응답하고, Redis 장애 시에는 요청을 막지 않는다 (fail-open).
+ * <p>
+ * 사용자는 {@link JwtAuthenticationFilter} 가 붙인 X-User-Id 로 구분하고, 비로그인 요청은 클라이언트 IP 로 구분한다.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET =
+            RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(ReactiveStringRedisTemplate redisTemplate,
+                           RateLimitProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.enabled()) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : null;
+        RateLimitProperties.Limit limit = properties.limitFor(routeId);
+        if (limit == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = KEY_PREFIX + routeId + ":" + principal(exchange.getRequest());
+
+        return tryConsume(key, limit)
+                .flatMap(decision -> {
+                    if (decision.allowed()) {
+                        count(routeId, "allowed");
+                        exchange.getResponse().getHeaders().set(HEADER_REMAINING, String.valueOf(decision.remaining()));
+                        return chain.filter(exchange);
+                    }
+                    count(routeId, "rejected");
+                    return tooManyRequests(exchange, decision.retryAfterSeconds());
+                })
+                .onErrorResume(RateLimitUnavailableException.class, e -> {
+                    LOGGER.warn("[RATE-LIMIT] Redis 사용 불가, 제한 없이 통과: route={}, cause={}", routeId, e.getMessage());
+                    count(routeId, "error");
+                    return chain.filter(exchange);
+                });
+    }
+
+    // JWT 검증(헤더 부착) 이후, 라우팅 이전에 실행
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Decision> tryConsume(String key, RateLimitProperties.Limit limit) {
+        List<String> args = List.of(
+                String.valueOf(limit.replenishRate()),
+                String.valueOf(limit.burstCapacity()),
+                String.valueOf(limit.requestedTokens()));
+
+        return redisTemplate.execute(TOKEN_BUCKET, List.of(key), args)
+                .next()
+                .timeout(properties.redisTimeout())
+                .map(result -> Decision.from((List<Long>) result))
+                .onErrorMap(e -> new RateLimitUnavailableException(e))
+                .switchIfEmpty(Mono.error(new RateLimitUnavailableException(null)));
+    }
+
+    private String principal(ServerHttpRequest request) {
+        String userId = request.getHeaders().getFirst(JwtAuthenticationFilter.HEADER_USER_ID);
+        if (userId != null && !userId.isBlank()) {
+            return "user:" + userId;
+        }
+
+        // X-Forwarded-For 는 클라이언트가 임의로 바꿀 수 있으므로 접속 주소를 쓴다
+        InetSocketAddress remote = request.getRemoteAddress();
+        return "ip:" + (remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : "unknown");
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long retryAfterSeconds) {
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        exchange.getResponse().getHeaders().set(HEADER_REMAINING, "0");
+        return exchange.getResponse().setComplete();
+    }
+
+    private void count(String routeId, String result) {
+        meterRegistry.counter("gateway.rate_limit.requests", "route", routeId, "result", result).increment();
+    }
+
+    private record Decision(boolean allowed, long remaining, long retryAfterSeconds) {
+
+        static Decision from(List<Long> result) {
+            long retryAfterMs = result.get(2);
+            // Retry-After 는 초 단위 정수이므로 올림 (최소 1초)
+            return new Decision(result.get(0) == 1L, result.get(1), Math.max(1, (retryAfterMs + 999) / 1000));
+        }
+    }
+
+    private static class RateLimitUnavailableException extends RuntimeException {
+
+        RateLimitUnavailableException(Throwable cause) {
+            super(cause != null ? cause.toString() : "empty script result", cause);
+        }
+    }
+}
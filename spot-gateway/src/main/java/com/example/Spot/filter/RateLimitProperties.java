@@ -0,0 +1,46 @@
+package com.example.Spot.filter;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 라우트별 토큰 버킷 설정 (spot-gateway.yml 의 spot.gateway.rate-limit).
+ * routes 의 key 는 spring.cloud.gateway 라우트 id 이며, 설정되지 않은 라우트는 제한하지 않는다.
+ */
+@ConfigurationProperties(prefix = "spot.gateway.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200ms") Duration redisTimeout,
+        Map<String, Limit> routes) {
+
+    public RateLimitProperties {
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    public Limit limitFor(String routeId) {
+        return routeId == null ? null : routes.get(routeId);
+    }
+
+    /**
+     * @param replenishRate  초당 충전되는 토큰 수 (지속 허용 처리량)
+     * @param burstCapacity  버킷 용량 (순간 허용 요청 수)
+     * @param requestedTokens 요청 1건이 소비하는 토큰 수
+     */
+    public record Limit(
+            double replenishRate,
+            long burstCapacity,
+            @DefaultValue("1") long requestedTokens) {
+
+        public Limit {
+            if (replenishRate <= 0 || burstCapacity <= 0 || requestedTokens <= 0) {
+                throw new IllegalArgumentException("rate-limit 설정값은 0보다 커야 합니다.");
+            }
+            if (requestedTokens > burstCapacity) {
+                throw new IllegalArgumentException("requested-tokens 는 burst-capacity 보다 클 수 없습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.Spot.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 공개 가게/메뉴 GET 응답 캐시.
+ * <ul>
+ *     <li>대상: spot.gateway.response-cache.paths 에 걸리고, 응답이 사용자와 무관한 역할(cacheable-roles)이거나
+ *         비로그인(cache-anonymous, ANONYMOUS 역할로 따로 저장)인 GET 요청</li>
+ *     <li>키: 역할 + Origin + 경로 + 정렬된 쿼리 (CORS 응답 헤더가 Origin 별로 다르므로 포함)</li>
+ *     <li>ETag 를 붙여 내려주고(upstream 이 준 ETag 가 있으면 그대로), If-None-Match 가 일치하면 304 로 응답한다</li>
+ *     <li>같은 키의 동시 요청은 하나만 spot-store 로 보내고 나머지는 그 결과를 기다려 함께 응답한다.
+ *         coalesce-wait 안에 응답이 오지 않으면 기다리던 요청도 직접 보낸다</li>
+ *     <li>spot-store 가 가게/메뉴 변경 시 Redis 채널로 storeId 를 발행하면 해당 가게 항목과 목록 항목을 비운다</li>
+ * </ul>
+ * 저장 크기는 응답 본문 합계로 제한하며, 퍼지 신호를 놓쳐도 짧은 TTL 로 갱신된다.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    private static final String HEADER_CACHE = "X-Cache";
+    private static final String ANONYMOUS_ROLE = "ANONYMOUS";
+    private static final Pattern STORE_PATH = Pattern.compile(
+            "^/api/stores/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(/.*)?$");
+    // 캐시에 저장하지 않는 응답 헤더 (전송 관련 / 요청마다 다른 값)
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            "x-request-id");
+
+    private final ResponseCacheProperties properties;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> includes;
+    private final List<PathPattern> excludes;
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, CompletableFuture<Optional<CachedResponse>>> inFlight = new ConcurrentHashMap<>();
+    // 퍼지될 때마다 증가. 퍼지 전에 시작한 upstream 응답은 저장하지 않는다
+    private final AtomicLong purgeGeneration = new AtomicLong();
+
+    private Disposable purgeSubscription;
+
+    public ResponseCacheFilter(ResponseCacheProperties properties,
+                               ReactiveRedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.includes = properties.paths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.excludes = properties.excludePaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, CachedResponse response) -> response.body().length + key.length())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+
+        // actuator metrics: cache.gets{cache=gateway_response,result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway_response");
+    }
+
+    @PostConstruct
+    public void subscribePurge() {
+        if (!properties.enabled()) {
+            return;
+        }
+        purgeSubscription = listenerContainer.receive(ChannelTopic.of(properties.purgeChannel()))
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnError(e -> LOGGER.warn("[RESPONSE-CACHE] 퍼지 채널 구독 오류, 재시도: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(this::purge);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (purgeSubscription != null) {
+            purgeSubscription.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.enabled() || !isCacheable(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return writeCached(exchange, cached, "hit");
+        }
+
+        CompletableFuture<Optional<CachedResponse>> leader = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedResponse>> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            // 같은 요청이 이미 upstream 에 가 있으면 그 응답을 기다렸다가 함께 쓴다 (저장 불가 응답이면 직접 요청).
+            // 선행 요청이 늦으면 기다림을 끊고 직접 요청한다. 공유 future 는 취소하지 않는다 (suppressCancel)
+            return Mono.fromFuture(existing, true)
+                    .timeout(properties.coalesceWait(), Mono.fromSupplier(() -> {
+                        count("coalesce_timeout");
+                        return Optional.<CachedResponse>empty();
+                    }))
+                    .flatMap(response -> response.isPresent()
+                            ? writeCached(exchange, response.get(), "coalesced")
+                            : forward(exchange, chain));
+        }
+
+        long generation = purgeGeneration.get();
+        String storeId = storeIdOf(request.getPath().value());
+        ServerHttpResponseDecorator capturing = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                if (!isStorable(getStatusCode(), getHeaders())) {
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+
+                    if (bytes.length <= properties.maxEntrySize().toBytes()) {
+                        CachedResponse response = CachedResponse.of(getStatusCode(), getHeaders(), bytes, storeId);
+                        if (purgeGeneration.get() == generation) {
+                            cache.put(key, response);
+                        }
+                        leader.complete(Optional.of(response));
+                        if (getHeaders().getETag() == null) {
+                            getHeaders().setETag(response.etag());
+                        }
+                    }
+                    getHeaders().set(HEADER_CACHE, "MISS");
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        };
+
+        count("miss");
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    leader.complete(Optional.empty());
+                    inFlight.remove(key, leader);
+                });
+    }
+
+    // 라우팅 직전, 인증/요청 제한 이후 실행 (역할 헤더가 필요)
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 30;
+    }
+
+    // storeId 항목과 가게 목록/검색/카테고리처럼 특정 가게에 묶이지 않은 항목을 비운다
+    void purge(String storeId) {
+        purgeGeneration.incrementAndGet();
+        cache.asMap().values().removeIf(response -> response.storeId() == null || response.storeId().equals(storeId));
+        meterRegistry.counter("gateway.response_cache.purges").increment();
+    }
+
+    private boolean isCacheable(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        String role = roleOf(request);
+        if (role == null
+                || ANONYMOUS_ROLE.equals(role) && !properties.cacheAnonymous()
+                || !ANONYMOUS_ROLE.equals(role) && !properties.cacheableRoles().contains(role)) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        return includes.stream().anyMatch(pattern -> pattern.matches(path))
+                && excludes.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    // 토큰 없는 요청은 ANONYMOUS. 토큰이 있는데 역할이 없으면(access 토큰이 아님) 캐시하지 않는다
+    private static String roleOf(ServerHttpRequest request) {
+        String role = request.getHeaders().getFirst(JwtAuthenticationFilter.HEADER_USER_ROLE);
+        if (role != null) {
+            return role;
+        }
+        return request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) ? null : ANONYMOUS_ROLE;
+    }
+
+    private String cacheKey(ServerHttpRequest request) {
+        String role = roleOf(request);
+        String origin = request.getHeaders().getOrigin();
+        StringBuilder key = new StringBuilder()
+                .append(role).append('|')
+                .append(origin == null ? "" : origin).append('|')
+                .append(request.getPath().value()).append('?');
+        // 같은 쿼리라도 파라미터 순서가 다르면 같은 키가 되도록 정렬
+        new TreeMap<>(request.getQueryParams()).forEach((name, values) ->
+                values.forEach(value -> key.append(name).append('=').append(value).append('&')));
+        return key.toString();
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, String result) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.setETag(cached.etag());
+        headers.set(HEADER_CACHE, "HIT");
+
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        if (ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || weakTag(tag).equals(weakTag(cached.etag())))) {
+            count("not_modified");
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+
+        count(result);
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain) {
+        count("miss");
+        return chain.filter(exchange);
+    }
+
+    private static boolean isStorable(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    // If-None-Match 는 약한 비교 (W/ 접두어 무시)
+    private static String weakTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String storeIdOf(String path) {
+        Matcher matcher = STORE_PATH.matcher(path);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("gateway.response_cache.requests", "result", result).increment();
+    }
+
+    private record CachedResponse(int status, HttpHeaders headers, byte[] body, String etag, String storeId) {
+
+        static CachedResponse of(HttpStatusCode status, HttpHeaders source, byte[] body, String storeId) {
+            HttpHeaders headers = new HttpHeaders();
+            source.forEach((name, values) -> {
+                if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            // upstream 이 ETag 를 주면(spot-store 의 "버전-CRC32") 그 값을 유지해야 클라이언트 재검증이 어디서든 맞는다
+            String etag = source.getETag() != null ? source.getETag() : etag(body);
+            return new CachedResponse(status.value(), HttpHeaders.readOnlyHttpHeaders(headers), body, etag, storeId);
+        }
+
+        private static String etag(byte[] body) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+                return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+}
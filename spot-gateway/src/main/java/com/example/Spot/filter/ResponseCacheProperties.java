@@ -0,0 +1,41 @@
+package com.example.Spot.filter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 공개 GET 응답 캐시 설정 (spot-gateway.yml 의 spot.gateway.response-cache).
+ *
+ * @param paths          캐시 대상 경로 패턴 (PathPattern 문법)
+ * @param excludePaths   paths 에 걸리더라도 캐시하지 않을 경로 (예: 사용자별 응답인 /api/stores/my)
+ * @param cacheableRoles 응답이 사용자와 무관한 역할. 캐시 키에 역할이 포함되어 역할별로 따로 저장된다
+ * @param cacheAnonymous 로그인하지 않은(Authorization 이 없는) 요청도 ANONYMOUS 역할로 따로 저장한다
+ * @param maxSize        전체 캐시 크기 상한 (응답 본문 기준)
+ * @param maxEntrySize   이보다 큰 응답은 저장하지 않는다
+ * @param purgeChannel   spot-store 가 가게/메뉴 변경 시 storeId 를 발행하는 Redis 채널
+ * @param coalesceWait   같은 키의 upstream 응답을 기다리는 최대 시간. 넘으면 기다리던 요청도 직접 upstream 으로 보낸다
+ */
+@ConfigurationProperties(prefix = "spot.gateway.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10s") Duration ttl,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("512KB") DataSize maxEntrySize,
+        List<String> paths,
+        List<String> excludePaths,
+        @DefaultValue("CUSTOMER") Set<String> cacheableRoles,
+        @DefaultValue("true") boolean cacheAnonymous,
+        @DefaultValue("spot:gateway:cache-purge") String purgeChannel,
+        @DefaultValue("3s") Duration coalesceWait) {
+
+    public ResponseCacheProperties {
+        paths = paths == null ? List.of() : List.copyOf(paths);
+        excludePaths = excludePaths == null ? List.of() : List.copyOf(excludePaths);
+        cacheableRoles = Set.copyOf(cacheableRoles);
+    }
+}
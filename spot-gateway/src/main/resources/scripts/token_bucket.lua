@@ -0,0 +1,32 @@
+-- 토큰 버킷 (원자적으로 충전 + 차감)
+-- KEYS[1] : 버킷 키 (hash: tokens, ts)
+-- ARGV[1] : 초당 충전 토큰 수, ARGV[2] : 버킷 용량(burst), ARGV[3] : 이번 요청이 소비할 토큰 수
+-- 반환    : { 허용 여부(1/0), 남은 토큰 수, 재시도까지 대기 ms }
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 게이트웨이 인스턴스마다 시계가 다를 수 있으므로 Redis 시각을 기준으로 한다
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or capacity
+local last = tonumber(bucket[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - last) * rate / 1000)
+
+local allowed = 0
+local retry_after_ms = 0
+if tokens >= requested then
+    tokens = tokens - requested
+    allowed = 1
+else
+    retry_after_ms = math.ceil((requested - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', now)
+-- 가득 찰 때까지 걸리는 시간의 2배가 지나면 키를 정리한다 (그 뒤 요청은 가득 찬 버킷으로 시작)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) * 2)
+
+return { allowed, math.floor(tokens), retry_after_ms }
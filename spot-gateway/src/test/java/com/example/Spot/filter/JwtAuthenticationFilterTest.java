@@ -0,0 +1,116 @@
+package com.example.Spot.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT_SECRET = "test-jwt-secret-that-is-at-least-32-bytes-long!!";
+    private static final String IDENTITY_SECRET = "test-gateway-identity-secret";
+
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(JWT_SECRET, IDENTITY_SECRET, new SimpleMeterRegistry());
+
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange);
+        return Mono.empty();
+    };
+
+    @Test
+    @DisplayName("클라이언트가 직접 보낸 X-User-* / 서명 헤더는 토큰이 없어도 제거한다")
+    void stripsSpoofedHeaders() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/my")
+                .header(JwtAuthenticationFilter.HEADER_USER_ID, "1")
+                .header(JwtAuthenticationFilter.HEADER_USER_ROLE, "MASTER")
+                .header(JwtAuthenticationFilter.HEADER_ISSUED_AT, "9999999999")
+                .header(JwtAuthenticationFilter.HEADER_SIGNATURE, "forged")
+                .header(JwtAuthenticationFilter.HEADER_SERVICE, "spot-user"));
+
+        filter.filter(exchange, chain).block();
+
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertThat(headers.containsKey(JwtAuthenticationFilter.HEADER_USER_ID)).isFalse();
+        assertThat(headers.containsKey(JwtAuthenticationFilter.HEADER_USER_ROLE)).isFalse();
+        assertThat(headers.containsKey(JwtAuthenticationFilter.HEADER_ISSUED_AT)).isFalse();
+        assertThat(headers.containsKey(JwtAuthenticationFilter.HEADER_SIGNATURE)).isFalse();
+        assertThat(headers.containsKey(JwtAuthenticationFilter.HEADER_SERVICE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("유효한 access 토큰이면 토큰의 사용자로 바꿔 쓰고 method / path 까지 서명한다")
+    void signsVerifiedIdentity() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken("7", "CUSTOMER", 60_000))
+                .header(JwtAuthenticationFilter.HEADER_USER_ROLE, "MASTER"));
+
+        filter.filter(exchange, chain).block();
+
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        String issuedAt = headers.getFirst(JwtAuthenticationFilter.HEADER_ISSUED_AT);
+        assertThat(headers.getFirst(JwtAuthenticationFilter.HEADER_USER_ID)).isEqualTo("7");
+        assertThat(headers.get(JwtAuthenticationFilter.HEADER_USER_ROLE)).containsExactly("CUSTOMER");
+        assertThat(headers.getFirst(JwtAuthenticationFilter.HEADER_SIGNATURE))
+                .isEqualTo(hmac("7:CUSTOMER:" + issuedAt + ":POST:/api/orders"))
+                .isNotEqualTo(hmac("7:CUSTOMER:" + issuedAt + ":GET:/api/orders"))
+                .isNotEqualTo(hmac("7:MASTER:" + issuedAt + ":POST:/api/orders"));
+    }
+
+    @Test
+    @DisplayName("만료되거나 다른 키로 서명된 토큰은 하위 서비스로 넘기지 않고 401")
+    void rejectsInvalidTokens() {
+        MockServerWebExchange expired = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/my")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken("7", "CUSTOMER", -60_000)));
+        MockServerWebExchange forged = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/my")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + Jwts.builder()
+                        .subject("7").claim("role", "MASTER").claim("type", "access")
+                        .signWith(Jwts.SIG.HS256.key().build())
+                        .compact()));
+
+        filter.filter(expired, chain).block();
+        filter.filter(forged, chain).block();
+
+        assertThat(expired.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(forged.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(forwarded.get()).isNull();
+    }
+
+    private static String accessToken(String userId, String role, long expiresInMillis) {
+        SecretKey key = new SecretKeySpec(JWT_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        return Jwts.builder()
+                .subject(userId)
+                .claim("role", role)
+                .claim("type", "access")
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    // 서비스의 GatewayIdentityVerifier 와 같은 형식
+    private static String hmac(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(IDENTITY_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.Spot.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/api/stores/" + UUID.randomUUID();
+    private static final String UPSTREAM_ETAG = "\"7-1a2b3c4d\"";
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(new ResponseCacheProperties(
+            true, Duration.ofSeconds(10), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64),
+            List.of("/api/stores/*"), List.of(), Set.of("CUSTOMER"), true, "purge", Duration.ofMillis(100)),
+            null, new SimpleMeterRegistry());
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    @DisplayName("upstream 이 준 ETag 를 캐시 응답에도 그대로 쓰고 If-None-Match 가 맞으면 304")
+    void keepsUpstreamEtag() {
+        MockServerWebExchange miss = exchange(null);
+        filter.filter(miss, upstream(UPSTREAM_ETAG)).block();
+
+        MockServerWebExchange hit = exchange(null);
+        filter.filter(hit, upstream(UPSTREAM_ETAG)).block();
+
+        MockServerWebExchange revalidate = exchange("W/" + UPSTREAM_ETAG);
+        filter.filter(revalidate, upstream(UPSTREAM_ETAG)).block();
+
+        assertThat(miss.getResponse().getHeaders().getETag()).isEqualTo(UPSTREAM_ETAG);
+        assertThat(hit.getResponse().getHeaders().getETag()).isEqualTo(UPSTREAM_ETAG);
+        assertThat(hit.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(revalidate.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("upstream ETag 가 없으면 본문 해시로 만든다")
+    void generatesEtagWithoutUpstream() {
+        MockServerWebExchange miss = exchange(null);
+        filter.filter(miss, upstream(null)).block();
+
+        assertThat(miss.getResponse().getHeaders().getETag()).isNotBlank().isNotEqualTo(UPSTREAM_ETAG);
+    }
+
+    @Test
+    @DisplayName("선행 요청이 coalesce-wait 안에 끝나지 않으면 기다리던 요청은 직접 upstream 으로 간다")
+    void coalescedWaiterFallsBackAfterTimeout() {
+        // given: 응답하지 않는 선행 요청
+        filter.filter(exchange(null), exchange -> Mono.never()).subscribe();
+
+        // when
+        MockServerWebExchange waiter = exchange(null);
+        filter.filter(waiter, upstream(UPSTREAM_ETAG)).block(Duration.ofSeconds(2));
+
+        // then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(waiter.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(waiter.getResponse().getBodyAsString().block()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 ANONYMOUS 로 따로 저장하고 역할 요청과 섞지 않는다")
+    void cachesAnonymousSeparately() {
+        MockServerWebExchange anonymousMiss = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        filter.filter(anonymousMiss, upstream(UPSTREAM_ETAG)).block();
+
+        MockServerWebExchange anonymousHit = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        filter.filter(anonymousHit, upstream(UPSTREAM_ETAG)).block();
+
+        MockServerWebExchange customer = exchange(null);
+        filter.filter(customer, upstream(UPSTREAM_ETAG)).block();
+
+        MockServerWebExchange nonAccessToken = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer refresh-token"));
+        filter.filter(nonAccessToken, upstream(UPSTREAM_ETAG)).block();
+
+        assertThat(anonymousMiss.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(anonymousHit.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(customer.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(nonAccessToken.getResponse().getHeaders().getFirst("X-Cache")).isNull();
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    private static MockServerWebExchange exchange(String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(PATH)
+                .header(JwtAuthenticationFilter.HEADER_USER_ROLE, "CUSTOMER");
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private GatewayFilterChain upstream(String etag) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            if (etag != null) {
+                response.getHeaders().setETag(etag);
+            }
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+}
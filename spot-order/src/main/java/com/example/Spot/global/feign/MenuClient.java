@@ -5,9 +5,13 @@ import java.util.UUID;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.example.Spot.global.feign.dto.MenuOptionResponse;
 import com.example.Spot.global.feign.dto.MenuResponse;
+import com.example.Spot.global.feign.dto.OrderValidationRequest;
+import com.example.Spot.global.feign.dto.OrderValidationResponse;
 
 @FeignClient(name = "spot-menu", url = "${feign.store.url}")
 public interface MenuClient {
@@ -20,4 +24,7 @@ public interface MenuClient {
 
     @GetMapping("/api/internal/menus/{menuId}/exists")
     boolean existsMenuById(@PathVariable("menuId") UUID menuId);
+
+    @PostMapping("/api/internal/orders/validate")
+    OrderValidationResponse validateOrder(@RequestBody OrderValidationRequest request);
 }
@@ -1,11 +1,17 @@
 package com.example.Spot.global.feign.config;
 
+import java.net.URI;
 import java.util.Enumeration;
 
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
+import com.example.Spot.global.infrastructure.config.security.GatewayIdentityVerifier;
+
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +21,12 @@ public class FeignHeaderRelayInterceptor implements RequestInterceptor {
 
     private static final String HEADER_AUTHORIZATION = "Authorization";
 
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
+
+    public FeignHeaderRelayInterceptor(GatewayIdentityVerifier gatewayIdentityVerifier) {
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
+    }
+
     @Override
     public void apply(RequestTemplate template) {
         RequestAttributes ra = RequestContextHolder.getRequestAttributes();
@@ -27,6 +39,28 @@ public class FeignHeaderRelayInterceptor implements RequestInterceptor {
         // 1) Authorization은 "있으면 반드시" 전달 (이게 없으면 store는 401이 정상)
         relaySingle(request, template, HEADER_AUTHORIZATION);
 
+        // 2) 게이트웨이 사용자 헤더는 method/path 에 묶여 있어 그대로 넘기면 검증에 실패한다.
+        //    인증된 사용자로 호출 대상 method/path 에 맞춰 다시 서명한다 (신뢰 모드 서비스는 JWT 파싱 없이 인증)
+        relayIdentity(template);
+
+    }
+
+    private void relayIdentity(RequestTemplate template) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails user)) {
+            return;
+        }
+
+        gatewayIdentityVerifier.issue(user.getUserId(), user.getRole(), template.method(), targetPath(template))
+                .forEach((name, value) -> {
+                    template.removeHeader(name);
+                    template.header(name, value);
+                });
+    }
+
+    // 인터셉터 시점에는 보통 상대 경로지만, 대상 URL 이 붙어 있어도 path 만 쓴다 (쿼리 제외)
+    private static String targetPath(RequestTemplate template) {
+        return URI.create(template.path()).getRawPath();
     }
 
     private void relaySingle(HttpServletRequest request, RequestTemplate template, String headerName) {
@@ -36,7 +70,7 @@ public class FeignHeaderRelayInterceptor implements RequestInterceptor {
         }
 
         // Feign이 같은 헤더를 누적해서 붙이는 경우를 막기 위해 먼저 제거 후 1개만 세팅
-        template.headers().remove(headerName);
+        template.removeHeader(headerName);
         template.header(headerName, value);
     }
 
@@ -0,0 +1,20 @@
+package com.example.Spot.global.feign.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderValidationRequest {
+
+    private UUID storeId;
+    private List<UUID> menuIds;
+    private List<UUID> menuOptionIds;
+}
@@ -0,0 +1,24 @@
+package com.example.Spot.global.feign.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderValidationResponse {
+
+    private StoreResponse store;
+
+    @Builder.Default
+    private List<MenuResponse> menus = new ArrayList<>();
+
+    @Builder.Default
+    private List<MenuOptionResponse> menuOptions = new ArrayList<>();
+}
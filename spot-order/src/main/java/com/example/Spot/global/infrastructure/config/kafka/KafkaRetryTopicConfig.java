@@ -0,0 +1,55 @@
+package com.example.Spot.global.infrastructure.config.kafka;
+
+import java.util.List;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRegistry;
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRegistry.Subscription;
+
+@Configuration
+public class KafkaRetryTopicConfig {
+
+    @Value("${spring.kafka.topic.payment.succeeded}")
+    private String paymentSucceededTopic;
+    @Value("${spring.kafka.topic.payment.refunded}")
+    private String paymentRefundedTopic;
+    @Value("${spring.kafka.topic.payment-auth.required}")
+    private String authRequiredTopic;
+    @Value("${spring.kafka.topic.order.pending}")
+    private String orderPendingTopic;
+    @Value("${spring.kafka.topic.order.accepted}")
+    private String orderAcceptedTopic;
+
+    @Value("${spring.kafka.consumer.group.order}")
+    private String orderGroup;
+    @Value("${spring.kafka.consumer.group.customer}")
+    private String customerGroup;
+    @Value("${spring.kafka.consumer.group.owner}")
+    private String ownerGroup;
+    @Value("${spring.kafka.consumer.group.chef}")
+    private String chefGroup;
+
+    // 주문 서비스가 구독하는 (토픽, 그룹) 목록. 카탈로그 캐시 무효화는 실패해도 TTL로 복구되므로 제외
+    @Bean
+    public RetryTopicRegistry retryTopicRegistry(
+            @Value("${spot.kafka.retry.attempts:3}") int attempts,
+            @Value("${spot.kafka.retry.partitions:3}") int partitions) {
+        return new RetryTopicRegistry(attempts, partitions, List.of(
+                new Subscription(paymentSucceededTopic, orderGroup),
+                new Subscription(paymentRefundedTopic, orderGroup),
+                new Subscription(authRequiredTopic, customerGroup),
+                new Subscription(orderPendingTopic, ownerGroup),
+                new Subscription(orderAcceptedTopic, customerGroup),
+                new Subscription(orderAcceptedTopic, chefGroup)));
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics retryTopics(RetryTopicRegistry retryTopicRegistry) {
+        return new KafkaAdmin.NewTopics(retryTopicRegistry.newTopics().toArray(NewTopic[]::new));
+    }
+}
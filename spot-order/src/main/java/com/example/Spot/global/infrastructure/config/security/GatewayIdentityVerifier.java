@@ -0,0 +1,188 @@
+package com.example.Spot.global.infrastructure.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.common.Role;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 게이트웨이가 JWT 검증 후 붙여 보낸 사용자 정보 헤더(X-User-Id/X-User-Role)를 검증한다.
+ * 헤더는 게이트웨이와 서비스만 아는 키로 HMAC-SHA256(userId:role:issuedAt:method:path) 서명되어 있다.
+ * 요청 method / path 까지 서명하므로 가로챈 헤더는 같은 API 에만, max-age-seconds 안에서만 다시 쓸 수 있다.
+ * 신뢰 모드(spot.auth.gateway.trusted=true)에서만 이 헤더로 인증한다 (JWT 재검증 생략).
+ * 내부 Feign 호출은 인증된 사용자로 호출 대상 method / path 에 맞춰 다시 서명한다 (issue, FeignHeaderRelayInterceptor).
+ * <p>
+ * 사용자 요청 밖에서 나가는 호출(백그라운드 캐시 갱신 등)은 서비스 자격 증명(X-Service-Name)을 같은 키로 서명해 보낸다.
+ * 서비스 자격 증명은 신뢰 모드이거나 spot.auth.service.enabled=true 일 때만 발급 / 검증하며, 사용자 없이 ROLE_SERVICE 권한만 준다.
+ * 둘 중 하나라도 켜져 있는데 키가 없으면 기동에 실패한다 (기본 키는 두지 않는다).
+ */
+@Component
+public class GatewayIdentityVerifier {
+
+    public static final String HEADER_USER_ID = "X-User-Id";
+    public static final String HEADER_USER_ROLE = "X-User-Role";
+    public static final String HEADER_ISSUED_AT = "X-Auth-Issued-At";
+    public static final String HEADER_SIGNATURE = "X-Auth-Signature";
+    public static final String HEADER_SERVICE = "X-Service-Name";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final boolean trusted;
+    private final boolean serviceEnabled;
+    private final SecretKeySpec key;
+    private final long maxAgeSeconds;
+
+    public GatewayIdentityVerifier(
+            @Value("${spot.auth.gateway.trusted:false}") boolean trusted,
+            @Value("${spot.auth.gateway.secret:}") String secret,
+            @Value("${spot.auth.gateway.max-age-seconds:60}") long maxAgeSeconds,
+            @Value("${spot.auth.service.enabled:false}") boolean serviceEnabled) {
+        if (trusted && secret.isBlank()) {
+            throw new IllegalStateException("spot.auth.gateway.trusted=true 이면 spot.auth.gateway.secret 이 필요합니다.");
+        }
+        if (serviceEnabled && secret.isBlank()) {
+            throw new IllegalStateException("spot.auth.service.enabled=true 이면 spot.auth.gateway.secret 이 필요합니다.");
+        }
+        this.trusted = trusted;
+        this.serviceEnabled = trusted || serviceEnabled;
+        this.key = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    // 신뢰 모드이고 게이트웨이 헤더가 붙어 있는 요청이거나, 서비스 자격 증명이 켜져 있고 그 헤더가 붙은 요청인지
+    public boolean supports(HttpServletRequest request) {
+        return trusted && request.getHeader(HEADER_USER_ID) != null
+                || serviceEnabled && request.getHeader(HEADER_SERVICE) != null;
+    }
+
+    /**
+     * @throws IllegalArgumentException 서명 불일치, 발급 시각 초과, 형식 오류
+     */
+    public GatewayIdentity verify(HttpServletRequest request) {
+        String service = request.getHeader(HEADER_SERVICE);
+        if (service != null) {
+            return verifyService(request, service);
+        }
+
+        String userId = request.getHeader(HEADER_USER_ID);
+        String role = request.getHeader(HEADER_USER_ROLE);
+        String issuedAt = request.getHeader(HEADER_ISSUED_AT);
+        String signature = request.getHeader(HEADER_SIGNATURE);
+        if (userId == null || role == null || issuedAt == null || signature == null) {
+            throw new IllegalArgumentException("게이트웨이 인증 헤더가 누락되었습니다.");
+        }
+
+        byte[] expected = sign(payload(userId, role, issuedAt, request.getMethod(), request.getRequestURI()));
+        byte[] actual = Base64.getUrlDecoder().decode(signature);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("게이트웨이 인증 헤더 서명이 올바르지 않습니다.");
+        }
+
+        // 서버 간 시계 차이를 감안해 미래 시각도 같은 폭까지만 허용한다
+        long age = Instant.now().getEpochSecond() - Long.parseLong(issuedAt);
+        if (Math.abs(age) > maxAgeSeconds) {
+            throw new IllegalArgumentException("게이트웨이 인증 헤더가 만료되었습니다.");
+        }
+
+        return new GatewayIdentity(Integer.valueOf(userId), Role.valueOf(role), null);
+    }
+
+    private GatewayIdentity verifyService(HttpServletRequest request, String service) {
+        if (!serviceEnabled) {
+            throw new IllegalArgumentException("서비스 자격 증명이 꺼져 있습니다.");
+        }
+        String issuedAt = request.getHeader(HEADER_ISSUED_AT);
+        String signature = request.getHeader(HEADER_SIGNATURE);
+        if (service.isBlank() || issuedAt == null || signature == null) {
+            throw new IllegalArgumentException("서비스 인증 헤더가 누락되었습니다.");
+        }
+
+        byte[] expected = sign(servicePayload(service, issuedAt, request.getMethod(), request.getRequestURI()));
+        if (!MessageDigest.isEqual(expected, Base64.getUrlDecoder().decode(signature))) {
+            throw new IllegalArgumentException("서비스 인증 헤더 서명이 올바르지 않습니다.");
+        }
+        if (Math.abs(Instant.now().getEpochSecond() - Long.parseLong(issuedAt)) > maxAgeSeconds) {
+            throw new IllegalArgumentException("서비스 인증 헤더가 만료되었습니다.");
+        }
+
+        return new GatewayIdentity(null, null, service);
+    }
+
+    /**
+     * 내부 호출용으로 method / path 에 묶인 사용자 헤더를 만든다. 키가 없으면 빈 맵.
+     */
+    public Map<String, String> issue(Integer userId, Role role, String method, String path) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (key == null) {
+            return headers;
+        }
+        String issuedAt = String.valueOf(Instant.now().getEpochSecond());
+        String signature = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sign(payload(String.valueOf(userId), role.name(), issuedAt, method, path)));
+        headers.put(HEADER_USER_ID, String.valueOf(userId));
+        headers.put(HEADER_USER_ROLE, role.name());
+        headers.put(HEADER_ISSUED_AT, issuedAt);
+        headers.put(HEADER_SIGNATURE, signature);
+        return headers;
+    }
+
+    /**
+     * 요청 밖(백그라운드 작업)에서 나가는 내부 호출용 서비스 자격 증명. 서비스 자격 증명이 꺼져 있으면 빈 맵.
+     */
+    public Map<String, String> issueService(String service, String method, String path) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (!serviceEnabled) {
+            return headers;
+        }
+        String issuedAt = String.valueOf(Instant.now().getEpochSecond());
+        headers.put(HEADER_SERVICE, service);
+        headers.put(HEADER_ISSUED_AT, issuedAt);
+        headers.put(HEADER_SIGNATURE, Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sign(servicePayload(service, issuedAt, method, path))));
+        return headers;
+    }
+
+    // 사용자 서명(userId 는 숫자)과 섞이지 않도록 앞에 service: 를 붙인다
+    private static String servicePayload(String service, String issuedAt, String method, String path) {
+        return "service:" + service + ":" + issuedAt + ":" + method + ":" + path;
+    }
+
+    private static String payload(String userId, String role, String issuedAt, String method, String path) {
+        return userId + ":" + role + ":" + issuedAt + ":" + method + ":" + path;
+    }
+
+    private byte[] sign(String payload) {
+        if (key == null) {
+            throw new IllegalArgumentException("spot.auth.gateway.secret 이 설정되지 않았습니다.");
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("게이트웨이 인증 헤더 검증에 실패했습니다.", e);
+        }
+    }
+
+    // 서비스 자격 증명이면 userId / role 없이 service 만 있다
+    public record GatewayIdentity(Integer userId, Role role, String service) {
+
+        public boolean isService() {
+            return service != null;
+        }
+    }
+}
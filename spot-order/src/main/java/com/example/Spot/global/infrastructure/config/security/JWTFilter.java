@@ -15,6 +15,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.Spot.global.common.Role;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,9 +28,11 @@ public class JWTFilter extends OncePerRequestFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(JWTFilter.class);
 
     private final JWTUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
-    public JWTFilter(JWTUtil jwtUtil) {
+    public JWTFilter(JWTUtil jwtUtil, GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.jwtUtil = jwtUtil;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
 
@@ -43,53 +47,80 @@ public class JWTFilter extends OncePerRequestFilter {
         final String uri = request.getRequestURI();
         final String authorization = request.getHeader("Authorization");
 
-        // 1) 필터 타는지 무조건 보이게
-        LOGGER.info("[JWTFilter] hit {} {} hasAuthHeader={}", method, uri, authorization != null);
+        // 게이트웨이 신뢰 모드: 게이트웨이가 서명한 사용자 헤더로 인증 (JWT 재검증 생략), 또는 서비스 자격 증명
+        if (gatewayIdentityVerifier.supports(request)) {
+            try {
+                GatewayIdentityVerifier.GatewayIdentity identity = gatewayIdentityVerifier.verify(request);
+                if (identity.isService()) {
+                    authenticateService(identity.service());
+                } else {
+                    authenticate(identity.userId(), identity.role());
+                }
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("[JWTFilter] invalid gateway identity {} {}: {}", method, uri, e.getMessage());
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        // 2) Bearer 없으면 통과 (permitAll이면 컨트롤러 principal=null 정상)
+        // Bearer 없으면 통과 (permitAll이면 컨트롤러 principal=null 정상)
         if (authorization == null || !authorization.startsWith("Bearer ")) {
-            LOGGER.info("[JWTFilter] no bearer -> pass through {} {}", method, uri);
+            LOGGER.debug("[JWTFilter] no bearer -> pass through {} {}", method, uri);
             filterChain.doFilter(request, response);
             return;
         }
 
         String token = authorization.substring(7).trim();
-        LOGGER.info("[JWTFilter] bearer token length={} {} {}", token.length(), method, uri);
 
         try {
-            if (jwtUtil.isExpired(token)) {
+            // 서명 검증 + 파싱은 한 번만 (검증된 토큰은 만료 전까지 캐시)
+            JWTUtil.VerifiedToken verified = jwtUtil.verify(token);
+            if (verified.isExpired() || !verified.isAccessToken()) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            String type = jwtUtil.getTokenType(token);
-            if (type == null || !"access".equals(type)) {
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                return;
-            }
-
-            Integer userId = jwtUtil.getUserId(token);
-            Role role = jwtUtil.getRole(token);
-            LOGGER.info("[JWT] role={}", role);
+            Integer userId = verified.userId();
+            Role role = verified.role();
 
             if (userId == null || role == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            CustomUserDetails principal = new CustomUserDetails(userId, role);
+            authenticate(userId, role);
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        } catch (ExpiredJwtException e) {
+            LOGGER.debug("[JWTFilter] expired token {} {}", method, uri);
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 위조 / 파싱 실패 / 알 수 없는 role
+            LOGGER.warn("[JWTFilter] invalid token {} {}: {}", method, uri, e.getMessage());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        filterChain.doFilter(request, response);
+    }
 
-            filterChain.doFilter(request, response);
+    // 내부 서비스 계정: 사용자 principal 없이 ROLE_SERVICE 권한만 가진다
+    private void authenticateService(String service) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                service, null, List.of(new SimpleGrantedAuthority("ROLE_SERVICE")));
 
-        } catch (Exception e) {
-            LOGGER.error("[JWTFilter] exception while validating token {} {}", method, uri, e);
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private void authenticate(Integer userId, Role role) {
+        CustomUserDetails principal = new CustomUserDetails(userId, role);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     private Collection<GrantedAuthority> toAuthorities(List<String> roles) {
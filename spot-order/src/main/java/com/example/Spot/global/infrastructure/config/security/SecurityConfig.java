@@ -18,9 +18,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JWTUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
-    public SecurityConfig(JWTUtil jwtUtil) {
+    public SecurityConfig(JWTUtil jwtUtil, GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.jwtUtil = jwtUtil;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
     @Bean
@@ -64,7 +66,7 @@ public class SecurityConfig {
                 })
         );
 
-        http.addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JWTFilter(jwtUtil, gatewayIdentityVerifier), UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 }
@@ -0,0 +1,26 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 그룹 없이 파티션을 직접 할당하는 리스너용 (@TopicPartition 의 partitions SpEL 에서 사용).
+ * 기동 시점의 파티션만 할당하므로 파티션을 늘리면 재기동해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaPartitionFinder {
+
+    private final ConsumerFactory<?, ?> consumerFactory;
+
+    public String[] partitions(String topic) {
+        try (Consumer<?, ?> consumer = consumerFactory.createConsumer()) {
+            return consumer.partitionsFor(topic).stream()
+                    .map(info -> String.valueOf(info.partition()))
+                    .toArray(String[]::new);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폴링된 배치를 레코드 키(aggregateId = orderId) 단위로 묶어 병렬 처리한다.
+ * 같은 키의 레코드는 오프셋 순서대로 한 스레드에서 처리된다.
+ * 처리에 실패한 레코드는 재시도 토픽으로 넘기고({@link RetryTopicRouter}) 다음 레코드를 계속 처리한다.
+ * 재시도 토픽 발행마저 실패하면 그 키의 뒤따르는 레코드는 처리하지 않고, 배치에서 처음 실패한 위치
+ * 이전까지만 커밋한 뒤(연속으로 성공한 최대 오프셋) 나머지를 재전달받는다.
+ * 재전달되는 레코드 중 이미 성공한 것은 기억해 두었다가 건너뛴다.
+ */
+@Slf4j
+@Component
+public class KeyedBatchProcessor {
+
+    private final MeterRegistry meterRegistry;
+    private final RetryTopicRouter retryTopicRouter;
+    private final Semaphore permits;
+    private final Duration failureBackoff;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 앞선 오프셋의 실패로 재전달될 레코드 중 이미 처리가 끝난 오프셋
+    private final Map<TopicPartition, NavigableSet<Long>> completedAhead = new ConcurrentHashMap<>();
+
+    public KeyedBatchProcessor(
+            MeterRegistry meterRegistry,
+            RetryTopicRouter retryTopicRouter,
+            @Value("${spot.kafka.batch.parallelism:2}") int parallelism,
+            @Value("${spot.kafka.batch.failure-backoff-ms:1000}") long failureBackoffMs,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.meterRegistry = meterRegistry;
+        this.retryTopicRouter = retryTopicRouter;
+
+        // 키 그룹마다 DB 커넥션을 하나씩 쓰므로 요청 처리용으로 하나는 남기고 풀 크기보다 작게 돌린다
+        int maxParallelism = Math.max(1, connectionPoolSize - 1);
+        if (parallelism > maxParallelism) {
+            log.warn("spot.kafka.batch.parallelism({})가 커넥션 풀({})보다 커서 {}(으)로 줄입니다.",
+                    parallelism, connectionPoolSize, maxParallelism);
+        }
+        this.permits = new Semaphore(Math.min(parallelism, maxParallelism));
+        this.failureBackoff = Duration.ofMillis(failureBackoffMs);
+    }
+
+    @FunctionalInterface
+    public interface RecordHandler {
+        void handle(String message) throws Exception;
+    }
+
+    public void process(String listener, List<ConsumerRecord<String, String>> records,
+                        Acknowledgment ack, RecordHandler handler) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String group = KafkaUtils.getConsumerGroupId();
+        pruneCompleted(records);
+
+        boolean[] succeeded = new boolean[records.size()];
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<Integer> indexes : groupByKey(records).values()) {
+            futures.add(executor.submit(() -> runGroup(listener, group, records, indexes, succeeded, handler)));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            ack.nack(0, failureBackoff);
+            sample.stop(batchTimer(listener, "interrupted"));
+            return;
+        } catch (ExecutionException e) {
+            // runGroup 내부에서 예외를 모두 처리하므로 도달하지 않는다
+            log.error("[KAFKA-BATCH] {} 그룹 처리 중 예기치 못한 오류", listener, e.getCause());
+        }
+
+        int firstFailed = firstFailedIndex(succeeded);
+        if (firstFailed < 0) {
+            ack.acknowledge();
+        } else {
+            rememberCompletedAhead(records, succeeded, firstFailed);
+            ack.nack(firstFailed, failureBackoff);
+            log.warn("[KAFKA-BATCH] {} 배치 부분 커밋: size={}, 재전달 시작 offset={}-{}@{}",
+                    listener, records.size(), records.get(firstFailed).topic(),
+                    records.get(firstFailed).partition(), records.get(firstFailed).offset());
+        }
+
+        sample.stop(batchTimer(listener, firstFailed < 0 ? "success" : "partial"));
+        meterRegistry.summary("kafka.batch.size", "listener", listener).record(records.size());
+    }
+
+    private void runGroup(String listener, String group, List<ConsumerRecord<String, String>> records,
+                          List<Integer> indexes, boolean[] succeeded, RecordHandler handler) {
+        permits.acquireUninterruptibly();
+        try {
+            for (int index : indexes) {
+                ConsumerRecord<String, String> record = records.get(index);
+
+                if (isCompletedAhead(record)) {
+                    succeeded[index] = true;
+                    countRecord(listener, "skipped");
+                    continue;
+                }
+
+                try {
+                    handler.handle(record.value());
+                    succeeded[index] = true;
+                    countRecord(listener, "success");
+                } catch (Exception e) {
+                    log.error("[KAFKA-BATCH] {} 레코드 처리 실패: {}-{}@{}, key={}",
+                            listener, record.topic(), record.partition(), record.offset(), record.key(), e);
+                    try {
+                        retryTopicRouter.route(group, record, e);
+                        succeeded[index] = true;
+                        countRecord(listener, "retried");
+                    } catch (RuntimeException routeFailure) {
+                        log.error("[KAFKA-BATCH] {} 재시도 토픽 발행 실패, 재전달 대기: {}-{}@{}",
+                                listener, record.topic(), record.partition(), record.offset(), routeFailure);
+                        countRecord(listener, "failed");
+                        // 같은 키의 이후 레코드는 순서 보장을 위해 재전달 후 처리한다
+                        return;
+                    }
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Map<String, List<Integer>> groupByKey(List<ConsumerRecord<String, String>> records) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            String key = record.key() != null
+                    ? record.key()
+                    : record.topic() + "-" + record.partition() + "@" + record.offset();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    private int firstFailedIndex(boolean[] succeeded) {
+        for (int i = 0; i < succeeded.length; i++) {
+            if (!succeeded[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void rememberCompletedAhead(List<ConsumerRecord<String, String>> records,
+                                        boolean[] succeeded, int firstFailed) {
+        for (int i = firstFailed + 1; i < records.size(); i++) {
+            if (succeeded[i]) {
+                ConsumerRecord<String, String> record = records.get(i);
+                completedAhead
+                        .computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                                tp -> new ConcurrentSkipListSet<>())
+                        .add(record.offset());
+            }
+        }
+    }
+
+    private boolean isCompletedAhead(ConsumerRecord<String, String> record) {
+        NavigableSet<Long> offsets = completedAhead.get(new TopicPartition(record.topic(), record.partition()));
+        return offsets != null && offsets.contains(record.offset());
+    }
+
+    // 배치의 시작 오프셋보다 앞선 기록은 이미 커밋된 것이므로 정리한다
+    private void pruneCompleted(List<ConsumerRecord<String, String>> records) {
+        Map<TopicPartition, Long> startOffsets = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            startOffsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::min);
+        }
+        startOffsets.forEach((tp, start) -> {
+            NavigableSet<Long> offsets = completedAhead.get(tp);
+            if (offsets != null) {
+                offsets.headSet(start, false).clear();
+                if (offsets.isEmpty()) {
+                    completedAhead.remove(tp, offsets);
+                }
+            }
+        });
+    }
+
+    private Timer batchTimer(String listener, String outcome) {
+        return Timer.builder("kafka.batch.duration")
+                .tag("listener", listener)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void countRecord(String listener, String result) {
+        meterRegistry.counter("kafka.batch.records", "listener", listener, "result", result).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
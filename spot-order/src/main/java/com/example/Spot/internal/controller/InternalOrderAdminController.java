@@ -24,7 +24,8 @@ import lombok.RequiredArgsConstructor;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/internal/admin/orders")
-@PreAuthorize("hasAnyRole('MASTER', 'MANAGER')")
+// 조회 전용이라 관리자 대시보드의 백그라운드 갱신(서비스 자격 증명, ROLE_SERVICE)도 허용한다
+@PreAuthorize("hasAnyRole('MASTER', 'MANAGER', 'SERVICE')")
 public class InternalOrderAdminController {
 
     private final InternalOrderAdminService adminOrderInternalService;
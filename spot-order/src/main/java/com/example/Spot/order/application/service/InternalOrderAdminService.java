@@ -18,8 +18,8 @@ import org.springframework.stereotype.Service;
 import com.example.Spot.global.feign.dto.OrderResponse;
 import com.example.Spot.global.feign.dto.OrderStatsResponse;
 import com.example.Spot.order.domain.enums.OrderStatus;
-import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
 import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.presentation.dto.response.OrderStatsResponseDto;
 
 
 import lombok.RequiredArgsConstructor;
@@ -38,7 +38,7 @@ public class InternalOrderAdminService {
             OrderStatus.COOKING,
             OrderStatus.READY
     );
-    private final OrderItemOptionRepository orderItemOptionRepository;
+    private final OrderStatsService orderStatsService;
 
 
     public Page<OrderResponse> getAllOrders(Pageable pageable, String sortBy, String direction) {
@@ -78,27 +78,21 @@ public class InternalOrderAdminService {
 
 
 
+    // 사전 집계된 p_order_stats 기반 (주문 수와 무관하게 상태 개수만큼의 행만 읽음)
     public OrderStatsResponse getOrderStats() {
-        long totalOrders = orderRepository.count();
-
-        BigDecimal totalRevenueDecimal = orderItemOptionRepository.sumTotalRevenue();
-        Long totalRevenue = totalRevenueDecimal != null
-                ? totalRevenueDecimal.longValue()
-                : 0L;
-
-        List<Object[]> statusResults = orderRepository.countGroupByStatus();
+        OrderStatsResponseDto stats = orderStatsService.getStats();
 
         List<OrderStatsResponse.OrderStatusStat> orderStatusStats =
-                statusResults.stream()
-                        .map(r -> OrderStatsResponse.OrderStatusStat.builder()
-                                .status(((OrderStatus) r[0]).name())
-                                .count((Long) r[1])
+                stats.getOrderStatusStats().stream()
+                        .map(stat -> OrderStatsResponse.OrderStatusStat.builder()
+                                .status(stat.getStatus())
+                                .count(stat.getCount())
                                 .build())
                         .toList();
 
         return OrderStatsResponse.builder()
-                .totalOrders(totalOrders)
-                .totalRevenue(totalRevenue)
+                .totalOrders(stats.getTotalOrders())
+                .totalRevenue(stats.getTotalRevenue().longValue())
                 .orderStatusStats(orderStatusStats)
                 .build();
     }
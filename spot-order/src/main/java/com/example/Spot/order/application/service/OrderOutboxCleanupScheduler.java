@@ -1,5 +1,7 @@
 package com.example.Spot.order.application.service;
 
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +15,12 @@ public class OrderOutboxCleanupScheduler {
 
     private final OrderOutboxCleanupService cleanupService;
 
+    // 기동 시 파티션 변환/선생성을 먼저 해 두어 첫 INSERT 가 들어갈 파티션을 보장한다
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStartup() {
+        run();
+    }
+
     @Scheduled(cron = "0 0 3 * * *")
     public void run() {
         try {
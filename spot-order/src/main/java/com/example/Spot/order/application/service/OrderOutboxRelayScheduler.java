@@ -0,0 +1,33 @@
+package com.example.Spot.order.application.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spot.outbox.publisher", havingValue = "polling")
+public class OrderOutboxRelayScheduler {
+
+    // 밀린 행이 많을 때 한 주기에서 연속으로 처리할 최대 배치 수
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final OrderOutboxRelayService relayService;
+
+    @Scheduled(fixedDelayString = "${spot.outbox.relay.poll-interval-ms:200}")
+    public void run() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (relayService.relayBatch() < relayService.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[ORDER_OUTBOX-RELAY] scheduler failed", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.Spot.order.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.order.domain.entity.OrderOutboxEntity;
+import com.example.Spot.order.domain.repository.OrderOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Debezium 없이 outbox 를 직접 폴링하여 Kafka 로 발행한다. (spot.outbox.publisher=polling)
+ * EventRouter 와 같은 규칙으로 보낸다: topic = event_type, key = aggregate_id, value = payload, header id = outbox id.
+ * 키는 커넥터(JsonConverter, schemas.enable=false)와 같은 JSON 문자열이라 발행 방식을 바꿔도 같은 파티션으로 간다.
+ * 한 배치에는 aggregate 별로 가장 앞선 행만 담기므로 같은 aggregate 의 이벤트는 저장 순서대로 발행된다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spot.outbox.publisher", havingValue = "polling")
+public class OrderOutboxRelayService {
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final Timer relayLag;
+    private final int batchSize;
+
+    public OrderOutboxRelayService(
+            OrderOutboxRepository orderOutboxRepository,
+            KafkaTemplate<String, String> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spot.outbox.relay.batch-size:100}") int batchSize) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.relayLag = Timer.builder("outbox.relay.lag")
+                .tag("outbox", "order")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // 잠근 행을 모두 전송하고 확인받은 뒤 sent_at 을 기록한다. 전송이 실패하면 롤백되어 다음 폴링에서 다시 보낸다
+    @Transactional
+    public int relayBatch() {
+        List<OrderOutboxEntity> batch = orderOutboxRepository.findUnsentForUpdate(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // linger/batch 설정으로 묶여 나가도록 모두 보낸 뒤 한 번에 기다린다
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        for (OrderOutboxEntity outbox : batch) {
+            ProducerRecord<String, String> record = new ProducerRecord<>(
+                    outbox.getEventType(), eventKey(outbox.getAggregateId()), outbox.getPayload());
+            record.headers().add("id", outbox.getId().toString().getBytes(StandardCharsets.UTF_8));
+            futures.add(kafkaTemplate.send(record));
+        }
+        awaitAll(futures);
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        List<UUID> ids = batch.stream().map(OrderOutboxEntity::getId).toList();
+        orderOutboxRepository.markSent(ids, sentAt);
+
+        batch.forEach(outbox -> relayLag.record(Duration.between(outbox.getCreatedAt(), sentAt)));
+        log.debug("[ORDER_OUTBOX-RELAY] published {} rows", batch.size());
+        return batch.size();
+    }
+
+    // EventRouter 가 JsonConverter 로 직렬화한 키와 같은 바이트 ("uuid")
+    static String eventKey(UUID aggregateId) {
+        return "\"" + aggregateId + "\"";
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("outbox 발행 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("outbox 발행 실패", e);
+        }
+    }
+}
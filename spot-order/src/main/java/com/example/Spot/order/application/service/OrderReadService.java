@@ -0,0 +1,76 @@
+package com.example.Spot.order.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
+import com.example.Spot.order.domain.repository.OrderItemRepository;
+import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.domain.repository.projection.OrderItemOptionView;
+import com.example.Spot.order.domain.repository.projection.OrderItemView;
+import com.example.Spot.order.domain.repository.projection.OrderView;
+import com.example.Spot.order.presentation.dto.response.OrderItemOptionResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderItemResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 조회 응답(OrderResponseDto) 조립 전용 서비스.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 주문 / 아이템 / 옵션을 각각 projection 으로 한 번씩 조회해
+ * 메모리에서 묶는다. 주문 건수나 아이템/옵션 개수와 관계없이 항상 쿼리 3번으로 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderReadService {
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderItemOptionRepository orderItemOptionRepository;
+
+    public OrderResponseDto getOrder(UUID orderId) {
+        List<OrderResponseDto> orders = getOrders(List.of(orderId));
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 주문입니다.");
+        }
+        return orders.get(0);
+    }
+
+    // 전달받은 id 순서를 그대로 유지한다 (존재하지 않는 id 는 제외)
+    public List<OrderResponseDto> getOrders(List<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, OrderView> orders = orderRepository.findViewsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderView::id, Function.identity()));
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<OrderItemOptionResponseDto>> optionsByItemId =
+                orderItemOptionRepository.findViewsByOrderIdIn(orderIds).stream()
+                        .collect(Collectors.groupingBy(OrderItemOptionView::orderItemId,
+                                Collectors.mapping(OrderItemOptionResponseDto::from, Collectors.toList())));
+
+        Map<UUID, List<OrderItemResponseDto>> itemsByOrderId =
+                orderItemRepository.findViewsByOrderIdIn(orderIds).stream()
+                        .collect(Collectors.groupingBy(OrderItemView::orderId,
+                                Collectors.mapping(item -> OrderItemResponseDto.of(item,
+                                        optionsByItemId.getOrDefault(item.id(), List.of())), Collectors.toList())));
+
+        return orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(order -> OrderResponseDto.of(order, itemsByOrderId.getOrDefault(order.id(), List.of())))
+                .collect(Collectors.toList());
+    }
+}
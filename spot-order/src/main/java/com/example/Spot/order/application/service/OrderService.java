@@ -4,8 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
@@ -27,28 +26,34 @@ public interface OrderService {
     // Owner 전용
     List<OrderResponseDto> getMyStoreActiveOrders(Integer userId);
 
-    // 고객 주문 조회
-    Page<OrderResponseDto> getUserOrders(
+    // 고객 주문 조회 - (createdAt, id) 커서 기반, 최신순
+    Slice<OrderResponseDto> getUserOrders(
             Integer userId,
             UUID storeId,
             LocalDateTime date,
             OrderStatus status,
-            Pageable pageable);
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            int size);
 
     // 점주 매장 주문 조회
-    Page<OrderResponseDto> getMyStoreOrders(
+    Slice<OrderResponseDto> getMyStoreOrders(
             Integer userId,
             Integer customerId,
             LocalDateTime date,
             OrderStatus status,
-            Pageable pageable);
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            int size);
 
     // 관리자 전체 주문 조회
-    Page<OrderResponseDto> getAllOrders(
+    Slice<OrderResponseDto> getAllOrders(
             UUID storeId,
             LocalDateTime date,
             OrderStatus status,
-            Pageable pageable);
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            int size);
 
     // 주문 상태 변경 (Owner/Chef)
     OrderResponseDto acceptOrder(UUID orderId, Integer estimatedTime);
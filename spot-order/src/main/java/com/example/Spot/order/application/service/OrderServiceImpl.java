@@ -2,16 +2,14 @@ package com.example.Spot.order.application.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +26,13 @@ import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
 import com.example.Spot.order.domain.enums.CancelledBy;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.domain.exception.DuplicateOrderException;
-import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
 import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.domain.repository.OrderSearchCondition;
 import com.example.Spot.order.infrastructure.aop.OrderStatusChange;
 import com.example.Spot.order.infrastructure.aop.OrderValidationContext;
 import com.example.Spot.order.infrastructure.aop.StoreOwnershipRequired;
 import com.example.Spot.order.infrastructure.aop.ValidateStoreAndMenu;
+import com.example.Spot.order.infrastructure.generator.OrderNumberGenerator;
 import com.example.Spot.order.infrastructure.producer.OrderEventProducer;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
@@ -53,43 +52,29 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
-    private final OrderItemOptionRepository orderItemOptionRepository;
+    private final OrderReadService orderReadService;
     private final PaymentClient paymentClient;
     private final StoreClient storeClient;
     private final OrderEventProducer orderEventProducer;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderStatsService orderStatsService;
 
     // ******* //
     // 주문 조회 //
     // ******* //
     @Override
     public OrderResponseDto getOrderById(UUID orderId) {
-
-        OrderEntity order = orderRepository.findByIdWithOrderItems(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
-
-        List<UUID> orderItemIds = order.getOrderItems().stream()
-                .map(OrderItemEntity::getId)
-                .toList();
-
-        List<OrderItemOptionEntity> options = List.of();
-        if (!orderItemIds.isEmpty()) {
-            options = orderItemOptionRepository.findByOrderItemIdIn(orderItemIds);
-        }
-
-        if (!order.getOrderItems().isEmpty() && !options.isEmpty()) {
-            System.out.println("Order의 아이템 주소: " + System.identityHashCode(order.getOrderItems().get(0)));
-            System.out.println("옵션이 참조하는 아이템 주소: " + System.identityHashCode(options.get(0).getOrderItem()));
-        }
-
-        return OrderResponseDto.from(order);
+        return orderReadService.getOrder(orderId);
     }
 
     @Override
     public OrderResponseDto getOrderByOrderNumber(String orderNumber) {
-        OrderEntity order = orderRepository.findByOrderNumber(orderNumber)
+        UUID orderId = orderRepository.findIdByOrderNumber(orderNumber)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
-        return OrderResponseDto.from(order);
+        return orderReadService.getOrder(orderId);
     }
 
     @Override
@@ -119,87 +104,107 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    public Page<OrderResponseDto> getUserOrders(
+    public Slice<OrderResponseDto> getUserOrders(
             Integer userId,
             UUID storeId,
             LocalDateTime date,
             OrderStatus status,
-            Pageable pageable) {
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            int size) {
 
+        int pageSize = pageSize(size);
         LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        Page<OrderEntity> orderPage = orderRepository.findUserOrdersWithFilters(
-                userId,
-                storeId,
-                status,
-                range[0],
-                range[1],
-                pageable);
-
-        fetchOrderItemOptions(orderPage.getContent());
-        return orderPage.map(OrderResponseDto::from);
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .userId(userId)
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .build();
+
+        List<UUID> orderIds = orderRepository.findOrderIds(condition, pageSize + 1);
+
+        return toSlice(orderIds, pageSize);
     }
 
     @Override
     @StoreOwnershipRequired
-    public Page<OrderResponseDto> getMyStoreOrders(
+    public Slice<OrderResponseDto> getMyStoreOrders(
             Integer userId,
             Integer customerId,
             LocalDateTime date,
             OrderStatus status,
-            Pageable pageable) {
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            int size) {
 
+        int pageSize = pageSize(size);
         UUID storeId = OrderValidationContext.getCurrentStoreId();
         LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        Page<OrderEntity> orderPage = orderRepository.findStoreOrdersWithFilters(
-                storeId,
-                customerId,
-                status,
-                range[0],
-                range[1],
-                pageable);
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .userId(customerId)
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .build();
+
+        List<UUID> orderIds = orderRepository.findOrderIds(condition, pageSize + 1);
 
-        fetchOrderItemOptions(orderPage.getContent());
-        return orderPage.map(OrderResponseDto::from);
+        return toSlice(orderIds, pageSize);
     }
 
     @Override
-    public Page<OrderResponseDto> getAllOrders(
+    public Slice<OrderResponseDto> getAllOrders(
             UUID storeId,
             LocalDateTime date,
             OrderStatus status,
-            Pageable pageable) {
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            int size) {
 
+        int pageSize = pageSize(size);
         LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        Page<OrderEntity> orderPage = orderRepository.findAllOrdersWithFilters(
-                storeId,
-                status,
-                range[0],
-                range[1],
-                pageable);
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .build();
+
+        List<UUID> orderIds = orderRepository.findOrderIds(condition, pageSize + 1);
 
-        fetchOrderItemOptions(orderPage.getContent());
-        return orderPage.map(OrderResponseDto::from);
+        return toSlice(orderIds, pageSize);
     }
 
-    private void fetchOrderItemOptions(List<OrderEntity> orders) {
-        List<UUID> orderItemIds = orders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .map(OrderItemEntity::getId)
-                .toList();
+    // 다음 페이지 존재 여부를 알기 위해 pageSize + 1 개의 id 를 조회한다
+    private Slice<OrderResponseDto> toSlice(List<UUID> orderIds, int pageSize) {
+        boolean hasNext = orderIds.size() > pageSize;
+        List<UUID> pageIds = hasNext ? orderIds.subList(0, pageSize) : orderIds;
+        return new SliceImpl<>(orderReadService.getOrders(pageIds), PageRequest.of(0, pageSize), hasNext);
+    }
 
-        if (!orderItemIds.isEmpty()) {
-            orderItemOptionRepository.findByOrderItemIdIn(orderItemIds);
-        }
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 
 
     // ******* //
     // 주문 생성 //
     // ******* //
+    // 주문번호 유니크 충돌 시 트랜잭션째 다시 시도 (retry 어드바이스가 트랜잭션 바깥에서 감싼다)
     @Override
+    @Retry(name = "order_number_conflict")
     @Transactional
     @ValidateStoreAndMenu
     public OrderResponseDto createOrder(OrderCreateRequestDto requestDto, Integer userId) {
@@ -208,7 +213,7 @@ public class OrderServiceImpl implements OrderService {
 
         checkDuplicateOrder(userId, store.getId(), requestDto);
 
-        String orderNumber = generateOrderNumber();
+        String orderNumber = orderNumberGenerator.next();
         OrderEntity order = OrderEntity.builder()
                 .storeId(store.getId())
                 .userId(userId)
@@ -245,6 +250,7 @@ public class OrderServiceImpl implements OrderService {
         }
 
         OrderEntity savedOrder = orderRepository.save(order);
+        orderStatsService.recordCreated(savedOrder);
         OrderResponseDto responseDto = OrderResponseDto.from(savedOrder);
 
         orderEventProducer.reserveOrderCreated(
@@ -266,7 +272,9 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto acceptOrder(UUID orderId, Integer estimatedTime) {
         OrderEntity order = OrderValidationContext.getCurrentOrder();
         
+        OrderStatus previousStatus = order.getOrderStatus();
         order.acceptOrder(estimatedTime);
+        orderStatsService.recordTransition(order, previousStatus);
         
         // 주문 수락 이벤트 발행
         orderEventProducer.reserveOrderAccepted(order.getUserId(), order.getId(), estimatedTime);
@@ -281,7 +289,9 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto rejectOrder(UUID orderId, String reason) {
         OrderEntity order = OrderValidationContext.getCurrentOrder();
         
+        OrderStatus previousStatus = order.getOrderStatus();
         order.initiateCancel(reason, null);
+        orderStatsService.recordTransition(order, previousStatus);
         // 주문 취소(거절) 이벤트 발행
         orderEventProducer.reserveOrderCancelled(order.getId(), reason);
         log.info("주문 거절 처리 시작 (환불 대기): orderId={}, reason={}", orderId, reason);
@@ -295,7 +305,9 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto startCooking(UUID orderId) {
         OrderEntity order = OrderValidationContext.getCurrentOrder();
 
+        OrderStatus previousStatus = order.getOrderStatus();
         order.startCooking();
+        orderStatsService.recordTransition(order, previousStatus);
         return OrderResponseDto.from(order);
     }
 
@@ -305,7 +317,9 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto readyForPickup(UUID orderId) {
         OrderEntity order = OrderValidationContext.getCurrentOrder();
 
+        OrderStatus previousStatus = order.getOrderStatus();
         order.readyForPickup();
+        orderStatsService.recordTransition(order, previousStatus);
         return OrderResponseDto.from(order);
     }
 
@@ -315,7 +329,9 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponseDto completeOrder(UUID orderId) {
         OrderEntity order = OrderValidationContext.getCurrentOrder();
 
+        OrderStatus previousStatus = order.getOrderStatus();
         order.completeOrder();
+        orderStatsService.recordTransition(order, previousStatus);
         return OrderResponseDto.from(order);
     }
     
@@ -329,7 +345,9 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
         
         if (order.getOrderStatus() == OrderStatus.CANCEL_PENDING) {
+            OrderStatus previousStatus = order.getOrderStatus();
             order.finalizeCancel();
+            orderStatsService.recordTransition(order, previousStatus);
             log.info("[보상 트랜잭션 완료] 주문 ID {} 가 최종 확정되었습니다.", orderId);
         } else {
             log.warn("[무시됨] 주문 ID {} 는 현재 취소 대기 상태가 아닙니다. (현재 상태: {})",
@@ -343,7 +361,9 @@ public class OrderServiceImpl implements OrderService {
         OrderEntity order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
 
+        OrderStatus previousStatus = order.getOrderStatus();
         order.initiateCancel(reason, CancelledBy.CUSTOMER);
+        orderStatsService.recordTransition(order, previousStatus);
         // 주문 취소(거절) 이벤트 발행
         orderEventProducer.reserveOrderCancelled(order.getId(), reason);
         log.info("고객에 의한 취소 처리 시작 (환불 대기): orderId={}, reason={}", orderId, reason);
@@ -360,7 +380,9 @@ public class OrderServiceImpl implements OrderService {
         OrderEntity order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
 
+        OrderStatus previousStatus = order.getOrderStatus();
         order.initiateCancel(reason, CancelledBy.STORE);
+        orderStatsService.recordTransition(order, previousStatus);
         // 주문 취소(거절) 이벤트 발행
         orderEventProducer.reserveOrderCancelled(order.getId(), reason);
         log.info("가게에 의한 취소 처리 시작 (환불 대기): orderId={}, reason={}", orderId, reason);
@@ -412,7 +434,9 @@ public class OrderServiceImpl implements OrderService {
         log.info("결제 성공 이벤트 수신 - 주문 확정 처리 시작: orderId={}", orderId);
         
         // 1. 상태 변경(PAYMENT_PENDING -> PENDING)
+        OrderStatus previousStatus = order.getOrderStatus();
         order.completePayment();
+        orderStatsService.recordTransition(order, previousStatus);
         // 2. 가게 사장에게 수락/거절의 이벤트 발행
         orderEventProducer.reserveOrderPending(order.getStoreId(), order.getId());
         log.info("결제 처리 및 사장님 알림 이벤트 발행 완료: orderId={}", orderId);
@@ -426,7 +450,9 @@ public class OrderServiceImpl implements OrderService {
         OrderEntity order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
 
+        OrderStatus previousStatus = order.getOrderStatus();
         order.failPayment();
+        orderStatsService.recordTransition(order, previousStatus);
         return OrderResponseDto.from(order);
     }
 
@@ -455,22 +481,6 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
-    private String generateOrderNumber() {
-        String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String datePattern = "ORDER-" + date + "-%";
-
-        Optional<String> lastOrderNumber = orderRepository.findTopOrderNumberByDatePattern(datePattern);
-
-        int sequence = 1;
-        if (lastOrderNumber.isPresent()) {
-            String lastNumber = lastOrderNumber.get();
-            String lastSeq = lastNumber.substring(lastNumber.lastIndexOf('-') + 1);
-            sequence = Integer.parseInt(lastSeq) + 1;
-        }
-
-        return String.format("ORDER-%s-%04d", date, sequence);
-    }
-
     private LocalDateTime[] getDateRange(LocalDateTime date) {
         LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = date.toLocalDate().atTime(23, 59, 59);
@@ -479,32 +489,6 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public OrderStatsResponseDto getOrderStats() {
-        List<OrderEntity> allOrders = orderRepository.findAll();
-
-        long totalOrders = allOrders.size();
-
-        BigDecimal totalRevenue = allOrders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .map(item -> item.getMenuPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Map<String, Long> statusCounts = allOrders.stream()
-                .collect(Collectors.groupingBy(
-                        order -> order.getOrderStatus().name(),
-                        Collectors.counting()
-                ));
-
-        List<OrderStatsResponseDto.OrderStatusStats> orderStatusStats = statusCounts.entrySet().stream()
-                .map(entry -> OrderStatsResponseDto.OrderStatusStats.builder()
-                        .status(entry.getKey())
-                        .count(entry.getValue())
-                        .build())
-                .collect(Collectors.toList());
-
-        return OrderStatsResponseDto.builder()
-                .totalOrders(totalOrders)
-                .totalRevenue(totalRevenue)
-                .orderStatusStats(orderStatusStats)
-                .build();
+        return orderStatsService.getStats();
     }
 }
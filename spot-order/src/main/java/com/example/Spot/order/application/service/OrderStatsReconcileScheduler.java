@@ -0,0 +1,39 @@
+package com.example.Spot.order.application.service;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatsReconcileScheduler {
+
+    private final OrderStatsService orderStatsService;
+
+    // p_order_stats 는 비어 있는 채로 배포되므로, 기동 시 통계가 p_order 와 어긋나 있으면 바로 재집계한다.
+    // 여러 인스턴스가 동시에 기동해도 재집계는 테이블 잠금으로 직렬화된다
+    @EventListener(ApplicationStartedEvent.class)
+    public void seedOnStartup() {
+        try {
+            if (orderStatsService.needsReconcile()) {
+                orderStatsService.reconcile();
+            }
+        } catch (Exception e) {
+            log.error("[ORDER_STATS-RECONCILE] startup seed failed", e);
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void run() {
+        try {
+            orderStatsService.reconcile();
+        } catch (Exception e) {
+            log.error("[ORDER_STATS-RECONCILE] scheduler failed", e);
+        }
+    }
+}
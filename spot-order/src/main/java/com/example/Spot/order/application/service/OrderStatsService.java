@@ -0,0 +1,101 @@
+package com.example.Spot.order.application.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.order.domain.entity.OrderEntity;
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.domain.repository.OrderStatsRepository;
+import com.example.Spot.order.presentation.dto.response.OrderStatsResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    private static final int SLOTS = 8;
+    private final OrderStatsRepository orderStatsRepository;
+
+    // 주문 생성/상태 변경과 같은 트랜잭션에서 반영되어야 하므로 호출자 트랜잭션 필수
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(OrderEntity order) {
+        applyDelta(order.getOrderStatus(), 1, totalAmount(order));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(OrderEntity order, OrderStatus from) {
+        OrderStatus to = order.getOrderStatus();
+        if (from == to) {
+            return;
+        }
+
+        BigDecimal amount = totalAmount(order);
+        applyDelta(from, -1, amount.negate());
+        applyDelta(to, 1, amount);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatsResponseDto getStats() {
+        List<Object[]> rows = orderStatsRepository.sumGroupByStatus();
+
+        long totalOrders = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+
+        List<OrderStatsResponseDto.OrderStatusStats> orderStatusStats = new ArrayList<>();
+        for (Object[] row : rows) {
+            long count = ((Number) row[1]).longValue();
+            BigDecimal revenue = (BigDecimal) row[2];
+
+            totalOrders += count;
+            totalRevenue = totalRevenue.add(revenue);
+
+            if (count > 0) {
+                orderStatusStats.add(OrderStatsResponseDto.OrderStatusStats.builder()
+                        .status(((OrderStatus) row[0]).name())
+                        .count(count)
+                        .build());
+            }
+        }
+
+        return OrderStatsResponseDto.builder()
+                .totalOrders(totalOrders)
+                .totalRevenue(totalRevenue)
+                .orderStatusStats(orderStatusStats)
+                .build();
+    }
+
+    // 통계 건수가 p_order 와 다르면 재집계가 필요 (첫 배포로 비어 있거나 증분 반영 이전 주문이 빠진 경우)
+    @Transactional(readOnly = true)
+    public boolean needsReconcile() {
+        return orderStatsRepository.sumOrderCount() != orderStatsRepository.countOrders();
+    }
+
+    // p_order 기준으로 통계를 다시 계산 (증분 반영 누락/중복 보정)
+    @Transactional
+    public void reconcile() {
+        orderStatsRepository.lockForReconcile();
+        orderStatsRepository.deleteAllStats();
+        int rows = orderStatsRepository.rebuildFromOrders();
+        log.info("[ORDER_STATS-RECONCILE] rebuilt {} status rows", rows);
+    }
+
+    private void applyDelta(OrderStatus status, long countDelta, BigDecimal revenueDelta) {
+        int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+        orderStatsRepository.applyDelta(status.name(), slot, countDelta, revenueDelta);
+    }
+
+    private BigDecimal totalAmount(OrderEntity order) {
+        return order.getOrderItems().stream()
+                .map(item -> item.getMenuPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -19,6 +19,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -29,7 +30,11 @@ import lombok.extern.slf4j.Slf4j;
 
 @Entity
 @Getter
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        @Index(name = "idx_order_user_id_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_order_store_id_status_created_at", columnList = "store_id, order_status, created_at"),
+        @Index(name = "idx_order_store_id_created_at", columnList = "store_id, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
 public class OrderEntity extends BaseEntity {
@@ -1,5 +1,6 @@
 package com.example.Spot.order.domain.entity;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.hibernate.annotations.UuidGenerator;
@@ -20,7 +21,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Table(name = "p_order_outbox", indexes = {
-        @Index(name = "idx_order_outbox_created_at", columnList = "created_at")
+        @Index(name = "idx_order_outbox_created_at", columnList = "created_at"),
+        @Index(name = "idx_order_outbox_sent_at_created_at", columnList = "sent_at, created_at"),
+        @Index(name = "idx_order_outbox_aggregate_sent_at", columnList = "aggregate_id, sent_at, created_at")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderOutboxEntity extends BaseEntity {
@@ -43,11 +46,18 @@ public class OrderOutboxEntity extends BaseEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String payload;
 
+    // 폴링 발행(spot.outbox.publisher=polling) 시 Kafka 전송이 확인된 시각.
+    // CDC 발행(debezium)에서는 커넥터가 INSERT 를 발행하므로 저장할 때 채워 두고, 나중에 polling 으로 바꿔도 다시 보내지 않는다
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
     @Builder
-    public OrderOutboxEntity(String aggregateType, UUID aggregateId, String eventType, String payload) {
+    public OrderOutboxEntity(String aggregateType, UUID aggregateId, String eventType, String payload,
+            LocalDateTime sentAt) {
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
         this.eventType = eventType;
         this.payload = payload;
+        this.sentAt = sentAt;
     }
 }
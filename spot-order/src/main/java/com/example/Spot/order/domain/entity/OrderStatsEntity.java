@@ -0,0 +1,55 @@
+package com.example.Spot.order.domain.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 통계 사전 집계 테이블.
+// 주문 생성 시 같은 상태 행에 쓰기가 몰리지 않도록 상태별로 slot 단위로 나누어 누적하고, 조회 시 합산한다.
+@Entity
+@Getter
+@Table(name = "p_order_stats")
+@IdClass(OrderStatsEntity.OrderStatsId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatsEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", length = 20)
+    private OrderStatus orderStatus;
+
+    @Id
+    @Column(name = "slot")
+    private Integer slot;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "revenue", nullable = false, precision = 15, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class OrderStatsId implements Serializable {
+        private OrderStatus orderStatus;
+        private Integer slot;
+    }
+}
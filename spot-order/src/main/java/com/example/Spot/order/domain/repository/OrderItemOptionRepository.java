@@ -1,6 +1,5 @@
 package com.example.Spot.order.domain.repository;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -10,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
+import com.example.Spot.order.domain.repository.projection.OrderItemOptionView;
 
 @Repository
 public interface OrderItemOptionRepository extends JpaRepository<OrderItemOptionEntity, UUID> {
@@ -28,11 +28,13 @@ public interface OrderItemOptionRepository extends JpaRepository<OrderItemOption
             "WHERE oio.orderItem.id IN :orderItemIds")
     List<OrderItemOptionEntity> findByOrderItemIdIn(@Param("orderItemIds") List<UUID> orderItemIds);
 
-    // internal admin
-    @Query("""
-    SELECT COALESCE(SUM(oi.menuPrice * oi.quantity), 0)
-    FROM OrderItemEntity oi
-""")
-    BigDecimal sumTotalRevenue();
+    // 읽기 전용 주문 아이템 옵션 조회 (여러 주문을 한 번에)
+    @Query("SELECT new com.example.Spot.order.domain.repository.projection.OrderItemOptionView(" +
+            "oio.id, oio.orderItem.id, oio.menuOptionId, oio.optionName, oio.optionDetail, " +
+            "oio.optionPrice, oio.createdAt) " +
+            "FROM OrderItemOptionEntity oio " +
+            "WHERE oio.orderItem.order.id IN :orderIds " +
+            "ORDER BY oio.createdAt ASC, oio.id ASC")
+    List<OrderItemOptionView> findViewsByOrderIdIn(@Param("orderIds") List<UUID> orderIds);
 }
 
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.Spot.order.domain.entity.OrderItemEntity;
+import com.example.Spot.order.domain.repository.projection.OrderItemView;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItemEntity, UUID> {
@@ -31,6 +32,14 @@ public interface OrderItemRepository extends JpaRepository<OrderItemEntity, UUID
             """)
     List<Object[]> sumTotalAmountByOrderIdIn(@Param("orderIds") List<UUID> orderIds);
 
+    // 읽기 전용 주문 아이템 조회 (여러 주문을 한 번에)
+    @Query("SELECT new com.example.Spot.order.domain.repository.projection.OrderItemView(" +
+            "oi.id, oi.order.id, oi.menuId, oi.menuName, oi.menuPrice, oi.quantity, oi.createdAt) " +
+            "FROM OrderItemEntity oi " +
+            "WHERE oi.order.id IN :orderIds " +
+            "ORDER BY oi.createdAt ASC, oi.id ASC")
+    List<OrderItemView> findViewsByOrderIdIn(@Param("orderIds") List<UUID> orderIds);
+
 
 
 }
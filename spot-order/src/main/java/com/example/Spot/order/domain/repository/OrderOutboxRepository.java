@@ -1,20 +1,37 @@
 package com.example.Spot.order.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.order.domain.entity.OrderOutboxEntity;
 
 public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEntity, UUID> {
-    
-    @Transactional
+
+    // 여러 인스턴스가 동시에 폴링해도 서로 다른 행을 가져가도록 잠긴 행은 건너뛴다.
+    // 같은 aggregate 의 이벤트 순서를 지키기 위해 aggregate 별로 가장 앞선 미발행 행만 가져간다
+    // (앞선 행을 다른 인스턴스가 잠그고 있으면 그 aggregate 는 이번 배치에서 빠진다)
+    @Query(value = """
+            SELECT * FROM p_order_outbox o
+            WHERE o.sent_at IS NULL
+            AND NOT EXISTS (
+                SELECT 1 FROM p_order_outbox e
+                WHERE e.aggregate_id = o.aggregate_id
+                AND e.sent_at IS NULL
+                AND (e.created_at, e.id) < (o.created_at, o.id)
+            )
+            ORDER BY o.created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OrderOutboxEntity> findUnsentForUpdate(@Param("limit") int limit);
+
     @Modifying
-    @Query("DELETE FROM OrderOutboxEntity o WHERE o.createdAt < :threshold")
-    int deleteOlderThan(@Param("threshold") LocalDateTime threshold);
+    @Query("UPDATE OrderOutboxEntity o SET o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") List<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
 }
@@ -0,0 +1,10 @@
+package com.example.Spot.order.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderQueryRepository {
+
+    // 조건에 맞는 주문 id 를 최신순(createdAt DESC, id DESC)으로 최대 limit 개 조회
+    List<UUID> findOrderIds(OrderSearchCondition condition, int limit);
+}
@@ -5,8 +5,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -15,11 +13,12 @@ import org.springframework.stereotype.Repository;
 
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.domain.repository.projection.OrderView;
 
 import jakarta.persistence.LockModeType;
 
 @Repository
-public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
+public interface OrderRepository extends JpaRepository<OrderEntity, UUID>, OrderQueryRepository {
 
     // Order와 Order Item만 조회하도록 변경. Order Item의 Option 정보는 조회하지 않음.
     // MultipleBagFetchException 에러 발생함. 01.26 쿼리 최적화 진행함.
@@ -118,71 +117,22 @@ public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    // ========== 페이지네이션 쿼리 (JOIN FETCH + 필터링) ==========
-    // MultipleBagFetchException 방지를 위해 orderItemOptions는 별도 조회 후 매핑
+    // ========== 커서 페이지네이션 (id 먼저 조회 -> id로 주문/아이템/옵션 일괄 조회) ==========
+    // 컬렉션 JOIN FETCH + Pageable 조합은 전체 결과를 메모리에서 페이징하므로, 페이지에 해당하는 id만
+    // OrderQueryRepository.findOrderIds 로 먼저 뽑은 뒤 OrderReadService 가 projection 으로 채운다.
 
-    // 고객 주문 조회 (페이지네이션)
-    @Query(value = "SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE o.userId = :userId " +
-            "AND (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)",
-            countQuery = "SELECT COUNT(DISTINCT o) FROM OrderEntity o " +
-            "WHERE o.userId = :userId " +
-            "AND (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)")
-    Page<OrderEntity> findUserOrdersWithFilters(
-            @Param("userId") Integer userId,
-            @Param("storeId") UUID storeId,
-            @Param("status") OrderStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
-
-    // 점주 매장 주문 조회 (페이지네이션)
-    @Query(value = "SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE o.storeId = :storeId " +
-            "AND (CAST(:customerId AS string) IS NULL OR o.userId = :customerId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)",
-            countQuery = "SELECT COUNT(DISTINCT o) FROM OrderEntity o " +
-            "WHERE o.storeId = :storeId " +
-            "AND (CAST(:customerId AS string) IS NULL OR o.userId = :customerId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)")
-    Page<OrderEntity> findStoreOrdersWithFilters(
-            @Param("storeId") UUID storeId,
-            @Param("customerId") Integer customerId,
-            @Param("status") OrderStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+    // 읽기 전용 주문 조회 - 엔티티 대신 projection 으로 조회 (아이템/옵션은 각 repository 의 findViewsByOrderIdIn)
+    @Query("SELECT new com.example.Spot.order.domain.repository.projection.OrderView(" +
+            "o.id, o.userId, o.storeId, o.orderNumber, o.needDisposables, o.request, o.pickupTime, " +
+            "o.orderStatus, o.estimatedTime, o.reason, o.cancelledBy, " +
+            "o.paymentCompletedAt, o.paymentFailedAt, o.acceptedAt, o.rejectedAt, " +
+            "o.cookingStartedAt, o.cookingCompletedAt, o.pickedUpAt, o.cancelledAt, o.createdAt) " +
+            "FROM OrderEntity o " +
+            "WHERE o.id IN :orderIds")
+    List<OrderView> findViewsByIdIn(@Param("orderIds") List<UUID> orderIds);
 
-    // 관리자 전체 주문 조회 (페이지네이션)
-    @Query(value = "SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)",
-            countQuery = "SELECT COUNT(DISTINCT o) FROM OrderEntity o " +
-            "WHERE (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)")
-    Page<OrderEntity> findAllOrdersWithFilters(
-            @Param("storeId") UUID storeId,
-            @Param("status") OrderStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.orderNumber = :orderNumber")
+    Optional<UUID> findIdByOrderNumber(@Param("orderNumber") String orderNumber);
 
     @Query(value = "SELECT order_number FROM p_order " +
             "WHERE order_number LIKE :datePattern " +
@@ -191,13 +141,6 @@ public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
     Optional<String> findTopOrderNumberByDatePattern(@Param("datePattern") String datePattern);
 
     // internal admin
-    @Query("""
-    SELECT o.orderStatus, COUNT(o)
-    FROM OrderEntity o
-    GROUP BY o.orderStatus
-""")
-    List<Object[]> countGroupByStatus();
-
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     long countByOrderStatusIn(List<OrderStatus> statuses);
@@ -0,0 +1,23 @@
+package com.example.Spot.order.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import lombok.Builder;
+
+/**
+ * 주문 목록 조회 조건. null 인 항목은 조건에서 빠진다.
+ * 커서는 직전 페이지 마지막 주문의 (createdAt, id) 이며 둘 다 있거나 둘 다 없어야 한다.
+ */
+@Builder
+public record OrderSearchCondition(
+        Integer userId,
+        UUID storeId,
+        OrderStatus status,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        LocalDateTime cursorCreatedAt,
+        UUID cursorId) {
+}
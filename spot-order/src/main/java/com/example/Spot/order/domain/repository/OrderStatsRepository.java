@@ -0,0 +1,64 @@
+package com.example.Spot.order.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Spot.order.domain.entity.OrderStatsEntity;
+
+@Repository
+public interface OrderStatsRepository extends JpaRepository<OrderStatsEntity, OrderStatsEntity.OrderStatsId> {
+
+    // 상태별 건수/매출 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO p_order_stats (order_status, slot, order_count, revenue, updated_at) " +
+            "VALUES (:status, :slot, :countDelta, :revenueDelta, now()) " +
+            "ON CONFLICT (order_status, slot) DO UPDATE SET " +
+            "order_count = p_order_stats.order_count + EXCLUDED.order_count, " +
+            "revenue = p_order_stats.revenue + EXCLUDED.revenue, " +
+            "updated_at = now()", nativeQuery = true)
+    void applyDelta(
+            @Param("status") String status,
+            @Param("slot") int slot,
+            @Param("countDelta") long countDelta,
+            @Param("revenueDelta") BigDecimal revenueDelta);
+
+    // [status, count, revenue]
+    @Query("""
+    SELECT s.orderStatus, SUM(s.orderCount), SUM(s.revenue)
+    FROM OrderStatsEntity s
+    GROUP BY s.orderStatus
+""")
+    List<Object[]> sumGroupByStatus();
+
+    // ===== 정합성 보정 (재집계) =====
+
+    @Query(value = "SELECT COALESCE(SUM(order_count), 0) FROM p_order_stats", nativeQuery = true)
+    long sumOrderCount();
+
+    @Query(value = "SELECT COUNT(*) FROM p_order", nativeQuery = true)
+    long countOrders();
+
+    // 재집계 중 들어오는 증감이 유실되지 않도록 재집계 트랜잭션 동안 쓰기를 막음
+    @Modifying
+    @Query(value = "LOCK TABLE p_order_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconcile();
+
+    @Modifying
+    @Query(value = "DELETE FROM p_order_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    @Modifying
+    @Query(value = "INSERT INTO p_order_stats (order_status, slot, order_count, revenue, updated_at) " +
+            "SELECT o.order_status, 0, COUNT(*), COALESCE(SUM(t.amount), 0), now() " +
+            "FROM p_order o " +
+            "LEFT JOIN (SELECT order_id, SUM(menu_price * quantity) AS amount " +
+            "           FROM p_order_item GROUP BY order_id) t ON t.order_id = o.id " +
+            "GROUP BY o.order_status", nativeQuery = true)
+    int rebuildFromOrders();
+}
@@ -0,0 +1,16 @@
+package com.example.Spot.order.domain.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 읽기 전용 주문 아이템 옵션 projection
+public record OrderItemOptionView(
+        UUID id,
+        UUID orderItemId,
+        UUID menuOptionId,
+        String optionName,
+        String optionDetail,
+        BigDecimal optionPrice,
+        LocalDateTime createdAt) {
+}
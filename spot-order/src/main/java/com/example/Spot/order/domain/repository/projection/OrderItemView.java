@@ -0,0 +1,16 @@
+package com.example.Spot.order.domain.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 읽기 전용 주문 아이템 projection
+public record OrderItemView(
+        UUID id,
+        UUID orderId,
+        UUID menuId,
+        String menuName,
+        BigDecimal menuPrice,
+        Integer quantity,
+        LocalDateTime createdAt) {
+}
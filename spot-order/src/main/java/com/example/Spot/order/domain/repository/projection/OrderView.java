@@ -0,0 +1,31 @@
+package com.example.Spot.order.domain.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.CancelledBy;
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+// 읽기 전용 주문 조회용 projection (영속성 컨텍스트에 엔티티를 올리지 않는다)
+public record OrderView(
+        UUID id,
+        Integer userId,
+        UUID storeId,
+        String orderNumber,
+        Boolean needDisposables,
+        String request,
+        LocalDateTime pickupTime,
+        OrderStatus orderStatus,
+        Integer estimatedTime,
+        String reason,
+        CancelledBy cancelledBy,
+        LocalDateTime paymentCompletedAt,
+        LocalDateTime paymentFailedAt,
+        LocalDateTime acceptedAt,
+        LocalDateTime rejectedAt,
+        LocalDateTime cookingStartedAt,
+        LocalDateTime cookingCompletedAt,
+        LocalDateTime pickedUpAt,
+        LocalDateTime cancelledAt,
+        LocalDateTime createdAt) {
+}
@@ -1,5 +1,9 @@
 package com.example.Spot.order.infrastructure.aop;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,10 +15,13 @@ import com.example.Spot.global.feign.MenuClient;
 import com.example.Spot.global.feign.StoreClient;
 import com.example.Spot.global.feign.dto.MenuOptionResponse;
 import com.example.Spot.global.feign.dto.MenuResponse;
+import com.example.Spot.global.feign.dto.OrderValidationRequest;
+import com.example.Spot.global.feign.dto.OrderValidationResponse;
 import com.example.Spot.global.feign.dto.StoreResponse;
 import com.example.Spot.global.feign.dto.StoreUserResponse;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.infrastructure.cache.CatalogNearCache;
 import com.example.Spot.order.infrastructure.aop.OrderValidationContext.ContextData;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
@@ -35,6 +42,7 @@ public class OrderAspect {
     private final StoreClient storeClient;
     private final MenuClient menuClient;
     private final OrderRepository orderRepository;
+    private final CatalogNearCache catalogNearCache;
 
     @Around("@annotation(validateStoreAndMenu)")
     @CircuitBreaker(name = "store_menus_validation")
@@ -48,16 +56,46 @@ public class OrderAspect {
             OrderCreateRequestDto requestDto = (OrderCreateRequestDto) joinPoint.getArgs()[0];
             ContextData contextData = new ContextData();
 
-            // Store 서비스에서 가게 정보 조회
-            StoreResponse store = storeClient.getStoreById(requestDto.getStoreId());
-            if (store == null) {
-                throw new IllegalArgumentException("존재하지 않는 가게입니다.");
+            Set<UUID> menuIds = new LinkedHashSet<>();
+            Set<UUID> menuOptionIds = new LinkedHashSet<>();
+            for (OrderItemRequestDto itemDto : requestDto.getOrderItems()) {
+                menuIds.add(itemDto.getMenuId());
+                for (OrderItemOptionRequestDto optionDto : itemDto.getOptions()) {
+                    menuOptionIds.add(optionDto.getMenuOptionId());
+                }
+            }
+
+            // 1) 로컬 캐시 조회
+            StoreResponse store = catalogNearCache.getStore(requestDto.getStoreId());
+            Map<UUID, MenuResponse> menuMap = new HashMap<>(catalogNearCache.getMenus(menuIds));
+            Map<UUID, MenuOptionResponse> menuOptionMap = new HashMap<>(catalogNearCache.getMenuOptions(menuOptionIds));
+
+            // 2) 캐시에 없는 것만 한 번의 호출로 조회 (장바구니 크기와 무관하게 왕복 최대 1회)
+            if (store == null || menuMap.size() < menuIds.size() || menuOptionMap.size() < menuOptionIds.size()) {
+                // 조회 도중 무효화된 항목은 캐시에 넣지 않도록 조회 전에 버전을 받아 둔다
+                long readVersion = catalogNearCache.readVersion();
+                OrderValidationResponse validation = menuClient.validateOrder(OrderValidationRequest.builder()
+                        .storeId(requestDto.getStoreId())
+                        .menuIds(menuIds.stream().filter(id -> !menuMap.containsKey(id)).toList())
+                        .menuOptionIds(menuOptionIds.stream().filter(id -> !menuOptionMap.containsKey(id)).toList())
+                        .build());
+
+                if (validation == null || validation.getStore() == null) {
+                    throw new IllegalArgumentException("존재하지 않는 가게입니다.");
+                }
+
+                store = validation.getStore();
+                catalogNearCache.putStore(store, readVersion);
+                catalogNearCache.putMenus(validation.getMenus(), readVersion);
+                catalogNearCache.putMenuOptions(validation.getMenuOptions(), readVersion);
+
+                validation.getMenus().forEach(menu -> menuMap.put(menu.getId(), menu));
+                validation.getMenuOptions().forEach(option -> menuOptionMap.put(option.getId(), option));
             }
             contextData.setStoreResponse(store);
 
             for (OrderItemRequestDto itemDto : requestDto.getOrderItems()) {
-                // Menu 서비스에서 메뉴 정보 조회
-                MenuResponse menu = menuClient.getMenuById(itemDto.getMenuId());
+                MenuResponse menu = menuMap.get(itemDto.getMenuId());
                 if (menu == null) {
                     throw new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemDto.getMenuId());
                 }
@@ -69,7 +107,7 @@ public class OrderAspect {
                 contextData.addMenuResponse(itemDto.getMenuId(), menu);
 
                 for (OrderItemOptionRequestDto optionDto : itemDto.getOptions()) {
-                    MenuOptionResponse menuOption = menuClient.getMenuOptionById(optionDto.getMenuOptionId());
+                    MenuOptionResponse menuOption = menuOptionMap.get(optionDto.getMenuOptionId());
                     if (menuOption == null) {
                         throw new IllegalArgumentException("존재하지 않는 옵션입니다: " + optionDto.getMenuOptionId());
                     }
@@ -0,0 +1,149 @@
+package com.example.Spot.order.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.feign.dto.MenuOptionResponse;
+import com.example.Spot.global.feign.dto.MenuResponse;
+import com.example.Spot.global.feign.dto.StoreResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 주문 생성 시 검증에 쓰는 가게/메뉴/옵션 스냅샷의 로컬 캐시.
+ * spot-store의 변경 이벤트(spot.store.changed, spot.menu.changed)로 무효화되며,
+ * TTL은 이벤트 유실에 대비한 안전장치 역할만 한다.
+ * <p>
+ * 조회 전에 {@link #readVersion()} 을 받아 두고 put 에 넘긴다. 조회 도중 무효화가 끼어들면
+ * 그보다 먼저 시작한 조회 결과(이전 값)는 버린다. 그렇지 않으면 오래된 값이 TTL 동안 남는다.
+ */
+@Component
+public class CatalogNearCache {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final VersionedCache<StoreResponse> stores;
+    private final VersionedCache<MenuResponse> menus;
+    private final VersionedCache<MenuOptionResponse> menuOptions;
+
+    public CatalogNearCache(
+            MeterRegistry meterRegistry,
+            @Value("${order.near-cache.max-size:10000}") long maxSize,
+            @Value("${order.near-cache.ttl-seconds:600}") long ttlSeconds) {
+
+        this.stores = new VersionedCache<>(maxSize, ttlSeconds);
+        this.menus = new VersionedCache<>(maxSize, ttlSeconds);
+        this.menuOptions = new VersionedCache<>(maxSize, ttlSeconds);
+
+        // actuator metrics: cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, stores.entries, "order_near_store");
+        CaffeineCacheMetrics.monitor(meterRegistry, menus.entries, "order_near_menu");
+        CaffeineCacheMetrics.monitor(meterRegistry, menuOptions.entries, "order_near_menu_option");
+    }
+
+    // 원격 조회를 시작하기 전에 받아 put 에 넘긴다
+    public long readVersion() {
+        return clock.incrementAndGet();
+    }
+
+    public StoreResponse getStore(UUID storeId) {
+        return stores.get(storeId);
+    }
+
+    public Map<UUID, MenuResponse> getMenus(Collection<UUID> menuIds) {
+        return menus.getAll(menuIds);
+    }
+
+    public Map<UUID, MenuOptionResponse> getMenuOptions(Collection<UUID> menuOptionIds) {
+        return menuOptions.getAll(menuOptionIds);
+    }
+
+    public void putStore(StoreResponse store, long readVersion) {
+        stores.put(store.getId(), store, readVersion);
+    }
+
+    public void putMenus(List<MenuResponse> menuList, long readVersion) {
+        menuList.forEach(menu -> menus.put(menu.getId(), menu, readVersion));
+    }
+
+    public void putMenuOptions(List<MenuOptionResponse> menuOptionList, long readVersion) {
+        menuOptionList.forEach(option -> menuOptions.put(option.getId(), option, readVersion));
+    }
+
+    public void evictStore(UUID storeId) {
+        stores.evict(storeId, clock.incrementAndGet());
+    }
+
+    public void evictMenu(UUID menuId) {
+        menus.evict(menuId, clock.incrementAndGet());
+    }
+
+    public void evictMenuOption(UUID menuOptionId) {
+        menuOptions.evict(menuOptionId, clock.incrementAndGet());
+    }
+
+    private record Versioned<V>(V value, long version) {
+    }
+
+    private static final class VersionedCache<V> {
+
+        private final Cache<UUID, Versioned<V>> entries;
+        // 무효화 시각 (키별 마지막 evict 버전). 진행 중인 조회보다 오래 살아야 하므로 값과 같은 TTL
+        private final Cache<UUID, Long> evictions;
+
+        private VersionedCache(long maxSize, long ttlSeconds) {
+            this.entries = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                    .recordStats()
+                    .build();
+            this.evictions = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                    .build();
+        }
+
+        private V get(UUID key) {
+            Versioned<V> entry = entries.getIfPresent(key);
+            return entry == null ? null : entry.value();
+        }
+
+        private Map<UUID, V> getAll(Collection<UUID> keys) {
+            Map<UUID, V> result = new HashMap<>();
+            entries.getAllPresent(keys).forEach((key, entry) -> result.put(key, entry.value()));
+            return result;
+        }
+
+        // evict 와 같은 키 잠금(compute) 안에서 비교하므로 확인과 저장 사이에 무효화가 끼어들 수 없다
+        private void put(UUID key, V value, long readVersion) {
+            entries.asMap().compute(key, (k, current) -> {
+                Long evictedAt = evictions.getIfPresent(k);
+                if (evictedAt != null && evictedAt > readVersion) {
+                    return current;
+                }
+                if (current != null && current.version() > readVersion) {
+                    return current;
+                }
+                return new Versioned<>(value, readVersion);
+            });
+        }
+
+        private void evict(UUID key, long version) {
+            entries.asMap().compute(key, (k, current) -> {
+                evictions.put(k, version);
+                return null;
+            });
+        }
+    }
+}
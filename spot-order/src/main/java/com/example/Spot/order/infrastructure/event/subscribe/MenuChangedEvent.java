@@ -0,0 +1,14 @@
+package com.example.Spot.order.infrastructure.event.subscribe;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class MenuChangedEvent {
+    private UUID storeId;
+    private UUID menuId;
+    private UUID menuOptionId;
+}
@@ -0,0 +1,12 @@
+package com.example.Spot.order.infrastructure.event.subscribe;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class StoreChangedEvent {
+    private UUID storeId;
+}
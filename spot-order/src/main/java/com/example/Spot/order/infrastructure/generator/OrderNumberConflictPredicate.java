@@ -0,0 +1,22 @@
+package com.example.Spot.order.infrastructure.generator;
+
+import java.util.function.Predicate;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 주문 생성 재시도 조건 (resilience4j retry "order_number_conflict" 의 retryExceptionPredicate).
+ * order_number 유니크 제약 위반만 재시도한다. 재시도하면 새 트랜잭션에서 다음 번호를 발급받는다.
+ */
+public class OrderNumberConflictPredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (!(throwable instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(throwable);
+        return cause.getMessage() != null && cause.getMessage().contains("order_number");
+    }
+}
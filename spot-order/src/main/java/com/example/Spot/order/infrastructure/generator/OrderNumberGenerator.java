@@ -0,0 +1,95 @@
+package com.example.Spot.order.infrastructure.generator;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.order.domain.repository.OrderRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일자별 주문번호 시퀀스 발급기 (ORDER-yyyyMMdd-0001).
+ * Redis INCRBY로 인스턴스마다 blockSize 만큼의 번호 구간을 선점하고, 구간 안에서는 메모리에서 발급한다.
+ * 평소에는 인스턴스 간 번호가 겹치지 않는다. Redis 키가 사라져 DB에서 다시 시드할 때는 다른 인스턴스가 아직 쓰지 않은
+ * 메모리 구간을 건너뛰도록 blockSize x reseed-instances 만큼 띄워서 시작하고, 그래도 겹치면 order_number 유니크 제약에
+ * 걸린 주문 생성을 다시 시도한다({@link OrderNumberConflictPredicate}).
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    private static final String KEY_PREFIX = "order:number:seq:";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderRepository orderRepository;
+    private final int blockSize;
+    private final int reseedInstances;
+
+    private String currentDate;
+    private long nextSequence;
+    private long blockEnd;
+
+    public OrderNumberGenerator(
+            StringRedisTemplate redisTemplate,
+            OrderRepository orderRepository,
+            @Value("${order.number.block-size:20}") int blockSize,
+            @Value("${order.number.reseed-instances:10}") int reseedInstances) {
+        this.redisTemplate = redisTemplate;
+        this.orderRepository = orderRepository;
+        this.blockSize = blockSize;
+        this.reseedInstances = reseedInstances;
+    }
+
+    public synchronized String next() {
+        String date = LocalDate.now().format(DATE_FORMAT);
+
+        // 날짜가 바뀌었거나 선점한 구간을 모두 썼으면 새 구간 예약
+        if (!date.equals(currentDate) || nextSequence > blockEnd) {
+            reserveBlock(date);
+        }
+
+        return String.format("ORDER-%s-%04d", date, nextSequence++);
+    }
+
+    private void reserveBlock(String date) {
+        String key = KEY_PREFIX + date;
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            seedFromDatabase(key, date);
+        }
+
+        Long end = redisTemplate.opsForValue().increment(key, blockSize);
+        if (end == null) {
+            throw new IllegalStateException("주문번호 시퀀스 발급에 실패했습니다.");
+        }
+        redisTemplate.expire(key, KEY_TTL);
+
+        this.currentDate = date;
+        this.blockEnd = end;
+        this.nextSequence = end - blockSize + 1;
+
+        log.debug("[주문번호] 구간 예약: date={}, range={}~{}", date, nextSequence, blockEnd);
+    }
+
+    // 키가 없을 때(하루 첫 발급, Redis 초기화 등) DB의 마지막 번호 이후로 발급되도록 1회 시드
+    private void seedFromDatabase(String key, String date) {
+        long lastSequence = orderRepository.findTopOrderNumberByDatePattern("ORDER-" + date + "-%")
+                .map(number -> Long.parseLong(number.substring(number.lastIndexOf('-') + 1)))
+                .orElse(0L);
+
+        // 그날 발급한 번호가 있으면 Redis 가 초기화된 것이다. 다른 인스턴스는 예약해 둔 구간을 계속 쓰고 있으므로
+        // 인스턴스마다 최대 한 구간씩을 건너뛰고 시작한다 (번호가 비는 대신 겹치지 않는다)
+        long seed = lastSequence == 0 ? 0 : lastSequence + (long) blockSize * reseedInstances;
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed), KEY_TTL))
+                && seed > lastSequence) {
+            log.warn("[주문번호] 시퀀스 키 재시드: date={}, db 마지막 번호={}, 시작={}", date, lastSequence, seed);
+        }
+    }
+}
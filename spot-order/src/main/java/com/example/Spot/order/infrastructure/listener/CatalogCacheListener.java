@@ -0,0 +1,61 @@
+package com.example.Spot.order.infrastructure.listener;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.order.infrastructure.cache.CatalogNearCache;
+import com.example.Spot.order.infrastructure.event.subscribe.MenuChangedEvent;
+import com.example.Spot.order.infrastructure.event.subscribe.StoreChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheListener {
+
+    private final CatalogNearCache catalogNearCache;
+    private final ObjectMapper objectMapper;
+
+    // 인스턴스마다 모든 무효화 이벤트를 받아야 하므로 컨슈머 그룹 없이 전체 파티션을 직접 할당한다.
+    // 그룹이 없으니 오프셋도 커밋하지 않고(ack 없음) 매 기동마다 latest 부터 읽는다.
+    // 무효화는 재시작 이후 이벤트만 의미가 있다 (재시작 전 캐시는 메모리와 함께 사라진다)
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${spring.kafka.topic.store.changed}",
+                    partitions = "#{@kafkaPartitionFinder.partitions('${spring.kafka.topic.store.changed}')}"),
+            properties = "auto.offset.reset=latest")
+    public void handleStoreChanged(String message) {
+        try {
+            StoreChangedEvent event = objectMapper.readValue(message, StoreChangedEvent.class);
+            catalogNearCache.evictStore(event.getStoreId());
+            log.debug("[NearCache] 가게 캐시 무효화: storeId={}", event.getStoreId());
+        } catch (Exception e) {
+            // 캐시 무효화는 재처리 대상이 아니므로 건너뛴다 (TTL이 보정)
+            log.error("[NearCache] 가게 변경 이벤트 파싱 실패: {}", e.getMessage());
+        }
+    }
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = "${spring.kafka.topic.menu.changed}",
+                    partitions = "#{@kafkaPartitionFinder.partitions('${spring.kafka.topic.menu.changed}')}"),
+            properties = "auto.offset.reset=latest")
+    public void handleMenuChanged(String message) {
+        try {
+            MenuChangedEvent event = objectMapper.readValue(message, MenuChangedEvent.class);
+            if (event.getMenuOptionId() != null) {
+                catalogNearCache.evictMenuOption(event.getMenuOptionId());
+            } else {
+                catalogNearCache.evictMenu(event.getMenuId());
+            }
+            log.debug("[NearCache] 메뉴 캐시 무효화: menuId={}, optionId={}",
+                    event.getMenuId(), event.getMenuOptionId());
+        } catch (Exception e) {
+            log.error("[NearCache] 메뉴 변경 이벤트 파싱 실패: {}", e.getMessage());
+        }
+    }
+}
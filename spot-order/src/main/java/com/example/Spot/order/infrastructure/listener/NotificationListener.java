@@ -1,9 +1,13 @@
 package com.example.Spot.order.infrastructure.listener;
 
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRouter;
 import com.example.Spot.order.infrastructure.event.publish.OrderAcceptedEvent;
 import com.example.Spot.order.infrastructure.event.publish.OrderPendingEvent;
 import com.example.Spot.order.infrastructure.event.subscribe.AuthRequiredEvent;
@@ -18,53 +22,96 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationListener {
 
     private final ObjectMapper objectMapper;
+    private final RetryTopicRouter retryTopicRouter;
 
     // 1. 유저 결제 수단 필요 알림
     @KafkaListener(topics = "${spring.kafka.topic.payment-auth.required}", groupId = "${spring.kafka.consumer.group.customer}")
-    public void handleAuthRequired(String message, Acknowledgment ack) {
-        parseEvent(message, AuthRequiredEvent.class, ack, event ->
+    public void handleAuthRequired(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyAuthRequired);
+    }
+
+    // 2. 사장님 새 주문 알림
+    @KafkaListener(topics = "${spring.kafka.topic.order.pending}", groupId = "${spring.kafka.consumer.group.owner}")
+    public void handleOrderPending(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyOrderPending);
+    }
+
+    // 3. 주문 수락 - 고객용
+    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.customer}")
+    public void handleAcceptedCustomer(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyAcceptedCustomer);
+    }
+
+    // 4. 주문 수락 - 요리사용
+    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.chef}")
+    public void handleAcceptedChef(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyAcceptedChef);
+    }
+
+    // 처리 실패로 재시도 토픽에 넘어온 레코드 (retry-0..n, 지수 지연). 본 토픽과 다른 그룹으로 구독한다
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.payment-auth.required}', '${spring.kafka.consumer.group.customer}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.payment-auth.required}', '${spring.kafka.consumer.group.customer}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryAuthRequired(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyAuthRequired);
+    }
+
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.order.pending}', '${spring.kafka.consumer.group.owner}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.order.pending}', '${spring.kafka.consumer.group.owner}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryOrderPending(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyOrderPending);
+    }
+
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.order.accepted}', '${spring.kafka.consumer.group.customer}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.order.accepted}', '${spring.kafka.consumer.group.customer}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryAcceptedCustomer(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyAcceptedCustomer);
+    }
+
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.order.accepted}', '${spring.kafka.consumer.group.chef}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.order.accepted}', '${spring.kafka.consumer.group.chef}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryAcceptedChef(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::notifyAcceptedChef);
+    }
+
+    private void notifyAuthRequired(String message) throws Exception {
+        parseEvent(message, AuthRequiredEvent.class, event ->
                 log.info("[고객알림] 유저 {}: 결제 수단이 없어 주문이 대기 중입니다. 사유: {}",
                         event.getUserId(), event.getMessage())
         );
     }
 
-    // 2. 사장님 새 주문 알림
-    @KafkaListener(topics = "${spring.kafka.topic.order.pending}", groupId = "${spring.kafka.consumer.group.owner}")
-    public void handleOrderPending(String message, Acknowledgment ack) {
-        parseEvent(message, OrderPendingEvent.class, ack, event ->
+    private void notifyOrderPending(String message) throws Exception {
+        parseEvent(message, OrderPendingEvent.class, event ->
                 log.info("[사장알림] 가게 ID {}: 새 주문이 들어왔습니다! (주문 ID: {})",
                         event.getStoreId(), event.getOrderId())
         );
     }
 
-    // 3. 주문 수락 - 고객용
-    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.customer}")
-    public void handleAcceptedCustomer(String message, Acknowledgment ack) {
-        parseEvent(message, OrderAcceptedEvent.class, ack, event ->
+    private void notifyAcceptedCustomer(String message) throws Exception {
+        parseEvent(message, OrderAcceptedEvent.class, event ->
                 log.info("[고객알림] 유저 {}: 주문이 수락되었습니다. {}분 뒤 도착 예정!",
                         event.getUserId(), event.getEstimatedTime())
         );
     }
 
-    // 4. 주문 수락 - 요리사용
-    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.chef}")
-    public void handleAcceptedChef(String message, Acknowledgment ack) {
-        parseEvent(message, OrderAcceptedEvent.class, ack, event ->
+    private void notifyAcceptedChef(String message) throws Exception {
+        parseEvent(message, OrderAcceptedEvent.class, event ->
                 log.info("[주방알림] 주문번호 {}: 조리 시작! (예상시간: {}분)",
                         event.getOrderId(), event.getEstimatedTime())
         );
     }
 
-    // 공통 파싱 및 로직 실행 메서드
-    private <T> void parseEvent(String message, Class<T> clazz, Acknowledgment ack, java.util.function.Consumer<T> handler) {
-        try {
-            T event = objectMapper.readValue(message, clazz);
-            handler.accept(event);
-            ack.acknowledge();
-            
-        } catch (Exception e) {
-            log.error("[{}] 알림 파싱/처리 에러: {}", clazz.getSimpleName(), e.getMessage());
-            // 필요 시 여기서 예외를 다시 던져서 Kafka Retry 유도 가능
-        }
+    // 공통 파싱 및 로직 실행 메서드 (실패 시 예외를 던져 재시도 토픽으로 넘긴다)
+    private <T> void parseEvent(String message, Class<T> clazz, Consumer<T> handler) throws Exception {
+        T event = objectMapper.readValue(message, clazz);
+        handler.accept(event);
     }
 }
@@ -1,9 +1,15 @@
 package com.example.Spot.order.infrastructure.listener;
 
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import com.example.Spot.global.infrastructure.config.kafka.KafkaBatchConfig;
+import com.example.Spot.global.infrastructure.kafka.KeyedBatchProcessor;
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRouter;
 import com.example.Spot.order.application.service.OrderService;
 import com.example.Spot.order.infrastructure.event.subscribe.PaymentRefundedEvent;
 import com.example.Spot.order.infrastructure.event.subscribe.PaymentSucceededEvent;
@@ -16,35 +22,57 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class OrderEventListener {
-    
+
     private final OrderService orderService;
     private final ObjectMapper objectMapper;
-    
-    @KafkaListener(topics = "${spring.kafka.topic.payment.succeeded}", groupId = "${spring.kafka.consumer.group.order}")
-    public void handlePaymentSucceeded(String message, Acknowledgment ack) {
-        try {
-            PaymentSucceededEvent event = objectMapper.readValue(message, PaymentSucceededEvent.class);
-            orderService.completePayment(event.getOrderId());
-
-            ack.acknowledge(); // 성공 시 커밋
-            log.info("[결제 성공] 처리 완료 및 Ack 커밋: OrderID {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("[OrderEvent] 결제 성공 이벤트 처리 중 에러 발생: {}", e.getMessage(), e);
-        }
+    private final KeyedBatchProcessor batchProcessor;
+    private final RetryTopicRouter retryTopicRouter;
+
+    // 배치 단위로 수신하여 주문(orderId) 별로 병렬 처리, 연속으로 성공한 오프셋까지 커밋
+    @KafkaListener(
+            topics = "${spring.kafka.topic.payment.succeeded}",
+            groupId = "${spring.kafka.consumer.group.order}",
+            containerFactory = KafkaBatchConfig.BATCH_LISTENER_FACTORY)
+    public void handlePaymentSucceeded(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        batchProcessor.process("order.payment-succeeded", records, ack, this::completePayment);
+    }
+
+    @KafkaListener(
+            topics = "${spring.kafka.topic.payment.refunded}",
+            groupId = "${spring.kafka.consumer.group.order}",
+            containerFactory = KafkaBatchConfig.BATCH_LISTENER_FACTORY)
+    public void handlePaymentRefunded(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        batchProcessor.process("order.payment-refunded", records, ack, this::completeOrderCancellation);
+    }
+
+    // 처리 실패로 재시도 토픽에 넘어온 레코드 (retry-0..n, 지수 지연). 본 토픽과 다른 그룹으로 구독한다
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.payment.succeeded}', '${spring.kafka.consumer.group.order}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.payment.succeeded}', '${spring.kafka.consumer.group.order}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryPaymentSucceeded(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::completePayment);
     }
-    
-    @KafkaListener(topics = "${spring.kafka.topic.payment.refunded}", groupId = "${spring.kafka.consumer.group.order}")
-    public void handlePaymentRefunded(String message, Acknowledgment ack) {
-        try {
-            PaymentRefundedEvent event = objectMapper.readValue(message, PaymentRefundedEvent.class);
-            log.info(" [결제 환불 완료] 이벤트를 수신했습니다. OrderID: {}", event.getOrderId());
-            
-            orderService.completeOrderCancellation(event.getOrderId());
-
-            ack.acknowledge(); // 성공 시 커밋
-            log.info("[결제 환불] 처리 완료 및 Ack 커밋: OrderID {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("[환불 완료 처리 실패] 메시지 소비 중 오류 발생: {}", e.getMessage());
-        }
+
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.payment.refunded}', '${spring.kafka.consumer.group.order}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.payment.refunded}', '${spring.kafka.consumer.group.order}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryPaymentRefunded(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::completeOrderCancellation);
+    }
+
+    private void completePayment(String message) throws Exception {
+        PaymentSucceededEvent event = objectMapper.readValue(message, PaymentSucceededEvent.class);
+        orderService.completePayment(event.getOrderId());
+        log.info("[결제 성공] 처리 완료: OrderID {}", event.getOrderId());
+    }
+
+    private void completeOrderCancellation(String message) throws Exception {
+        PaymentRefundedEvent event = objectMapper.readValue(message, PaymentRefundedEvent.class);
+        log.info(" [결제 환불 완료] 이벤트를 수신했습니다. OrderID: {}", event.getOrderId());
+
+        orderService.completeOrderCancellation(event.getOrderId());
+        log.info("[결제 환불] 처리 완료: OrderID {}", event.getOrderId());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.Spot.order.infrastructure.producer;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -35,6 +36,9 @@ public class OrderEventProducer {
     private String orderAcceptedTopic;
     @Value("${spring.kafka.topic.order.cancelled}")
     private String orderCancelledTopic;
+    // debezium 이면 커넥터가 발행하므로 저장 시점에 발행 완료로 기록한다 (polling 릴레이가 다시 보내지 않도록)
+    @Value("${spot.outbox.publisher:debezium}")
+    private String outboxPublisher;
     
     public void reserveOrderCreated(UUID orderId, Integer userId, Long amount) {
         OrderCreatedEvent event = OrderCreatedEvent.builder()
@@ -79,6 +83,7 @@ public class OrderEventProducer {
                     .aggregateId(aggregateId)
                     .eventType(topic)
                     .payload(payload)
+                    .sentAt("polling".equals(outboxPublisher) ? null : LocalDateTime.now())
                     .build();
             
             outboxRepository.save(outbox);
@@ -0,0 +1,73 @@
+package com.example.Spot.order.infrastructure.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.Spot.order.domain.repository.OrderSearchCondition;
+
+/**
+ * 주문 id 조회 JPQL 을 조건에 따라 조립한다.
+ * "(:param IS NULL OR ...)" 형태의 선택 조건은 Postgres 가 인덱스를 쓰지 못하고 순차 스캔으로 떨어지므로,
+ * 값이 주어진 조건만 WHERE 절에 넣는다. 생성되는 조건은 p_order 의 복합 인덱스
+ * (user_id, created_at), (store_id, order_status, created_at), (store_id, created_at) 에 맞춰져 있다.
+ */
+final class OrderIdQuery {
+
+    private final StringBuilder jpql = new StringBuilder("SELECT o.id FROM OrderEntity o");
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private boolean hasWhere;
+
+    private OrderIdQuery() {
+    }
+
+    static OrderIdQuery of(OrderSearchCondition condition) {
+        if ((condition.cursorCreatedAt() == null) != (condition.cursorId() == null)) {
+            throw new IllegalArgumentException("커서는 cursorCreatedAt 과 cursorId 를 함께 전달해야 합니다.");
+        }
+
+        OrderIdQuery query = new OrderIdQuery();
+        query.equal("o.userId", "userId", condition.userId());
+        query.equal("o.storeId", "storeId", condition.storeId());
+        query.equal("o.orderStatus", "status", condition.status());
+
+        if (condition.startDate() != null) {
+            query.and("o.createdAt >= :startDate");
+            query.parameters.put("startDate", condition.startDate());
+        }
+        if (condition.endDate() != null) {
+            query.and("o.createdAt <= :endDate");
+            query.parameters.put("endDate", condition.endDate());
+        }
+        if (condition.cursorCreatedAt() != null) {
+            query.and("(o.createdAt < :cursorCreatedAt"
+                    + " OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId))");
+            query.parameters.put("cursorCreatedAt", condition.cursorCreatedAt());
+            query.parameters.put("cursorId", condition.cursorId());
+        }
+
+        query.jpql.append(" ORDER BY o.createdAt DESC, o.id DESC");
+        return query;
+    }
+
+    String jpql() {
+        return jpql.toString();
+    }
+
+    Map<String, Object> parameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    private void equal(String path, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        and(path + " = :" + name);
+        parameters.put(name, value);
+    }
+
+    private void and(String predicate) {
+        jpql.append(hasWhere ? " AND " : " WHERE ").append(predicate);
+        hasWhere = true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Spot.order.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.repository.OrderQueryRepository;
+import com.example.Spot.order.domain.repository.OrderSearchCondition;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+// OrderRepository 의 fragment 구현체 (Spring Data 가 "Impl" 접미사로 찾아 연결한다)
+public class OrderQueryRepositoryImpl implements OrderQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UUID> findOrderIds(OrderSearchCondition condition, int limit) {
+        OrderIdQuery query = OrderIdQuery.of(condition);
+
+        TypedQuery<UUID> typedQuery = entityManager.createQuery(query.jpql(), UUID.class);
+        query.parameters().forEach(typedQuery::setParameter);
+
+        return typedQuery
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
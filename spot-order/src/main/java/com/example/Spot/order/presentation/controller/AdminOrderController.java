@@ -4,19 +4,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.Spot.global.infrastructure.kafka.DeadLetterReplayService;
 import com.example.Spot.global.presentation.ApiResponse;
+import com.example.Spot.global.presentation.code.GeneralSuccessCode;
 import com.example.Spot.order.application.service.OrderService;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.code.OrderSuccessCode;
@@ -32,22 +32,21 @@ import lombok.RequiredArgsConstructor;
 public class AdminOrderController {
 
     private final OrderService orderService;
+    private final DeadLetterReplayService deadLetterReplayService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<OrderResponseDto>>> getAllOrders(
+    public ResponseEntity<ApiResponse<Slice<OrderResponseDto>>> getAllOrders(
             @RequestParam(required = false) UUID storeId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(required = false) OrderStatus status,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) UUID cursorId,
+            @RequestParam(defaultValue = "20") int size) {
 
         LocalDateTime dateTime = date != null ? date.atStartOfDay() : null;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<OrderResponseDto> response = orderService.getAllOrders(
-                storeId, dateTime, status, pageable);
+        Slice<OrderResponseDto> response = orderService.getAllOrders(
+                storeId, dateTime, status, cursorCreatedAt, cursorId, size);
 
         return ResponseEntity
                 .status(OrderSuccessCode.ORDER_LIST_FOUND.getStatus())
@@ -59,4 +58,15 @@ public class AdminOrderController {
         OrderStatsResponseDto stats = orderService.getOrderStats();
         return ResponseEntity.ok(stats);
     }
+
+    // DLT에 쌓인 메시지를 재시도 토픽으로 되돌린다 (예: topic=spot.payment.succeeded, group=order-group)
+    @PostMapping("/dlt/replay")
+    public ResponseEntity<ApiResponse<DeadLetterReplayService.ReplayResult>> replayDeadLetters(
+            @RequestParam String topic,
+            @RequestParam String group,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        DeadLetterReplayService.ReplayResult result = deadLetterReplayService.replay(topic, group, limit);
+        return ResponseEntity.ok(ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, result));
+    }
 }
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
+import com.example.Spot.order.domain.repository.projection.OrderItemOptionView;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -35,5 +36,15 @@ public class OrderItemOptionResponseDto {
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
-}
 
+    public static OrderItemOptionResponseDto from(OrderItemOptionView view) {
+        return OrderItemOptionResponseDto.builder()
+                .id(view.id())
+                .menuOptionId(view.menuOptionId())
+                .optionName(view.optionName())
+                .optionDetail(view.optionDetail())
+                .optionPrice(view.optionPrice())
+                .createdAt(view.createdAt())
+                .build();
+    }
+}
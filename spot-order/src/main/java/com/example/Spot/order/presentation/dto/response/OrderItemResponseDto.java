@@ -7,6 +7,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.example.Spot.order.domain.entity.OrderItemEntity;
+import com.example.Spot.order.domain.repository.projection.OrderItemView;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -54,5 +55,25 @@ public class OrderItemResponseDto {
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
-}
 
+    public static OrderItemResponseDto of(OrderItemView view, List<OrderItemOptionResponseDto> optionDtos) {
+        BigDecimal optionsTotal = optionDtos.stream()
+                .map(OrderItemOptionResponseDto::getOptionPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        BigDecimal itemTotal = view.menuPrice().add(optionsTotal);
+        BigDecimal subtotal = itemTotal.multiply(BigDecimal.valueOf(view.quantity()));
+
+        return OrderItemResponseDto.builder()
+                .id(view.id())
+                .menuId(view.menuId())
+                .menuName(view.menuName())
+                .menuPrice(view.menuPrice())
+                .quantity(view.quantity())
+                .options(optionDtos)
+                .optionsTotal(optionsTotal)
+                .subtotal(subtotal)
+                .createdAt(view.createdAt())
+                .build();
+    }
+}
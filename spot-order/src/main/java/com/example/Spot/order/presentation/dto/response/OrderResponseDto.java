@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.enums.CancelledBy;
 import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.domain.repository.projection.OrderView;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -85,6 +86,38 @@ public class OrderResponseDto {
                 .build();
     }
 
+    public static OrderResponseDto of(OrderView view, List<OrderItemResponseDto> orderItemDtos) {
+        BigDecimal totalAmount = orderItemDtos.stream()
+                .map(OrderItemResponseDto::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return OrderResponseDto.builder()
+                .id(view.id())
+                .userId(view.userId())
+                .storeId(view.storeId())
+                .storeName(null) // MSA: Store 서비스에서 별도 조회 필요
+                .orderNumber(view.orderNumber())
+                .needDisposables(view.needDisposables())
+                .request(view.request())
+                .pickupTime(view.pickupTime())
+                .orderStatus(view.orderStatus())
+                .estimatedTime(view.estimatedTime())
+                .reason(view.reason())
+                .cancelledBy(view.cancelledBy())
+                .paymentCompletedAt(view.paymentCompletedAt())
+                .paymentFailedAt(view.paymentFailedAt())
+                .acceptedAt(view.acceptedAt())
+                .rejectedAt(view.rejectedAt())
+                .cookingStartedAt(view.cookingStartedAt())
+                .cookingCompletedAt(view.cookingCompletedAt())
+                .pickedUpAt(view.pickedUpAt())
+                .cancelledAt(view.cancelledAt())
+                .createdAt(view.createdAt())
+                .orderItems(orderItemDtos)
+                .totalAmount(totalAmount)
+                .build();
+    }
+
     public static OrderResponseDto from(OrderEntity entity, String storeName) {
         OrderResponseDto dto = from(entity);
         return OrderResponseDto.builder()
@@ -1,11 +1,11 @@
 package com.example.Spot.order.presentation.swagger;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,19 +30,18 @@ import jakarta.validation.Valid;
 @Tag(name = "주문 (점주)", description = "점주용 주문 관리 API")
 public interface OwnerOrderApi {
 
-    @Operation(summary = "내 매장 주문 목록 조회", description = "점주 매장의 주문 목록을 페이지네이션으로 조회합니다.")
+    @Operation(summary = "내 매장 주문 목록 조회", description = "점주 매장의 주문 목록을 최신순 커서 기반으로 조회합니다. 다음 페이지는 마지막 주문의 createdAt, id 를 커서로 전달합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    ResponseEntity<ApiResponse<Page<OrderResponseDto>>> getMyStoreOrders(
+    ResponseEntity<ApiResponse<Slice<OrderResponseDto>>> getMyStoreOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "고객 ID (필터)") @RequestParam(required = false) Integer customerId,
             @Parameter(description = "날짜 (필터)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @Parameter(description = "주문 상태 (필터)") @RequestParam(required = false) OrderStatus status,
-            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") Sort.Direction direction);
+            @Parameter(description = "커서 - 이전 페이지 마지막 주문의 createdAt") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "커서 - 이전 페이지 마지막 주문의 id") @RequestParam(required = false) UUID cursorId,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size);
 
     @Operation(summary = "내 매장 진행 중인 주문 조회", description = "점주 매장의 진행 중인 주문 목록을 조회합니다.")
     @ApiResponses({
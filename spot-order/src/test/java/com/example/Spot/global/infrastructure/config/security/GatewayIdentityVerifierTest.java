@@ -0,0 +1,126 @@
+package com.example.Spot.global.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.example.Spot.global.common.Role;
+
+class GatewayIdentityVerifierTest {
+
+    private static final String SECRET = "test-gateway-identity-secret";
+
+    private final GatewayIdentityVerifier verifier = new GatewayIdentityVerifier(true, SECRET, 60, false);
+
+    @Test
+    @DisplayName("같은 method / path 로 서명한 헤더는 사용자와 역할을 그대로 돌려준다")
+    void verifiesSignedHeaders() {
+        MockHttpServletRequest request = request("GET", "/api/orders/my",
+                verifier.issue(7, Role.CUSTOMER, "GET", "/api/orders/my"));
+
+        GatewayIdentityVerifier.GatewayIdentity identity = verifier.verify(request);
+
+        assertThat(identity.userId()).isEqualTo(7);
+        assertThat(identity.role()).isEqualTo(Role.CUSTOMER);
+    }
+
+    @Test
+    @DisplayName("역할이나 사용자 id 를 바꾸면 서명 검증에 실패한다")
+    void rejectsTamperedIdentity() {
+        Map<String, String> headers = verifier.issue(7, Role.CUSTOMER, "GET", "/api/orders/my");
+
+        MockHttpServletRequest roleChanged = request("GET", "/api/orders/my", headers);
+        roleChanged.removeHeader(GatewayIdentityVerifier.HEADER_USER_ROLE);
+        roleChanged.addHeader(GatewayIdentityVerifier.HEADER_USER_ROLE, Role.MASTER.name());
+
+        MockHttpServletRequest userChanged = request("GET", "/api/orders/my", headers);
+        userChanged.removeHeader(GatewayIdentityVerifier.HEADER_USER_ID);
+        userChanged.addHeader(GatewayIdentityVerifier.HEADER_USER_ID, "8");
+
+        assertThatThrownBy(() -> verifier.verify(roleChanged)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> verifier.verify(userChanged)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 API(method / path)에 다시 쓴 헤더는 거부한다")
+    void rejectsReplayOnOtherEndpoint() {
+        Map<String, String> headers = verifier.issue(7, Role.MANAGER, "GET", "/api/orders/my");
+
+        assertThatThrownBy(() -> verifier.verify(request("GET", "/api/admin/orders", headers)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> verifier.verify(request("DELETE", "/api/orders/my", headers)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("발급 시각이 max-age 를 넘긴 헤더는 서명이 맞아도 거부한다")
+    void rejectsStaleHeaders() throws Exception {
+        String issuedAt = String.valueOf(Instant.now().minusSeconds(120).getEpochSecond());
+        MockHttpServletRequest request = request("GET", "/api/orders/my", Map.of(
+                GatewayIdentityVerifier.HEADER_USER_ID, "7",
+                GatewayIdentityVerifier.HEADER_USER_ROLE, "CUSTOMER",
+                GatewayIdentityVerifier.HEADER_ISSUED_AT, issuedAt,
+                GatewayIdentityVerifier.HEADER_SIGNATURE, hmac("7:CUSTOMER:" + issuedAt + ":GET:/api/orders/my")));
+
+        assertThatThrownBy(() -> verifier.verify(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("만료");
+    }
+
+    @Test
+    @DisplayName("신뢰 모드가 꺼져 있으면 게이트웨이 헤더를 인증에 쓰지 않는다")
+    void ignoresHeadersWhenNotTrusted() {
+        GatewayIdentityVerifier untrusted = new GatewayIdentityVerifier(false, SECRET, 60, false);
+        MockHttpServletRequest request = request("GET", "/api/orders/my",
+                verifier.issue(7, Role.MASTER, "GET", "/api/orders/my"));
+
+        assertThat(untrusted.supports(request)).isFalse();
+        assertThat(verifier.supports(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("신뢰 모드도 서비스 자격 증명도 꺼져 있으면 키를 알아도 서비스 헤더를 받지 않는다")
+    void ignoresServiceCredentialWhenDisabled() {
+        GatewayIdentityVerifier disabled = new GatewayIdentityVerifier(false, SECRET, 60, false);
+        GatewayIdentityVerifier enabled = new GatewayIdentityVerifier(false, SECRET, 60, true);
+        MockHttpServletRequest request = request("GET", "/api/internal/admin/orders/stats",
+                enabled.issueService("spot-user", "GET", "/api/internal/admin/orders/stats"));
+
+        assertThat(disabled.issueService("spot-user", "GET", "/api/internal/admin/orders/stats")).isEmpty();
+        assertThat(disabled.supports(request)).isFalse();
+        assertThatThrownBy(() -> disabled.verify(request)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(enabled.supports(request)).isTrue();
+        assertThat(enabled.verify(request).isService()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서비스 자격 증명을 켰는데 키가 없으면 기동에 실패한다")
+    void requiresSecretWhenServiceEnabled() {
+        assertThatThrownBy(() -> new GatewayIdentityVerifier(false, "", 60, true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 게이트웨이(JwtAuthenticationFilter)와 같은 형식으로 직접 서명
+    private static String hmac(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, Map<String, String> headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        headers.forEach(request::addHeader);
+        return request;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryTopicRegistryTest {
+
+    private static final String TOPIC = "spot.order.accepted";
+
+    private final RetryTopicRegistry registry = new RetryTopicRegistry(3, 3, List.of(
+            new RetryTopicRegistry.Subscription(TOPIC, "spot.customer"),
+            new RetryTopicRegistry.Subscription(TOPIC, "spot.chef")));
+
+    @Test
+    @DisplayName("재시도 리스너는 점이 든 토픽 이름도 패턴 없이 정확한 재시도 토픽만 구독한다")
+    void retryTopicsAreExact() {
+        assertThat(registry.retryTopics(TOPIC, "spot.customer")).containsExactly(
+                "spot.order.accepted.spot.customer.retry-0",
+                "spot.order.accepted.spot.customer.retry-1",
+                "spot.order.accepted.spot.customer.retry-2");
+        assertThat(registry.retryGroup(TOPIC, "spot.customer"))
+                .isEqualTo("spot.order.accepted.spot.customer.retry")
+                .isNotEqualTo("spot.customer");
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 이름에서 원래 그룹을 꺼낸다")
+    void groupOfRetryTopic() {
+        assertThat(registry.groupOf(registry.retryTopic(TOPIC, "spot.chef", 2), TOPIC)).contains("spot.chef");
+        assertThat(registry.groupOf(TOPIC, TOPIC)).isEmpty();
+        assertThat(registry.groupOf("spot.order.pending.spot.owner.retry-0", TOPIC)).isEmpty();
+    }
+}
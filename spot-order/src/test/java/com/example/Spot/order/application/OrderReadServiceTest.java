@@ -0,0 +1,121 @@
+package com.example.Spot.order.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.Spot.global.common.AuditorAwareImpl;
+import com.example.Spot.global.infrastructure.config.JpaAuditConfig;
+import com.example.Spot.order.application.service.OrderReadService;
+import com.example.Spot.order.domain.entity.OrderEntity;
+import com.example.Spot.order.domain.entity.OrderItemEntity;
+import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({JpaAuditConfig.class, AuditorAwareImpl.class, OrderReadService.class})
+class OrderReadServiceTest {
+
+    @Autowired
+    private OrderReadService orderReadService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("주문 단건 조회: 아이템/옵션 개수와 관계없이 쿼리 3번으로 조회하고 엔티티를 로딩하지 않는다")
+    void getOrderUsesConstantQueryCount() {
+        UUID smallOrderId = persistOrder("ORD-SMALL", 1, 1);
+        UUID largeOrderId = persistOrder("ORD-LARGE", 10, 5);
+
+        statistics.clear();
+        OrderResponseDto small = orderReadService.getOrder(smallOrderId);
+        long smallQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        OrderResponseDto large = orderReadService.getOrder(largeOrderId);
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        assertThat(smallQueries).isEqualTo(3);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        assertThat(small.getOrderItems()).hasSize(1);
+        assertThat(large.getOrderItems()).hasSize(10);
+        assertThat(large.getOrderItems()).allSatisfy(item -> assertThat(item.getOptions()).hasSize(5));
+        // (10000 + 500 * 5) * 2 * 10
+        assertThat(large.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(250_000));
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회: 전달한 id 순서를 유지하고 없는 id 는 제외한다")
+    void getOrdersKeepsRequestedOrder() {
+        UUID first = persistOrder("ORD-1", 2, 1);
+        UUID second = persistOrder("ORD-2", 1, 0);
+
+        statistics.clear();
+        List<OrderResponseDto> orders = orderReadService.getOrders(List.of(second, UUID.randomUUID(), first));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(orders).extracting(OrderResponseDto::getId).containsExactly(second, first);
+        assertThat(orders.get(0).getOrderItems()).allSatisfy(item -> assertThat(item.getOptions()).isEmpty());
+    }
+
+    private UUID persistOrder(String orderNumber, int itemCount, int optionCount) {
+        OrderEntity order = OrderEntity.builder()
+                .storeId(UUID.randomUUID())
+                .userId(1)
+                .orderNumber(orderNumber)
+                .pickupTime(LocalDateTime.now().plusHours(1))
+                .needDisposables(false)
+                .request(null)
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            OrderItemEntity item = OrderItemEntity.builder()
+                    .menuId(UUID.randomUUID())
+                    .menuName("메뉴" + i)
+                    .menuPrice(BigDecimal.valueOf(10_000))
+                    .quantity(2)
+                    .build();
+            for (int j = 0; j < optionCount; j++) {
+                item.addOrderItemOption(OrderItemOptionEntity.builder()
+                        .menuOptionId(UUID.randomUUID())
+                        .optionName("옵션" + j)
+                        .optionDetail("상세" + j)
+                        .optionPrice(BigDecimal.valueOf(500))
+                        .build());
+            }
+            order.addOrderItem(item);
+        }
+
+        entityManager.persist(order);
+        entityManager.flush();
+        entityManager.clear();
+        return order.getId();
+    }
+}
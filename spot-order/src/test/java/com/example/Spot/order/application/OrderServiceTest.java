@@ -27,13 +27,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.example.Spot.global.feign.PaymentClient;
 import com.example.Spot.global.feign.StoreClient;
 import com.example.Spot.global.feign.dto.StoreResponse;
+import com.example.Spot.order.application.service.OrderReadService;
 import com.example.Spot.order.application.service.OrderServiceImpl;
+import com.example.Spot.order.application.service.OrderStatsService;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.domain.exception.DuplicateOrderException;
-import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
 import com.example.Spot.order.domain.repository.OrderRepository;
 import com.example.Spot.order.infrastructure.aop.OrderValidationContext;
+import com.example.Spot.order.infrastructure.generator.OrderNumberGenerator;
 import com.example.Spot.order.infrastructure.producer.OrderEventProducer;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
 
@@ -42,10 +44,12 @@ class OrderServiceTest {
 
     @Mock
     private OrderRepository orderRepository;
-    @Mock private OrderItemOptionRepository orderItemOptionRepository;
+    @Mock private OrderReadService orderReadService;
     @Mock private PaymentClient paymentClient;
     @Mock private StoreClient storeClient;
     @Mock private OrderEventProducer orderEventProducer; // 아웃박스 관련은 여기서 Mock!
+    @Mock private OrderNumberGenerator orderNumberGenerator;
+    @Mock private OrderStatsService orderStatsService;
     
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -0,0 +1,65 @@
+package com.example.Spot.order.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.Spot.global.feign.dto.StoreResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CatalogNearCacheTest {
+
+    private final CatalogNearCache cache = new CatalogNearCache(new SimpleMeterRegistry(), 100, 600);
+    private final UUID storeId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 그 조회 결과는 캐시에 넣지 않는다")
+    void stalePutAfterEvictIsIgnored() {
+        // given
+        long readVersion = cache.readVersion();
+        cache.evictStore(storeId);
+
+        // when
+        cache.putStore(store("이전 이름"), readVersion);
+
+        // then
+        assertThat(cache.getStore(storeId)).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 이후 시작한 조회 결과는 캐시에 넣는다")
+    void putAfterEvictIsKept() {
+        // given
+        cache.evictStore(storeId);
+        long readVersion = cache.readVersion();
+
+        // when
+        cache.putStore(store("새 이름"), readVersion);
+
+        // then
+        assertThat(cache.getStore(storeId).getName()).isEqualTo("새 이름");
+    }
+
+    @Test
+    @DisplayName("먼저 시작한 조회가 늦게 끝나도 나중 조회 값을 덮어쓰지 않는다")
+    void olderPutDoesNotOverwriteNewer() {
+        // given
+        long older = cache.readVersion();
+        long newer = cache.readVersion();
+        cache.putStore(store("새 이름"), newer);
+
+        // when
+        cache.putStore(store("이전 이름"), older);
+
+        // then
+        assertThat(cache.getStore(storeId).getName()).isEqualTo("새 이름");
+    }
+
+    private StoreResponse store(String name) {
+        return StoreResponse.builder().id(storeId).name(name).build();
+    }
+}
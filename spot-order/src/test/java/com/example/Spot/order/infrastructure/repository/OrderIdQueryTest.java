@@ -0,0 +1,127 @@
+package com.example.Spot.order.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.domain.repository.OrderSearchCondition;
+
+class OrderIdQueryTest {
+
+    private static final String SELECT = "SELECT o.id FROM OrderEntity o";
+    private static final String ORDER_BY = " ORDER BY o.createdAt DESC, o.id DESC";
+
+    private final UUID storeId = UUID.randomUUID();
+    private final LocalDateTime startDate = LocalDateTime.of(2026, 1, 5, 0, 0);
+    private final LocalDateTime endDate = LocalDateTime.of(2026, 1, 5, 23, 59, 59);
+    private final LocalDateTime cursorCreatedAt = LocalDateTime.of(2026, 1, 5, 12, 30);
+    private final UUID cursorId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("조건이 없으면 WHERE 절 없이 정렬만 한다")
+    void noFilter() {
+        OrderIdQuery query = OrderIdQuery.of(OrderSearchCondition.builder().build());
+
+        assertThat(query.jpql()).isEqualTo(SELECT + ORDER_BY);
+        assertThat(query.parameters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("고객 주문 목록 첫 페이지 - user_id 조건만 생성")
+    void customerFirstPage() {
+        OrderIdQuery query = OrderIdQuery.of(OrderSearchCondition.builder().userId(1).build());
+
+        assertThat(query.jpql()).isEqualTo(SELECT + " WHERE o.userId = :userId" + ORDER_BY);
+        assertThat(query.parameters()).containsOnlyKeys("userId");
+    }
+
+    @Test
+    @DisplayName("점주 매장 주문 목록 - 매장/상태/날짜/커서 조건")
+    void ownerWithStatusDateAndCursor() {
+        OrderIdQuery query = OrderIdQuery.of(OrderSearchCondition.builder()
+                .storeId(storeId)
+                .status(OrderStatus.PENDING)
+                .startDate(startDate)
+                .endDate(endDate)
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .build());
+
+        assertThat(query.jpql()).isEqualTo(SELECT
+                + " WHERE o.storeId = :storeId"
+                + " AND o.orderStatus = :status"
+                + " AND o.createdAt >= :startDate"
+                + " AND o.createdAt <= :endDate"
+                + " AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId))"
+                + ORDER_BY);
+        assertThat(query.parameters())
+                .containsEntry("storeId", storeId)
+                .containsEntry("status", OrderStatus.PENDING)
+                .containsEntry("startDate", startDate)
+                .containsEntry("endDate", endDate)
+                .containsEntry("cursorCreatedAt", cursorCreatedAt)
+                .containsEntry("cursorId", cursorId)
+                .hasSize(6);
+    }
+
+    @Test
+    @DisplayName("모든 조건 조합에서 주어진 조건만 생성하고 IS NULL 조건은 만들지 않는다")
+    void everyCombination() {
+        String[] predicates = {
+                "o.userId = :userId",
+                "o.storeId = :storeId",
+                "o.orderStatus = :status",
+                "o.createdAt >= :startDate",
+                "o.createdAt <= :endDate",
+                "(o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId))"
+        };
+
+        for (int mask = 0; mask < (1 << predicates.length); mask++) {
+            OrderSearchCondition condition = OrderSearchCondition.builder()
+                    .userId(has(mask, 0) ? 1 : null)
+                    .storeId(has(mask, 1) ? storeId : null)
+                    .status(has(mask, 2) ? OrderStatus.COMPLETED : null)
+                    .startDate(has(mask, 3) ? startDate : null)
+                    .endDate(has(mask, 4) ? endDate : null)
+                    .cursorCreatedAt(has(mask, 5) ? cursorCreatedAt : null)
+                    .cursorId(has(mask, 5) ? cursorId : null)
+                    .build();
+
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < predicates.length; i++) {
+                if (has(mask, i)) {
+                    expected.add(predicates[i]);
+                }
+            }
+            String where = expected.isEmpty() ? "" : " WHERE " + String.join(" AND ", expected);
+
+            OrderIdQuery query = OrderIdQuery.of(condition);
+
+            assertThat(query.jpql()).as("mask=%s", mask).isEqualTo(SELECT + where + ORDER_BY);
+            assertThat(query.jpql()).doesNotContain("IS NULL");
+        }
+    }
+
+    @Test
+    @DisplayName("커서는 createdAt 과 id 가 함께 있어야 한다")
+    void partialCursor() {
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .userId(1)
+                .cursorCreatedAt(cursorCreatedAt)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> OrderIdQuery.of(condition));
+    }
+
+    private boolean has(int mask, int bit) {
+        return (mask & (1 << bit)) != 0;
+    }
+}
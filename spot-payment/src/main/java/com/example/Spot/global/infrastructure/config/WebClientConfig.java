@@ -1,5 +1,8 @@
 package com.example.Spot.global.infrastructure.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,8 +11,15 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class WebClientConfig {
 
+    // PG 호출 시간이 무한정 늘어지지 않게 한다. 결제 재시도 엔진의 선점 시간(lease)도 이 값을 기준으로 검증한다
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            @Value("${toss.payments.connect-timeout:3}") int connectTimeoutSeconds,
+            @Value("${toss.payments.timeout}") int readTimeoutSeconds) {
+        return builder
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .readTimeout(Duration.ofSeconds(readTimeoutSeconds))
+                .build();
     }
 }
@@ -0,0 +1,39 @@
+package com.example.Spot.global.infrastructure.config.kafka;
+
+import java.util.List;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRegistry;
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRegistry.Subscription;
+
+@Configuration
+public class KafkaRetryTopicConfig {
+
+    @Value("${spring.kafka.topic.order.created}")
+    private String orderCreatedTopic;
+    @Value("${spring.kafka.topic.order.cancelled}")
+    private String orderCancelledTopic;
+
+    @Value("${spring.kafka.consumer.group.payment}")
+    private String paymentGroup;
+
+    // 결제 서비스가 구독하는 (토픽, 그룹) 목록
+    @Bean
+    public RetryTopicRegistry retryTopicRegistry(
+            @Value("${spot.kafka.retry.attempts:3}") int attempts,
+            @Value("${spot.kafka.retry.partitions:3}") int partitions) {
+        return new RetryTopicRegistry(attempts, partitions, List.of(
+                new Subscription(orderCreatedTopic, paymentGroup),
+                new Subscription(orderCancelledTopic, paymentGroup)));
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics retryTopics(RetryTopicRegistry retryTopicRegistry) {
+        return new KafkaAdmin.NewTopics(retryTopicRegistry.newTopics().toArray(NewTopic[]::new));
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.Spot.global.infrastructure.config.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -10,23 +15,64 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.Spot.global.common.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 
 @Component
 public class JWTUtil {
 
     private final SecretKey secretKey;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    // 검증을 마친 토큰의 claims (key = 토큰 SHA-256). 각 항목은 토큰 만료 시각에 함께 만료된다
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Duration maxCacheTtl;
+
+    public JWTUtil(
+            @Value("${spring.jwt.secret}") String secret,
+            @Value("${spring.jwt.verify-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${spring.jwt.verify-cache.max-ttl-seconds:600}") long cacheMaxTtlSeconds,
+            MeterRegistry meterRegistry) {
         this.secretKey = new SecretKeySpec(
                 secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        this.maxCacheTtl = Duration.ofSeconds(cacheMaxTtlSeconds);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) -> ttl(token)))
+                .recordStats()
+                .build();
+
+        // actuator metrics: cache.gets{cache=jwt_verified,result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt_verified");
+    }
+
+    /**
+     * 서명 검증 + claims 파싱을 한 번만 수행하고 필요한 값을 모두 돌려준다.
+     * 같은 토큰은 만료 전까지 캐시된 결과를 재사용한다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 형식 오류, 만료된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(parseClaims(token));
+        verifiedTokens.put(key, verified);
+        return verified;
     }
 
-    // 내부에서 공통으로 쓰는 "서명 검증 + Claims 파싱"
+    // 내부에서 공통으로 쓰는 "서명 검증 + Claims 파싱" (만료된 토큰은 ExpiredJwtException)
     private Claims parseClaims(String token) {
         return Jwts.parser()
                 .verifyWith(secretKey)
@@ -35,38 +81,24 @@ public class JWTUtil {
                 .getPayload();
     }
 
-    // (지금 단계) subject를 userId로 쓰고 있으니 그대로 Integer로 반환
-    public Integer getUserId(String token) {
-        String sub = parseClaims(token).getSubject();
-        if (sub == null || sub.isBlank()) {
-            return null;
+    private Duration ttl(VerifiedToken token) {
+        if (token.expiresAt() == null) {
+            return maxCacheTtl;
         }
-        return Integer.valueOf(sub);
-    }
-
-    // (Cognito 전환 대비) subject를 그대로 String으로도 꺼낼 수 있게 제공
-    public String getSubject(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    //  role claim (String) -> Role enum
-    public Role getRole(String token) {
-        String roleStr = parseClaims(token).get("role", String.class);
-        if (roleStr == null || roleStr.isBlank()) {
-            return null;
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
         }
-        return Role.valueOf(roleStr);
+        return remaining.compareTo(maxCacheTtl) < 0 ? remaining : maxCacheTtl;
     }
 
-    // access/refresh 구분
-    public String getTokenType(String token) {
-        return parseClaims(token).get("type", String.class);
-    }
-
-    // 만료 여부 (서명 검증 포함된 parseClaims를 쓰므로 안전)
-    public boolean isExpired(String token) {
-        Date exp = parseClaims(token).getExpiration();
-        return exp != null && exp.before(new Date());
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     // Access Token
@@ -91,4 +123,31 @@ public class JWTUtil {
                 .signWith(secretKey)
                 .compact();
     }
+
+    /**
+     * 검증된 토큰의 claims.
+     * subject 를 userId 로 쓰고 있으니 Integer 로 변환해 둔다 (subject/role 이 없으면 null).
+     */
+    public record VerifiedToken(Integer userId, Role role, String type, Instant expiresAt) {
+
+        static VerifiedToken from(Claims claims) {
+            String sub = claims.getSubject();
+            String roleStr = claims.get("role", String.class);
+            Date exp = claims.getExpiration();
+            return new VerifiedToken(
+                    sub == null || sub.isBlank() ? null : Integer.valueOf(sub),
+                    roleStr == null || roleStr.isBlank() ? null : Role.valueOf(roleStr),
+                    claims.get("type", String.class),
+                    exp == null ? null : exp.toInstant()
+            );
+        }
+
+        public boolean isAccessToken() {
+            return "access".equals(type);
+        }
+
+        public boolean isExpired() {
+            return expiresAt != null && expiresAt.isBefore(Instant.now());
+        }
+    }
 }
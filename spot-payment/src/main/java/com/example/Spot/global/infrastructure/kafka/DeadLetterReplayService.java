@@ -0,0 +1,80 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT에 쌓인 레코드를 해당 그룹의 첫 번째 재시도 토픽으로 되돌린다.
+ * 원본 토픽으로 재발행하면 같은 토픽을 구독하는 다른 그룹까지 중복 수신하므로 재시도 토픽을 거친다.
+ * 어디까지 되돌렸는지는 "{group}.dlt-replay" 그룹의 커밋 오프셋으로 관리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final RetryTopicRegistry registry;
+    private final RetryTopicRouter retryTopicRouter;
+
+    public ReplayResult replay(String topic, String group, int limit) {
+        if (!registry.contains(topic, group)) {
+            throw new IllegalArgumentException("재처리 대상이 아닌 토픽/그룹입니다: " + topic + ", " + group);
+        }
+
+        String dltTopic = registry.dltTopic(topic, group);
+        int replayed = 0;
+
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(group + ".dlt-replay", null)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(dltTopic).stream()
+                    .map(info -> new TopicPartition(dltTopic, info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            try {
+                while (replayed < limit) {
+                    ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                    if (records.isEmpty()) {
+                        break;
+                    }
+                    for (ConsumerRecord<String, String> record : records) {
+                        if (replayed >= limit) {
+                            break;
+                        }
+                        retryTopicRouter.replay(record, topic, group);
+                        offsets.put(new TopicPartition(record.topic(), record.partition()),
+                                new OffsetAndMetadata(record.offset() + 1));
+                        replayed++;
+                    }
+                }
+            } finally {
+                // 중간에 발행이 실패해도 이미 되돌린 레코드는 다시 보내지 않도록 커밋한다
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            }
+        }
+
+        log.info("[DLT-REPLAY] {} -> {} 재처리 요청 {}건", dltTopic, registry.retryTopic(topic, group, 0), replayed);
+        return new ReplayResult(dltTopic, replayed);
+    }
+
+    public record ReplayResult(String dltTopic, int replayed) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.kafka.config.TopicBuilder;
+
+import lombok.Getter;
+
+/**
+ * 서비스가 구독하는 (토픽, 컨슈머 그룹) 별 재시도/DLT 토픽 이름 규칙.
+ * 같은 토픽을 여러 그룹이 구독하므로 재시도 토픽도 그룹별로 분리한다.
+ * <pre>
+ *   {topic}.{group}.retry-0 ... retry-(attempts-1)
+ *   {topic}.{group}.dlt
+ * </pre>
+ * 재시도 토픽은 본 토픽과 다른 컨슈머 그룹({topic}.{group}.retry)으로 구독해, 재시도 대기 때문에 본 토픽 처리나
+ * 리밸런스가 영향을 받지 않게 한다.
+ */
+@Getter
+public class RetryTopicRegistry {
+
+    private final int attempts;
+    private final int partitions;
+    private final List<Subscription> subscriptions;
+
+    public RetryTopicRegistry(int attempts, int partitions, List<Subscription> subscriptions) {
+        this.attempts = attempts;
+        this.partitions = partitions;
+        this.subscriptions = List.copyOf(subscriptions);
+    }
+
+    public record Subscription(String topic, String group) {
+    }
+
+    public String retryTopic(String topic, String group, int attempt) {
+        return topic + "." + group + ".retry-" + attempt;
+    }
+
+    // @KafkaListener(topics = "#{@retryTopicRegistry.retryTopics(...)}") 용. 패턴 구독 대신 정확한 토픽 목록을 쓴다
+    public String[] retryTopics(String topic, String group) {
+        return IntStream.range(0, attempts)
+                .mapToObj(attempt -> retryTopic(topic, group, attempt))
+                .toArray(String[]::new);
+    }
+
+    public String retryGroup(String topic, String group) {
+        return topic + "." + group + ".retry";
+    }
+
+    // 재시도 토픽 이름({topic}.{group}.retry-N)에서 원래 그룹을 꺼낸다
+    public Optional<String> groupOf(String retryTopic, String originalTopic) {
+        String prefix = originalTopic + ".";
+        int suffix = retryTopic.lastIndexOf(".retry-");
+        if (!retryTopic.startsWith(prefix) || suffix <= prefix.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(retryTopic.substring(prefix.length(), suffix));
+    }
+
+    public String dltTopic(String topic, String group) {
+        return topic + "." + group + ".dlt";
+    }
+
+    public boolean contains(String topic, String group) {
+        return subscriptions.contains(new Subscription(topic, group));
+    }
+
+    public List<NewTopic> newTopics() {
+        List<NewTopic> topics = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            for (int attempt = 0; attempt < attempts; attempt++) {
+                topics.add(TopicBuilder.name(retryTopic(subscription.topic(), subscription.group(), attempt))
+                        .partitions(partitions)
+                        .build());
+            }
+            topics.add(TopicBuilder.name(dltTopic(subscription.topic(), subscription.group()))
+                    .partitions(partitions)
+                    .build());
+        }
+        return topics;
+    }
+}
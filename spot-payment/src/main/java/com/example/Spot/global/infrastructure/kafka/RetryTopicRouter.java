@@ -0,0 +1,219 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaUtils;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리에 실패한 레코드를 재시도 토픽 체인(지수 지연)으로 넘기고, 재시도를 모두 소진하면 DLT로 보낸다.
+ * 실패 레코드를 붙잡고 있지 않으므로 한 건의 오류가 파티션 전체를 막지 않는다.
+ * 예정 시각 전의 재시도 레코드는 그 파티션만 멈춰 두므로, 다른 재시도 단계나 파티션의 처리는 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class RetryTopicRouter {
+
+    public static final String ORIGINAL_TOPIC = "spot-original-topic";
+    public static final String ORIGINAL_PARTITION = "spot-original-partition";
+    public static final String ORIGINAL_OFFSET = "spot-original-offset";
+    public static final String ATTEMPT = "spot-retry-attempt";
+    public static final String DUE_AT = "spot-retry-due-at";
+    public static final String EXCEPTION = "spot-exception";
+
+    // 재시도 전용 그룹은 새로 만들어지므로 처음 붙을 때 토픽의 과거 레코드를 다시 처리하지 않게 끝에서 시작한다
+    public static final String RETRY_CONSUMER_PROPERTIES = "auto.offset.reset=latest";
+
+    private static final Set<String> ROUTING_HEADERS =
+            Set.of(ORIGINAL_TOPIC, ORIGINAL_PARTITION, ORIGINAL_OFFSET, ATTEMPT, DUE_AT, EXCEPTION);
+    // 컨테이너를 찾지 못해 nack 으로 기다릴 때의 상한 (max.poll.interval.ms 보다 짧아야 한다)
+    private static final long MAX_PAUSE_MS = 30_000;
+    private static final long SEND_TIMEOUT_MS = 10_000;
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final RetryTopicRegistry registry;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final ScheduledExecutorService resumeScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("kafka-retry-resume").daemon().factory());
+
+    public RetryTopicRouter(
+            KafkaTemplate<String, String> kafkaTemplate,
+            RetryTopicRegistry registry,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${spot.kafka.retry.initial-delay-ms:1000}") long initialDelayMs,
+            @Value("${spot.kafka.retry.multiplier:4}") double multiplier) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.registry = registry;
+        this.listenerRegistry = listenerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.initialDelayMs = initialDelayMs;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * 단건 리스너(본 토픽, 재시도 토픽 공용)에서 레코드를 처리한다.
+     * 재시도 토픽의 레코드는 예정 시각이 될 때까지 해당 파티션만 멈추고 다시 읽는다.
+     */
+    public void consume(ConsumerRecord<String, String> record, Acknowledgment ack,
+                        KeyedBatchProcessor.RecordHandler handler) {
+        long wait = header(record, DUE_AT).map(Long::parseLong).orElse(0L) - System.currentTimeMillis();
+        if (wait > 0) {
+            if (pausePartitionUntilDue(record, wait)) {
+                ack.nack(Duration.ZERO);
+            } else {
+                ack.nack(Duration.ofMillis(Math.min(wait, MAX_PAUSE_MS)));
+            }
+            return;
+        }
+
+        // 재시도 토픽은 별도 그룹으로 구독하므로, 재시도/DLT 토픽 이름에 쓰는 원래 그룹은 토픽 이름에서 꺼낸다
+        String group = header(record, ORIGINAL_TOPIC)
+                .flatMap(originalTopic -> registry.groupOf(record.topic(), originalTopic))
+                .orElseGet(KafkaUtils::getConsumerGroupId);
+        try {
+            handler.handle(record.value());
+            ack.acknowledge();
+            if (record.headers().lastHeader(ATTEMPT) != null) {
+                meterRegistry.counter("kafka.retry.recovered", "group", group).increment();
+            }
+        } catch (Exception e) {
+            log.error("[KAFKA-RETRY] 레코드 처리 실패: {}-{}@{}, key={}",
+                    record.topic(), record.partition(), record.offset(), record.key(), e);
+            try {
+                route(group, record, e);
+                ack.acknowledge();
+            } catch (RuntimeException routeFailure) {
+                log.error("[KAFKA-RETRY] 재시도 토픽 발행 실패, 재전달 대기: {}-{}@{}",
+                        record.topic(), record.partition(), record.offset(), routeFailure);
+                ack.nack(Duration.ofMillis(initialDelayMs));
+            }
+        }
+    }
+
+    /**
+     * 실패한 레코드를 다음 재시도 토픽 또는 DLT로 발행한다. 발행이 확인된 뒤에 반환한다.
+     */
+    public void route(String group, ConsumerRecord<String, String> record, Exception cause) {
+        String originalTopic = header(record, ORIGINAL_TOPIC).orElse(record.topic());
+        int attempt = header(record, ATTEMPT).map(Integer::parseInt).orElse(0);
+
+        boolean retry = isRetryable(cause) && attempt < registry.getAttempts();
+        String target = retry
+                ? registry.retryTopic(originalTopic, group, attempt)
+                : registry.dltTopic(originalTopic, group);
+        long dueAt = retry ? System.currentTimeMillis() + delay(attempt) : 0L;
+
+        publish(record, originalTopic, target, attempt + 1, dueAt, cause);
+        meterRegistry.counter("kafka.retry.routed", "group", group, "target", retry ? "retry" : "dlt").increment();
+        log.warn("[KAFKA-RETRY] {} -> {} (attempt={}, cause={})", originalTopic, target, attempt + 1, cause.toString());
+    }
+
+    /**
+     * DLT 레코드를 첫 번째 재시도 토픽으로 되돌린다. 즉시 처리 대상이 된다.
+     */
+    public void replay(ConsumerRecord<String, String> record, String originalTopic, String group) {
+        publish(record, originalTopic, registry.retryTopic(originalTopic, group, 0), 1, 0L, null);
+    }
+
+    private void publish(ConsumerRecord<String, String> record, String originalTopic, String target,
+                         int attempt, long dueAt, Exception cause) {
+        ProducerRecord<String, String> out = new ProducerRecord<>(target, record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!ROUTING_HEADERS.contains(header.key()) || ORIGINAL_PARTITION.equals(header.key())
+                    || ORIGINAL_OFFSET.equals(header.key())) {
+                out.headers().add(header);
+            }
+        }
+        if (record.headers().lastHeader(ORIGINAL_TOPIC) == null) {
+            out.headers().add(ORIGINAL_PARTITION, bytes(String.valueOf(record.partition())));
+            out.headers().add(ORIGINAL_OFFSET, bytes(String.valueOf(record.offset())));
+        }
+        out.headers().add(ORIGINAL_TOPIC, bytes(originalTopic));
+        out.headers().add(ATTEMPT, bytes(String.valueOf(attempt)));
+        out.headers().add(DUE_AT, bytes(String.valueOf(dueAt)));
+        if (cause != null) {
+            out.headers().add(EXCEPTION, bytes(cause.getClass().getName() + ": " + cause.getMessage()));
+        }
+
+        try {
+            kafkaTemplate.send(out).get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 토픽 발행 중 인터럽트: " + target, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("재시도 토픽 발행 실패: " + target, e);
+        }
+    }
+
+    // nack(Duration) 은 컨테이너의 모든 파티션을 멈추므로, 레코드가 속한 파티션만 멈췄다가 예정 시각에 재개한다
+    private boolean pausePartitionUntilDue(ConsumerRecord<String, String> record, long wait) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        MessageListenerContainer container = listenerRegistry.getListenerContainers().stream()
+                .filter(candidate -> candidate.getAssignedPartitions() != null
+                        && candidate.getAssignedPartitions().contains(partition))
+                .findFirst()
+                .orElse(null);
+        if (container == null) {
+            return false;
+        }
+
+        container.pausePartition(partition);
+        resumeScheduler.schedule(() -> container.resumePartition(partition), wait, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private long delay(int attempt) {
+        return (long) (initialDelayMs * Math.pow(multiplier, attempt));
+    }
+
+    // 역직렬화 오류는 몇 번을 다시 시도해도 같으므로 바로 DLT로 보낸다
+    private boolean isRetryable(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof JsonProcessingException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<String> header(ConsumerRecord<String, String> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? Optional.empty() : Optional.of(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumeScheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.Spot.global.infrastructure.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 생성 시각 기준 일 단위 RANGE 파티션 관리 (PostgreSQL).
+ * 만료된 데이터는 DELETE 대신 파티션을 통째로 떼어내 삭제하므로 보존 기간 정리 비용이 행 수와 무관하다.
+ * <p>
+ * 테이블은 JPA(ddl-auto)가 일반 테이블로 먼저 만들기 때문에, 처음 한 번은 기존 테이블을
+ * {table}_legacy 로 이름을 바꾼 뒤 파티션 테이블을 만들고 legacy 를 (MINVALUE ~ 내일) 구간 파티션으로 붙인다.
+ * legacy 파티션도 보존 기간이 지나면 다른 파티션과 똑같이 삭제된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyPartitionManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2}-\\d{2})[^']*'\\)");
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 테이블이 아직 파티션 테이블이 아니면 변환한다. 테이블이 아직 없으면(JPA 생성 전) false 를 반환하고 다음 실행으로 미룬다.
+     */
+    public boolean ensurePartitioned(String table, String partitionKey) {
+        String kind = relkind(table);
+        if (kind == null) {
+            return false;
+        }
+        if (!"p".equals(kind)) {
+            transactionTemplate.executeWithoutResult(status -> convert(table, partitionKey));
+        }
+        return true;
+    }
+
+    /**
+     * CDC(Debezium pgoutput)가 파티션이 아닌 부모 테이블 이름으로 변경을 받도록 publish_via_partition_root 발행을 준비한다.
+     */
+    public void ensurePublication(String publication, String table) {
+        List<Boolean> viaRoot = jdbcTemplate.queryForList(
+                "SELECT pubviaroot FROM pg_publication WHERE pubname = ?", Boolean.class, publication);
+        if (viaRoot.isEmpty()) {
+            jdbcTemplate.execute("CREATE PUBLICATION " + publication + " FOR TABLE " + table
+                    + " WITH (publish_via_partition_root = true)");
+            log.info("[PARTITION] publication {} 생성 (table={})", publication, table);
+            return;
+        }
+
+        Integer included = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_publication_tables WHERE pubname = ? AND tablename = ?",
+                Integer.class, publication, table);
+        if (!Boolean.TRUE.equals(viaRoot.get(0)) || included == null || included == 0) {
+            jdbcTemplate.execute("ALTER PUBLICATION " + publication + " SET TABLE " + table);
+            jdbcTemplate.execute("ALTER PUBLICATION " + publication + " SET (publish_via_partition_root = true)");
+            log.info("[PARTITION] publication {} 갱신 (table={})", publication, table);
+        }
+    }
+
+    /**
+     * from 부터 days 일 뒤까지의 파티션을 미리 만든다. 이미 다른 파티션이 덮고 있는 구간은 건너뛴다.
+     */
+    public List<String> createDailyPartitions(String table, LocalDate from, int days) {
+        LocalDate coveredUntil = partitions(table).stream()
+                .map(Partition::upperBound)
+                .max(LocalDate::compareTo)
+                .orElse(from);
+
+        List<String> created = new ArrayList<>();
+        LocalDate last = from.plusDays(days);
+        for (LocalDate day = coveredUntil.isAfter(from) ? coveredUntil : from; !day.isAfter(last); day = day.plusDays(1)) {
+            String name = table + "_p" + day.format(SUFFIX);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+            created.add(name);
+        }
+        return created;
+    }
+
+    /**
+     * 상한이 cutoff 이하인(= cutoff 이전 데이터만 담은) 파티션을 떼어내 삭제한다.
+     */
+    public List<String> dropPartitionsBefore(String table, LocalDate cutoff) {
+        List<String> dropped = new ArrayList<>();
+        for (Partition partition : partitions(table)) {
+            if (partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition.name());
+            jdbcTemplate.execute("DROP TABLE " + partition.name());
+            dropped.add(partition.name());
+        }
+        return dropped;
+    }
+
+    private void convert(String table, String partitionKey) {
+        jdbcTemplate.execute("LOCK TABLE " + table + " IN ACCESS EXCLUSIVE MODE");
+        // 잠금을 기다리는 사이 다른 인스턴스가 변환을 마쳤을 수 있다
+        if ("p".equals(relkind(table))) {
+            return;
+        }
+
+        String legacy = table + "_legacy";
+        List<Map<String, Object>> indexes = jdbcTemplate.queryForList("""
+                SELECT i.relname AS name, pg_get_indexdef(i.oid) AS definition
+                FROM pg_index x
+                JOIN pg_class i ON i.oid = x.indexrelid
+                WHERE x.indrelid = ?::regclass AND NOT x.indisprimary
+                """, table);
+        List<String> primaryKeys = jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'p'",
+                String.class, table);
+
+        // 새 부모 테이블이 같은 이름의 인덱스/제약을 쓸 수 있도록 legacy 쪽 이름을 비운다
+        for (Map<String, Object> index : indexes) {
+            String name = (String) index.get("name");
+            jdbcTemplate.execute("ALTER INDEX " + name + " RENAME TO " + legacyName(name));
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+        for (String primaryKey : primaryKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + legacy + " RENAME CONSTRAINT " + primaryKey
+                    + " TO " + legacyName(primaryKey));
+        }
+
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy + " INCLUDING DEFAULTS)"
+                + " PARTITION BY RANGE (" + partitionKey + ")");
+        // 파티션 테이블의 PK 는 파티션 키를 포함해야 한다
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (id, " + partitionKey + ")");
+        for (Map<String, Object> index : indexes) {
+            jdbcTemplate.execute((String) index.get("definition"));
+        }
+
+        LocalDate legacyUpperBound = LocalDate.now().plusDays(1);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + legacy
+                + " FOR VALUES FROM (MINVALUE) TO ('" + legacyUpperBound + "')");
+
+        log.info("[PARTITION] {} 을(를) 일 단위 파티션 테이블로 변환했습니다. (legacy ~ {})", table, legacyUpperBound);
+    }
+
+    private String relkind(String table) {
+        List<String> kinds = jdbcTemplate.queryForList("""
+                SELECT c.relkind::text
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = current_schema() AND c.relname = ?
+                """, String.class, table);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+
+    private List<Partition> partitions(String table) {
+        return jdbcTemplate.query("""
+                SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = ?::regclass
+                """, (rs, rowNum) -> new Partition(rs.getString("name"), upperBound(rs.getString("bound"))), table)
+                .stream()
+                .filter(partition -> partition.upperBound() != null)
+                .toList();
+    }
+
+    private LocalDate upperBound(String bound) {
+        Matcher matcher = UPPER_BOUND.matcher(bound);
+        return matcher.find() ? LocalDate.parse(matcher.group(1)) : null;
+    }
+
+    private String legacyName(String name) {
+        String renamed = name + "_legacy";
+        return renamed.length() > MAX_IDENTIFIER_LENGTH ? renamed.substring(0, MAX_IDENTIFIER_LENGTH) : renamed;
+    }
+
+    private record Partition(String name, LocalDate upperBound) {
+    }
+}
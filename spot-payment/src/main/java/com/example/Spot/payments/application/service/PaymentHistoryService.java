@@ -7,11 +7,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.global.presentation.advice.ResourceNotFoundException;
+import com.example.Spot.payments.domain.entity.PaymentEntity;
 import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
 import com.example.Spot.payments.domain.entity.PaymentKeyEntity;
 import com.example.Spot.payments.domain.entity.PaymentRetryEntity;
 import com.example.Spot.payments.domain.repository.PaymentHistoryRepository;
 import com.example.Spot.payments.domain.repository.PaymentKeyRepository;
+import com.example.Spot.payments.domain.repository.PaymentRepository;
 import com.example.Spot.payments.domain.repository.PaymentRetryRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PaymentHistoryService {
 
+    private final PaymentRepository paymentRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
     private final PaymentRetryRepository paymentRetryRepository;
     private final PaymentKeyRepository paymentKeyRepository;
@@ -32,16 +35,13 @@ public class PaymentHistoryService {
 
     @Transactional
     public PaymentHistoryEntity recordCancelProgress(UUID paymentId) {
-        PaymentHistoryEntity latestItem =
-            paymentHistoryRepository
-                .findTopByPaymentIdOrderByCreatedAtDesc(paymentId)
-                .orElseThrow(() -> new ResourceNotFoundException("[PaymentService] 결제 이력을 찾을 수 없습니다."));
+        PaymentEntity payment = findPaymentWithLock(paymentId);
 
-        if (latestItem.getStatus() != PaymentHistoryEntity.PaymentStatus.DONE) {
+        if (currentStatus(payment) != PaymentHistoryEntity.PaymentStatus.DONE) {
             throw new IllegalStateException("[PaymentService] 결제 완료된 내역만 취소 가능합니다.");
         }
 
-        return createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.CANCELLED_IN_PROGRESS);
+        return appendHistory(payment, PaymentHistoryEntity.PaymentStatus.CANCELLED_IN_PROGRESS);
     }
 
     @Transactional
@@ -51,16 +51,13 @@ public class PaymentHistoryService {
 
     @Transactional
     public void recordPaymentProgress(UUID paymentId) {
-        PaymentHistoryEntity latestItem =
-            paymentHistoryRepository
-                .findTopByPaymentIdOrderByCreatedAtDesc(paymentId)
-                .orElseThrow(() -> new ResourceNotFoundException("[PaymentService] 결제 이력을 찾을 수 없습니다."));
+        PaymentEntity payment = findPaymentWithLock(paymentId);
 
-        if (latestItem.getStatus() != PaymentHistoryEntity.PaymentStatus.READY) {
+        if (currentStatus(payment) != PaymentHistoryEntity.PaymentStatus.READY) {
             throw new IllegalStateException("[PaymentService] 이미 처리된 결제입니다");
         }
 
-        createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.IN_PROGRESS);
+        appendHistory(payment, PaymentHistoryEntity.PaymentStatus.IN_PROGRESS);
     }
 
     @Transactional
@@ -79,14 +76,42 @@ public class PaymentHistoryService {
         return paymentHistory;
     }
 
-    private PaymentHistoryEntity createPaymentHistory(
+    /**
+     * 결제 이력을 남기고 p_payment.payment_status(현재 상태)를 같은 트랜잭션에서 갱신한다.
+     * 결제 행을 잠그므로 같은 결제에 대한 상태 전이는 직렬화된다. 이력을 직접 저장하지 말고 이 메서드를 거친다.
+     */
+    @Transactional
+    public PaymentHistoryEntity createPaymentHistory(
         UUID paymentId, PaymentHistoryEntity.PaymentStatus status) {
+        return appendHistory(findPaymentWithLock(paymentId), status);
+    }
+
+    private PaymentHistoryEntity appendHistory(
+        PaymentEntity payment, PaymentHistoryEntity.PaymentStatus status) {
         PaymentHistoryEntity paymentHistory =
-            PaymentHistoryEntity.builder().paymentId(paymentId).status(status).build();
+            PaymentHistoryEntity.builder().paymentId(payment.getId()).status(status).build();
+        payment.changeStatus(status);
 
         return paymentHistoryRepository.save(paymentHistory);
     }
 
+    private PaymentEntity findPaymentWithLock(UUID paymentId) {
+        return paymentRepository
+            .findByIdWithLock(paymentId)
+            .orElseThrow(() -> new ResourceNotFoundException("[PaymentService] 결제를 찾을 수 없습니다."));
+    }
+
+    // 컬럼 추가 이전에 만들어져 아직 backfill 되지 않은 결제는 최신 이력으로 판단한다
+    private PaymentHistoryEntity.PaymentStatus currentStatus(PaymentEntity payment) {
+        if (payment.getCurrentStatus() != null) {
+            return payment.getCurrentStatus();
+        }
+        return paymentHistoryRepository
+            .findTopByPaymentIdOrderByCreatedAtDesc(payment.getId())
+            .map(PaymentHistoryEntity::getStatus)
+            .orElseThrow(() -> new ResourceNotFoundException("[PaymentService] 결제 이력을 찾을 수 없습니다."));
+    }
+
     private PaymentKeyEntity createPaymentKey(
         UUID paymentId, String paymentKey, LocalDateTime confirmedAt) {
         PaymentKeyEntity paymentKeyEntity =
@@ -1,11 +1,11 @@
 package com.example.Spot.payments.application.service;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.Spot.payments.domain.repository.PaymentOutboxRepository;
+import com.example.Spot.global.infrastructure.partition.DailyPartitionManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,17 +14,29 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class PaymentOutboxCleanupService {
-    
+
+    private static final String TABLE = "p_payment_outbox";
+    private static final String PUBLICATION = "payment_outbox_publication";
     private static final int RETENTION_DAYS = 7;
-    private final PaymentOutboxRepository paymentOutboxRepository;
-    
-    @Transactional
+    // 스케줄러가 며칠 멈춰도 INSERT 가 실패하지 않도록 미리 만들어 둘 파티션 일수
+    private static final int PRECREATE_DAYS = 7;
+
+    private final DailyPartitionManager partitionManager;
+
+    // 행 단위 DELETE 대신 일 단위 파티션을 미리 만들고, 보존 기간이 지난 파티션을 통째로 삭제한다
     public void cleanup() {
-        LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
-        int deletedCount = paymentOutboxRepository.deleteOlderThan(threshold);
-        
-        if (deletedCount > 0) {
-            log.info("[PAYMENT_OUTBOX-CLEANUP] deleted {} rows (threshold={})", deletedCount, threshold);
+        if (!partitionManager.ensurePartitioned(TABLE, "created_at")) {
+            log.warn("[PAYMENT_OUTBOX-CLEANUP] {} 테이블이 아직 없어 파티션 관리를 건너뜁니다.", TABLE);
+            return;
+        }
+        partitionManager.ensurePublication(PUBLICATION, TABLE);
+
+        LocalDate today = LocalDate.now();
+        List<String> created = partitionManager.createDailyPartitions(TABLE, today, PRECREATE_DAYS);
+        List<String> dropped = partitionManager.dropPartitionsBefore(TABLE, today.minusDays(RETENTION_DAYS));
+
+        if (!created.isEmpty() || !dropped.isEmpty()) {
+            log.info("[PAYMENT_OUTBOX-CLEANUP] partitions created={}, dropped={}", created, dropped);
         }
     }
 }
@@ -1,13 +1,19 @@
 package com.example.Spot.payments.application.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.Spot.payments.domain.entity.PaymentEntity;
 import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
@@ -22,47 +28,154 @@ import com.example.Spot.payments.domain.repository.UserBillingAuthRepository;
 import com.example.Spot.payments.infrastructure.client.TossPaymentClient;
 import com.example.Spot.payments.infrastructure.dto.TossPaymentResponse;
 
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 중단(ABORTED)된 결제 재시도 엔진.
+ * 재시도 대상을 FOR UPDATE SKIP LOCKED 로 작은 배치씩 선점(IN_PROGRESS)하므로 여러 인스턴스가 동시에 돌아도
+ * 같은 항목을 중복 처리하지 않고, 인스턴스 수만큼 처리량이 늘어난다.
+ * 선점한 항목은 동시 실행 수가 제한된 가상 스레드에서 하나씩 처리하며, PG 호출은 트랜잭션 밖에서 하고
+ * 결과 기록만 짧은 트랜잭션으로 남긴다. 다음 재시도 시각은 항목의 {@link PaymentRetryEntity.RetryStrategy}를 따른다.
+ * PG 승인 후 결과 기록에 실패한 항목은 실패 횟수로 세지 않고 대사 대상(RECONCILE_REQUIRED)으로 돌려 다시 청구하지 않는다.
+ * <p>
+ * 청구 이후 경로는 어떤 경우에도 대기열로 돌아가지 않는다.
+ * <ol>
+ *     <li>PG 호출 직전에 청구 요청 표시(chargeRequestedAt)를 커밋한다. 커밋하지 못하면 PG 를 호출하지 않는다</li>
+ *     <li>승인 직후 승인 정보(orderId, paymentKey)를 결과 기록과 별도로 커밋한다</li>
+ *     <li>결과(이력, 결제 키, SUCCEEDED)를 기록한다</li>
+ * </ol>
+ * 기록이 모두 실패한 채 선점이 만료되면, 청구 요청 표시가 남은 항목은 대기열이 아니라 대사 대상으로 간다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PaymentSchedulerService {
 
     private final PaymentRetryRepository paymentRetryRepository;
     private final PaymentRepository paymentRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
+    private final PaymentHistoryService paymentHistoryService;
     private final PaymentKeyRepository paymentKeyRepository;
     private final UserBillingAuthRepository userBillingAuthRepository;
     private final TossPaymentClient tossPaymentClient;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate recordTransaction;
+    private final MeterRegistry meterRegistry;
 
-    @Value("${toss.payments.timeout}")
-    private Integer timeout;
+    private final int claimBatchSize;
+    private final Duration claimLease;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    private final Integer timeout;
 
     @Value("${payment.timeout.minutes:30}")
     private Integer paymentTimeoutMinutes;
 
-    @Scheduled(fixedRate = 60000) // 1분
-    @Transactional
-    public void retryAbortedPayments() {
-        log.info("결제 재시도 스케줄러 시작");
-
-        List<PaymentRetryEntity> retryablePayments = paymentRetryRepository
-                .findRetryablePayments(LocalDateTime.now());
+    public PaymentSchedulerService(
+            PaymentRetryRepository paymentRetryRepository,
+            PaymentRepository paymentRepository,
+            PaymentHistoryRepository paymentHistoryRepository,
+            PaymentHistoryService paymentHistoryService,
+            PaymentKeyRepository paymentKeyRepository,
+            UserBillingAuthRepository userBillingAuthRepository,
+            TossPaymentClient tossPaymentClient,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            RetryRegistry retryRegistry,
+            @Value("${toss.payments.timeout}") Integer timeout,
+            @Value("${toss.payments.connect-timeout:3}") int connectTimeoutSeconds,
+            @Value("${spot.payment.retry.claim-batch-size:20}") int claimBatchSize,
+            @Value("${spot.payment.retry.concurrency:2}") int concurrency,
+            @Value("${spot.payment.retry.lease-minutes:10}") long leaseMinutes,
+            @Value("${spot.payment.retry.record-timeout-seconds:30}") int recordTimeoutSeconds,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.paymentRetryRepository = paymentRetryRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentHistoryRepository = paymentHistoryRepository;
+        this.paymentHistoryService = paymentHistoryService;
+        this.paymentKeyRepository = paymentKeyRepository;
+        this.userBillingAuthRepository = userBillingAuthRepository;
+        this.tossPaymentClient = tossPaymentClient;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.claimBatchSize = claimBatchSize;
+        this.claimLease = Duration.ofMinutes(leaseMinutes);
+
+        // 재시도 1건은 커넥션을 한 번에 하나씩 쓴다. 풀이 바닥나면 PG 청구 후 결과 기록이 커넥션을 기다리다
+        // 시간 제한에 걸려 대사 대상이 되므로, 선점 / 요청 처리용으로 하나는 남기고 풀 크기보다 작게 돌린다
+        int maxConcurrency = Math.max(1, connectionPoolSize - 1);
+        if (concurrency > maxConcurrency) {
+            log.warn("spot.payment.retry.concurrency({})가 커넥션 풀({})보다 커서 {}(으)로 줄입니다.",
+                    concurrency, connectionPoolSize, maxConcurrency);
+        }
+        int effectiveConcurrency = Math.min(concurrency, maxConcurrency);
+        this.permits = new Semaphore(effectiveConcurrency);
+        this.timeout = timeout;
+
+        // 결과 기록 트랜잭션은 시간 제한을 두어 선점 시간 안에 끝나거나 실패하게 한다
+        this.recordTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.recordTransaction.setTimeout(recordTimeoutSeconds);
+
+        // 선점이 처리 도중 풀리면 다른 인스턴스가 같은 결제를 다시 청구한다.
+        // 선점 시간은 PG 호출(빌링키 발급 + 결제, 각각 재시도 포함)과 결과 기록 2번을 합친 최악의 시간보다 길어야 한다
+        Duration pgCall = Duration.ofSeconds(connectTimeoutSeconds + (long) timeout);
+        Duration worstCase = pgCallBudget(retryRegistry, "toss_billing_key_issue", pgCall)
+                .plus(pgCallBudget(retryRegistry, "toss_billing_payment", pgCall))
+                .plusSeconds(2L * recordTimeoutSeconds);
+        if (claimLease.compareTo(worstCase) <= 0) {
+            throw new IllegalStateException("spot.payment.retry.lease-minutes(" + leaseMinutes
+                    + "분)가 재시도 1건의 최대 처리 시간(" + worstCase.toSeconds() + "초)보다 길어야 합니다.");
+        }
 
-        log.info("재시도 대상 결제 {}건 발견", retryablePayments.size());
+        meterRegistry.gauge("payment.retry.queue.depth", queueDepth);
+        meterRegistry.gauge("payment.retry.in_flight", permits, p -> effectiveConcurrency - p.availablePermits());
+    }
 
-        for (PaymentRetryEntity retry : retryablePayments) {
-            try {
-                executeRetry(retry);
-            } catch (Exception e) {
-                log.error("재시도 처리 중 오류 발생. RetryId: {}, Error: {}",
-                        retry.getId(), e.getMessage(), e);
+    @Scheduled(fixedDelayString = "${spot.payment.retry.poll-interval-ms:5000}")
+    public void retryAbortedPayments() {
+        queueDepth.set(paymentRetryRepository.countRetryablePayments(LocalDateTime.now()));
+
+        int claimed = 0;
+        while (true) {
+            // 처리 중인 재시도가 모두 끝나지 않았으면 빈 자리만큼만 선점한다
+            int capacity = Math.min(claimBatchSize, permits.availablePermits());
+            if (capacity == 0) {
+                break;
+            }
+            List<UUID> retryIds = claim(capacity);
+            retryIds.forEach(this::dispatch);
+            claimed += retryIds.size();
+            if (retryIds.size() < capacity) {
+                break;
             }
         }
 
-        log.info("결제 재시도 스케줄러 완료");
+        if (claimed > 0) {
+            log.info("재시도 대상 결제 {}건 선점 (대기열 {}건)", claimed, queueDepth.get());
+        }
+    }
+
+    // 선점한 인스턴스가 죽어 IN_PROGRESS 로 남은 항목을 다시 대기열로 돌린다.
+    // PG 청구를 요청한 뒤 멈춘 항목은 청구됐을 수 있으므로 대기열이 아니라 대사 대상으로 돌린다
+    @Scheduled(fixedRate = 60000)
+    @Transactional
+    public void releaseExpiredClaims() {
+        LocalDateTime threshold = LocalDateTime.now().minus(claimLease);
+        int reconcile = paymentRetryRepository.markExpiredChargesForReconciliation(threshold);
+        if (reconcile > 0) {
+            log.error("청구 요청 후 선점 만료된 재시도 {}건을 대사 대상으로 돌렸습니다.", reconcile);
+            meterRegistry.counter("payment.retry.reconcile_required").increment(reconcile);
+        }
+        int released = paymentRetryRepository.releaseExpiredClaims(threshold);
+        if (released > 0) {
+            log.warn("선점 만료된 재시도 {}건을 대기 상태로 되돌렸습니다.", released);
+        }
     }
 
     @Scheduled(fixedRate = 300000) //READY, IN_PROGRESS -> ABORTED, 5분
@@ -87,82 +200,163 @@ public class PaymentSchedulerService {
         log.info("결제 타임아웃 처리 스케줄러 완료");
     }
 
-    private void executeRetry(PaymentRetryEntity retry) {
+    private List<UUID> claim(int limit) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<UUID> retryIds = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentRetryEntity> retries = paymentRetryRepository.findRetryablePaymentsForUpdate(now, limit);
+            for (PaymentRetryEntity retry : retries) {
+                // 재시도 예정 시각부터 실제로 선점되기까지의 지연
+                meterRegistry.timer("payment.retry.claim.delay")
+                        .record(Duration.between(retry.getNextRetryAt(), now));
+                retry.markAsInProgress();
+            }
+            return retries.stream().map(PaymentRetryEntity::getId).toList();
+        });
+        sample.stop(meterRegistry.timer("payment.retry.claim.duration"));
+        return retryIds;
+    }
+
+    private void dispatch(UUID retryId) {
+        permits.acquireUninterruptibly();
+        executor.submit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String result = "failure";
+            try {
+                result = executeRetry(retryId);
+            } catch (Exception e) {
+                log.error("재시도 처리 중 오류 발생. RetryId: {}, Error: {}", retryId, e.getMessage(), e);
+            } finally {
+                sample.stop(meterRegistry.timer("payment.retry.duration", "result", result));
+                permits.release();
+            }
+        });
+    }
+
+    private String executeRetry(UUID retryId) {
+        PaymentRetryEntity retry = findRetry(retryId);
         UUID paymentId = retry.getPaymentId();
 
         log.info("결제 재시도 시작. PaymentId: {}, Attempt: {}/{}",
                 paymentId, retry.getAttemptCount() + 1, retry.getMaxRetryCount());
 
-        retry.markAsInProgress();
-        paymentRetryRepository.save(retry);
+        PaymentEntity payment;
+        TossPaymentResponse response;
+        try {
+            createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.IN_PROGRESS);
 
-        createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.IN_PROGRESS);
+            payment = paymentRepository.findById(paymentId)
+                    .orElseThrow(() -> new IllegalStateException("결제를 찾을 수 없습니다. PaymentId: " + paymentId));
 
-        PaymentEntity payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new IllegalStateException("결제를 찾을 수 없습니다. PaymentId: " + paymentId));
+            // 사용자의 빌링 인증 정보 조회
+            UserBillingAuthEntity billingAuth = userBillingAuthRepository.findActiveByUserId(payment.getUserId())
+                    .orElseThrow(() -> new IllegalStateException(
+                            "등록된 결제 수단이 없습니다. UserId: " + payment.getUserId()));
 
-        // 사용자의 빌링 인증 정보 조회
-        UserBillingAuthEntity billingAuth = userBillingAuthRepository.findActiveByUserId(payment.getUserId())
-                .orElseThrow(() -> new IllegalStateException(
-                        "등록된 결제 수단이 없습니다. UserId: " + payment.getUserId()));
+            String billingKey = resolveBillingKey(payment, billingAuth);
 
-        try {
-            String billingKey;
-
-            // 저장된 빌링키가 있으면 재사용, 없으면 새로 발급
-            if (billingAuth.getBillingKey() != null && !billingAuth.getBillingKey().isEmpty()) {
-                log.info("저장된 빌링키 사용. UserId: {}", payment.getUserId());
-                billingKey = billingAuth.getBillingKey();
-            } else {
-                log.info("새로운 빌링키 발급. UserId: {}", payment.getUserId());
-                // authKey와 customerKey로 빌링키 발급
-                TossPaymentResponse billingKeyResponse = tossPaymentClient.issueBillingKey(
-                        billingAuth.getAuthKey(),
-                        billingAuth.getCustomerKey()
-                );
-
-                billingKey = billingKeyResponse.getBillingKey();
-
-                // 빌링키를 DB에 저장
-                billingAuth.updateBillingKey(billingKey);
-                userBillingAuthRepository.save(billingAuth);
-                log.info("빌링키 DB 저장 완료. UserId: {}", payment.getUserId());
-            }
-
-            // 발급받은 빌링키로 결제 요청
-            // 매번 고유한 orderId 생성 (UUID + timestamp)
-            UUID uniqueOrderId = payment.getOrderId();
+            // 청구 요청 표시를 먼저 커밋한다. 이후 기록이 모두 실패해도 선점 만료 시 다시 청구하지 않는다
+            recordTransaction.executeWithoutResult(status -> findRetry(retryId).markChargeRequested());
 
-            TossPaymentResponse response = tossPaymentClient.requestBillingPayment(
+            // PG 호출은 트랜잭션 밖에서 한다
+            response = tossPaymentClient.requestBillingPayment(
                     billingKey,
                     payment.getTotalAmount(),
-                    uniqueOrderId,
+                    payment.getOrderId(),
                     payment.getPaymentTitle(),
                     billingAuth.getCustomerKey(),
                     timeout);
+        } catch (Exception e) {
+            recordFailedAttempt(retryId, paymentId, e);
+            return "failure";
+        }
 
-            createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.DONE);
-            createPaymentKey(paymentId, response.getPaymentKey(), LocalDateTime.now());
-            retry.markAsSucceeded();
-            paymentRetryRepository.save(retry);
-
-            log.info("결제 재시도 성공. PaymentId: {}, UserId: {}", paymentId, payment.getUserId());
+        // 여기부터는 PG 가 이미 청구한 상태 - 기록에 실패해도 실패한 시도로 세어 다시 청구하면 안 된다
+        try {
+            // 승인 정보는 결과 기록과 별도로 먼저 남긴다 (결과 기록이 실패해도 대사에 쓸 수 있도록)
+            recordTransaction.executeWithoutResult(status -> findRetry(retryId)
+                    .markApproved(payment.getOrderId(), response.getPaymentKey()));
+        } catch (Exception e) {
+            log.error("승인 정보 기록 실패. RetryId: {}, OrderId: {}, PaymentKey: {}, Error: {}",
+                    retryId, payment.getOrderId(), response.getPaymentKey(), e.getMessage(), e);
+        }
 
+        try {
+            recordTransaction.executeWithoutResult(status -> {
+                createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.DONE);
+                createPaymentKey(paymentId, response.getPaymentKey(), LocalDateTime.now());
+                findRetry(retryId).markAsSucceeded();
+            });
         } catch (Exception e) {
-            log.error("결제 재시도 실패. PaymentId: {}, UserId: {}, Error: {}",
-                    paymentId, payment.getUserId(), e.getMessage());
+            markForReconciliation(retryId, payment, response, e);
+            return "reconcile";
+        }
 
+        log.info("결제 재시도 성공. PaymentId: {}, UserId: {}", paymentId, payment.getUserId());
+        return "success";
+    }
+
+    private void recordFailedAttempt(UUID retryId, UUID paymentId, Exception e) {
+        log.error("결제 재시도 실패. PaymentId: {}, Error: {}", paymentId, e.getMessage());
+
+        PaymentRetryEntity failed = recordTransaction.execute(status -> {
             createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.ABORTED);
-            retry.recordFailedAttempt(e.getMessage(), extractErrorCode(e));
-            paymentRetryRepository.save(retry);
+            PaymentRetryEntity current = findRetry(retryId);
+            current.recordFailedAttempt(e.getMessage(), extractErrorCode(e));
+            return current;
+        });
+
+        if (failed != null && failed.getStatus() == PaymentRetryEntity.RetryStatus.EXHAUSTED) {
+            log.error("재시도 횟수 초과. PaymentId: {}, 총 시도 횟수: {}",
+                    paymentId, failed.getAttemptCount());
+        }
+    }
 
-            if (retry.getStatus() == PaymentRetryEntity.RetryStatus.EXHAUSTED) {
-                log.error("재시도 횟수 초과. PaymentId: {}, 총 시도 횟수: {}",
-                        paymentId, retry.getAttemptCount());
-            }
+    // 승인 정보(orderId, paymentKey)를 남겨 대사 대상으로 돌린다.
+    // 이 기록마저 실패해도 청구 요청 표시가 남아 있어 선점 만료 시 대사 대상으로 간다
+    private void markForReconciliation(UUID retryId, PaymentEntity payment, TossPaymentResponse response, Exception e) {
+        String paymentKey = response != null ? response.getPaymentKey() : null;
+        log.error("결제 승인 후 결과 기록 실패 - 대사 필요. PaymentId: {}, OrderId: {}, PaymentKey: {}, Error: {}",
+                payment.getId(), payment.getOrderId(), paymentKey, e.getMessage(), e);
+        meterRegistry.counter("payment.retry.reconcile_required").increment();
+
+        try {
+            recordTransaction.executeWithoutResult(status -> findRetry(retryId)
+                    .markForReconciliation(payment.getOrderId(), paymentKey, "승인 후 결과 기록 실패: " + e.getMessage()));
+        } catch (Exception markError) {
+            log.error("대사 대상 표시 실패. RetryId: {}, OrderId: {}, PaymentKey: {}, Error: {}",
+                    retryId, payment.getOrderId(), paymentKey, markError.getMessage(), markError);
         }
     }
 
+    // 저장된 빌링키가 있으면 재사용, 없으면 새로 발급
+    private String resolveBillingKey(PaymentEntity payment, UserBillingAuthEntity billingAuth) {
+        if (billingAuth.getBillingKey() != null && !billingAuth.getBillingKey().isEmpty()) {
+            log.info("저장된 빌링키 사용. UserId: {}", payment.getUserId());
+            return billingAuth.getBillingKey();
+        }
+
+        log.info("새로운 빌링키 발급. UserId: {}", payment.getUserId());
+        // authKey와 customerKey로 빌링키 발급
+        TossPaymentResponse billingKeyResponse = tossPaymentClient.issueBillingKey(
+                billingAuth.getAuthKey(),
+                billingAuth.getCustomerKey()
+        );
+
+        String billingKey = billingKeyResponse.getBillingKey();
+
+        // 빌링키를 DB에 저장
+        billingAuth.updateBillingKey(billingKey);
+        userBillingAuthRepository.save(billingAuth);
+        log.info("빌링키 DB 저장 완료. UserId: {}", payment.getUserId());
+        return billingKey;
+    }
+
+    private PaymentRetryEntity findRetry(UUID retryId) {
+        return paymentRetryRepository.findById(retryId)
+                .orElseThrow(() -> new IllegalStateException("재시도 항목을 찾을 수 없습니다. RetryId: " + retryId));
+    }
+
     private void abortStalePayment(PaymentHistoryEntity staleHistory) {
         UUID paymentId = staleHistory.getPaymentId();
 
@@ -185,11 +379,7 @@ public class PaymentSchedulerService {
     }
 
     private PaymentHistoryEntity createPaymentHistory(UUID paymentId, PaymentHistoryEntity.PaymentStatus status) {
-        PaymentHistoryEntity history = PaymentHistoryEntity.builder()
-                .paymentId(paymentId)
-                .status(status)
-                .build();
-        return paymentHistoryRepository.save(history);
+        return paymentHistoryService.createPaymentHistory(paymentId, status);
     }
 
     private PaymentKeyEntity createPaymentKey(UUID paymentId, String paymentKey, LocalDateTime confirmedAt) {
@@ -207,4 +397,19 @@ public class PaymentSchedulerService {
         }
         return "UNKNOWN_ERROR";
     }
+
+    // 재시도 정책의 시도 횟수만큼 호출 시간과 대기 시간을 더한다
+    private static Duration pgCallBudget(RetryRegistry retryRegistry, String name, Duration perCall) {
+        RetryConfig config = retryRegistry.retry(name).getRetryConfig();
+        Duration budget = perCall.multipliedBy(config.getMaxAttempts());
+        for (int attempt = 1; attempt < config.getMaxAttempts(); attempt++) {
+            budget = budget.plusMillis(config.getIntervalBiFunction().apply(attempt, null));
+        }
+        return budget;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
 }
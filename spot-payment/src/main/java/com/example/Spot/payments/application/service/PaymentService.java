@@ -1,5 +1,6 @@
 package com.example.Spot.payments.application.service;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -8,6 +9,7 @@ import com.example.Spot.payments.application.service.command.BillingAuthService;
 import com.example.Spot.payments.application.service.command.PaymentApprovalService;
 import com.example.Spot.payments.application.service.command.PaymentCancellationService;
 import com.example.Spot.payments.application.service.query.PaymentQueryService;
+import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
 import com.example.Spot.payments.presentation.dto.request.PaymentRequestDto;
 import com.example.Spot.payments.presentation.dto.response.PaymentResponseDto;
 
@@ -69,8 +71,9 @@ public class PaymentService {
     // ******* //
     // 결제 조회 //
     // ******* //
-    public PaymentResponseDto.PaymentList getAllPayment() {
-        return paymentQueryService.getAllPayments();
+    public PaymentResponseDto.PaymentPage getAllPayment(
+            PaymentHistoryEntity.PaymentStatus status, LocalDateTime cursorCreatedAt, UUID cursorId, int size) {
+        return paymentQueryService.getPayments(status, cursorCreatedAt, cursorId, size);
     }
 
     public PaymentResponseDto.PaymentDetail getDetailPayment(UUID paymentId) {
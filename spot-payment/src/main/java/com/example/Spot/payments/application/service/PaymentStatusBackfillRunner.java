@@ -0,0 +1,34 @@
+package com.example.Spot.payments.application.service;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.payments.domain.repository.PaymentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * p_payment.payment_status 컬럼 추가 이전에 만들어진 결제의 현재 상태를 최신 이력으로 채운다.
+ * 이미 채워진 행은 건드리지 않으므로 매 기동마다 실행해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentStatusBackfillRunner {
+
+    private final PaymentRepository paymentRepository;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void backfill() {
+        try {
+            int updated = paymentRepository.backfillCurrentStatus();
+            if (updated > 0) {
+                log.info("[PAYMENT-STATUS] 현재 상태 backfill {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("[PAYMENT-STATUS] backfill failed", e);
+        }
+    }
+}
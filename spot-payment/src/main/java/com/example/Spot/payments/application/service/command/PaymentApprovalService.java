@@ -17,7 +17,6 @@ import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
 import com.example.Spot.payments.domain.entity.PaymentKeyEntity;
 import com.example.Spot.payments.domain.entity.UserBillingAuthEntity;
 import com.example.Spot.payments.domain.gateway.PaymentGateway;
-import com.example.Spot.payments.domain.repository.PaymentHistoryRepository;
 import com.example.Spot.payments.domain.repository.PaymentKeyRepository;
 import com.example.Spot.payments.domain.repository.PaymentRepository;
 import com.example.Spot.payments.domain.repository.UserBillingAuthRepository;
@@ -47,7 +46,6 @@ public class PaymentApprovalService {
     private Integer timeout;
 
     private final PaymentRepository paymentRepository;
-    private final PaymentHistoryRepository paymentHistoryRepository;
     private final PaymentKeyRepository paymentKeyRepository;
     private final UserBillingAuthRepository userBillingAuthRepository;
 
@@ -132,12 +130,7 @@ public class PaymentApprovalService {
 
         PaymentEntity savedPayment = paymentRepository.save(payment);
 
-        PaymentHistoryEntity history = PaymentHistoryEntity.builder()
-                .paymentId(savedPayment.getId())
-                .status(PaymentHistoryEntity.PaymentStatus.DONE)
-                .build();
-
-        paymentHistoryRepository.save(history);
+        paymentHistoryService.createPaymentHistory(savedPayment.getId(), PaymentHistoryEntity.PaymentStatus.DONE);
 
         PaymentKeyEntity paymentKey = PaymentKeyEntity.builder()
                 .paymentId(savedPayment.getId())
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,19 +34,52 @@ public class PaymentQueryService {
     private final OrderClient orderClient;
     private final StoreClient storeClient;
 
-    public PaymentResponseDto.PaymentList getAllPayments() {
-        List<Object[]> results = paymentRepository.findAllPaymentsWithLatestStatus();
+    private static final int MAX_PAGE_SIZE = 100;
 
+    /**
+     * (createdAt, id) 키셋 페이지네이션. 첫 페이지는 커서 없이, 다음 페이지는 응답의 nextCursor 로 조회한다.
+     * 상태 필터는 p_payment.payment_status(현재 상태)를 사용하므로 이력 테이블을 조회하지 않는다.
+     */
+    public PaymentResponseDto.PaymentPage getPayments(
+            PaymentHistoryEntity.PaymentStatus status, LocalDateTime cursorCreatedAt, UUID cursorId, int size) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("[PaymentQueryService] 커서는 cursorCreatedAt 과 cursorId 를 함께 전달해야 합니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Object[]> results = findPayments(status, cursorCreatedAt, cursorId, limit);
+
+        boolean hasNext = results.size() > pageSize;
         List<PaymentResponseDto.PaymentDetail> payments = results.stream()
+                .limit(pageSize)
                 .map(this::mapToPaymentDetail)
                 .collect(Collectors.toList());
 
-        return PaymentResponseDto.PaymentList.builder()
+        PaymentResponseDto.PaymentDetail last = hasNext ? payments.get(payments.size() - 1) : null;
+        return PaymentResponseDto.PaymentPage.builder()
                 .payments(payments)
-                .totalCount(payments.size())
+                .size(payments.size())
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(last != null ? last.createdAt() : null)
+                .nextCursorId(last != null ? last.paymentId() : null)
                 .build();
     }
 
+    // 상태 필터 유무에 따라 각자의 인덱스를 타는 쿼리를 고른다
+    private List<Object[]> findPayments(
+            PaymentHistoryEntity.PaymentStatus status, LocalDateTime cursorCreatedAt, UUID cursorId, PageRequest limit) {
+        if (cursorId == null) {
+            return status == null
+                    ? paymentRepository.findPaymentsFirstPage(limit)
+                    : paymentRepository.findPaymentsFirstPageByStatus(status, limit);
+        }
+        return status == null
+                ? paymentRepository.findPaymentsAfter(cursorCreatedAt, cursorId, limit)
+                : paymentRepository.findPaymentsAfterByStatus(status, cursorCreatedAt, cursorId, limit);
+    }
+
     public PaymentResponseDto.PaymentDetail getPaymentDetail(UUID paymentId) {
         List<Object[]> results = paymentRepository.findPaymentWithLatestStatus(paymentId);
 
@@ -133,7 +167,7 @@ public class PaymentQueryService {
                 .content((String) row[2])
                 .paymentMethod((PaymentEntity.PaymentMethod) row[3])
                 .totalAmount((Long) row[4])
-                .status(((PaymentHistoryEntity.PaymentStatus) row[5]).toString())
+                .status(row[5] != null ? row[5].toString() : null)
                 .createdAt((LocalDateTime) row[6])
                 .build();
     }
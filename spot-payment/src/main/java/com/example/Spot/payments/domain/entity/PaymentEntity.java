@@ -1,5 +1,6 @@
 package com.example.Spot.payments.domain.entity;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.hibernate.annotations.UuidGenerator;
@@ -21,7 +22,11 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "p_payment", indexes = {@Index(name = "idx_payment_order_id", columnList = "order_id")})
+@Table(name = "p_payment", indexes = {
+    @Index(name = "idx_payment_order_id", columnList = "order_id"),
+    @Index(name = "idx_payment_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_payment_status_created_at_id", columnList = "payment_status, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentEntity extends BaseEntity {
 
@@ -50,6 +55,14 @@ public class PaymentEntity extends BaseEntity {
   @Column(updatable = false, nullable = false, name = "payment_amount")
   private Long totalAmount;
 
+  // 가장 최근 결제 이력(p_payment_history)의 상태. PaymentHistoryService 가 이력 저장과 같은 트랜잭션에서 갱신한다
+  @Enumerated(EnumType.STRING)
+  @Column(name = "payment_status")
+  private PaymentHistoryEntity.PaymentStatus currentStatus;
+
+  @Column(name = "status_updated_at")
+  private LocalDateTime statusUpdatedAt;
+
   @Builder
   public PaymentEntity(
       Integer userId,
@@ -74,6 +87,11 @@ public class PaymentEntity extends BaseEntity {
     this.totalAmount = totalAmount;
   }
 
+  public void changeStatus(PaymentHistoryEntity.PaymentStatus status) {
+    this.currentStatus = status;
+    this.statusUpdatedAt = LocalDateTime.now();
+  }
+
   public enum PaymentMethod {
     CREDIT_CARD, // 신용 카드
     BANK_TRANSFER // 계좌 이체
@@ -15,6 +15,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +24,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "p_payment_retry")
+@Table(name = "p_payment_retry", indexes = {
+    @Index(name = "idx_payment_retry_status_next_retry_at", columnList = "status, next_retry_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class PaymentRetryEntity extends BaseEntity {
@@ -67,6 +70,20 @@ public class PaymentRetryEntity extends BaseEntity {
   @Column(nullable = false)
   private RetryStrategy strategy;
 
+  // 재시도 엔진이 선점(IN_PROGRESS)한 시각. 선점한 인스턴스가 죽으면 이 시각 기준으로 선점이 해제된다
+  private LocalDateTime claimedAt;
+
+  // PG 청구를 요청하기 직전에 따로 커밋해 두는 표시. 이 값이 남아 있는 항목은 청구됐을 수 있으므로
+  // 선점이 만료돼도 대기열로 돌리지 않고 대사 대상으로 돌린다 (실패가 기록되면 지운다)
+  private LocalDateTime chargeRequestedAt;
+
+  // PG 승인 정보. 승인 직후 결과 기록과 별도로 먼저 커밋해 두며, 대사(reconciliation) 전까지 다시 청구하지 않는다
+  @Column(columnDefinition = "UUID")
+  private UUID pgOrderId;
+
+  @Column(length = 200)
+  private String pgPaymentKey;
+
   @Builder
   public PaymentRetryEntity(
       UUID paymentId,
@@ -95,6 +112,7 @@ public class PaymentRetryEntity extends BaseEntity {
 
   public void recordFailedAttempt(String errorMessage, String errorCode) {
     this.attemptCount++;
+    this.chargeRequestedAt = null;
     this.lastErrorMessage = errorMessage;
     this.lastErrorCode = errorCode;
 
@@ -115,8 +133,26 @@ public class PaymentRetryEntity extends BaseEntity {
     this.lastErrorMessage = reason;
   }
 
+  public void markChargeRequested() {
+    this.chargeRequestedAt = LocalDateTime.now();
+  }
+
+  public void markApproved(UUID orderId, String paymentKey) {
+    this.pgOrderId = orderId;
+    this.pgPaymentKey = paymentKey;
+  }
+
+  // 실패한 시도로 세지 않는다 - 이미 청구된 결제라 재시도하면 이중 청구가 된다
+  public void markForReconciliation(UUID orderId, String paymentKey, String reason) {
+    this.status = RetryStatus.RECONCILE_REQUIRED;
+    this.pgOrderId = orderId;
+    this.pgPaymentKey = paymentKey;
+    this.lastErrorMessage = reason;
+  }
+
   public void markAsInProgress() {
     this.status = RetryStatus.IN_PROGRESS;
+    this.claimedAt = LocalDateTime.now();
   }
 
   public boolean canRetry() {
@@ -142,7 +178,8 @@ public class PaymentRetryEntity extends BaseEntity {
     IN_PROGRESS, // 재시도 진행 중
     SUCCEEDED,   // 재시도 성공
     EXHAUSTED,   // 최대 횟수 초과
-    ABANDONED    // 수동으로 중단됨
+    ABANDONED,   // 수동으로 중단됨
+    RECONCILE_REQUIRED // PG 승인 후 결과 기록 실패 - 대사 필요
   }
 
   public enum RetryStrategy {
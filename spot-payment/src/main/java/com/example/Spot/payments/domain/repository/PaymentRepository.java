@@ -1,69 +1,124 @@
 package com.example.Spot.payments.domain.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.payments.domain.entity.PaymentEntity;
+import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
+
+import jakarta.persistence.LockModeType;
 
 public interface PaymentRepository extends JpaRepository<PaymentEntity, UUID> {
 
-  // orderId로 진행 중이거나 완료된 결제가 있는지 확인
+  // orderId로 진행 중이거나 완료된 결제가 있는지 확인 (현재 상태 컬럼 기준)
   @Query(
       """
         SELECT p FROM PaymentEntity p
         WHERE p.orderId = :orderId
-        AND EXISTS (
-            SELECT 1 FROM PaymentHistoryEntity h
-            WHERE h.paymentId = p.id
-            AND h.paymentStatus IN ('READY', 'IN_PROGRESS', 'DONE')
-            AND h.id = (
-                SELECT h2.id FROM PaymentHistoryEntity h2
-                WHERE h2.paymentId = p.id
-                ORDER BY h2.createdAt DESC
-                LIMIT 1
-            )
-        )
+        AND p.currentStatus IN ('READY', 'IN_PROGRESS', 'DONE')
         """)
   Optional<PaymentEntity> findActivePaymentByOrderId(@Param("orderId") UUID orderId);
 
-  // 결제 목록 조회 - 최신 상태와 함께 한 번의 쿼리로 조회
+  // 결제 목록 - (createdAt, id) 내림차순 키셋 페이지네이션.
+  // status 유무를 한 쿼리의 (:status IS NULL OR ...) 로 처리하면 플래너가 상태 인덱스를 고르지 못하므로 쿼리를 나눈다
+
+  // 첫 페이지 - 전체 (idx_payment_created_at_id)
+  @Query(
+      """
+        SELECT p.id, p.paymentTitle, p.paymentContent, p.paymentMethod, p.totalAmount,
+               p.currentStatus, p.createdAt
+        FROM PaymentEntity p
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+  List<Object[]> findPaymentsFirstPage(Pageable pageable);
+
+  // 첫 페이지 - 현재 상태 필터 (idx_payment_status_created_at_id)
+  @Query(
+      """
+        SELECT p.id, p.paymentTitle, p.paymentContent, p.paymentMethod, p.totalAmount,
+               p.currentStatus, p.createdAt
+        FROM PaymentEntity p
+        WHERE p.currentStatus = :status
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+  List<Object[]> findPaymentsFirstPageByStatus(
+      @Param("status") PaymentHistoryEntity.PaymentStatus status, Pageable pageable);
+
+  // 다음 페이지 - 직전 페이지 마지막 (createdAt, id) 이후, 전체
+  @Query(
+      """
+        SELECT p.id, p.paymentTitle, p.paymentContent, p.paymentMethod, p.totalAmount,
+               p.currentStatus, p.createdAt
+        FROM PaymentEntity p
+        WHERE p.createdAt < :cursorCreatedAt
+        OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+  List<Object[]> findPaymentsAfter(
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") UUID cursorId,
+      Pageable pageable);
+
+  // 다음 페이지 - 직전 페이지 마지막 (createdAt, id) 이후, 현재 상태 필터
   @Query(
       """
         SELECT p.id, p.paymentTitle, p.paymentContent, p.paymentMethod, p.totalAmount,
-               h.paymentStatus, p.createdAt
+               p.currentStatus, p.createdAt
         FROM PaymentEntity p
-        LEFT JOIN PaymentHistoryEntity h ON h.paymentId = p.id
-        WHERE h.id = (
-            SELECT h2.id FROM PaymentHistoryEntity h2
-            WHERE h2.paymentId = p.id
-            ORDER BY h2.createdAt DESC
-            LIMIT 1
-        )
-        ORDER BY p.createdAt DESC
+        WHERE p.currentStatus = :status
+        AND (p.createdAt < :cursorCreatedAt
+             OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+        ORDER BY p.createdAt DESC, p.id DESC
         """)
-  List<Object[]> findAllPaymentsWithLatestStatus();
+  List<Object[]> findPaymentsAfterByStatus(
+      @Param("status") PaymentHistoryEntity.PaymentStatus status,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") UUID cursorId,
+      Pageable pageable);
 
-  // 단일 결제 상세 조회 - 최신 상태와 함께
+  // 단일 결제 상세 조회 - 현재 상태와 함께
   @Query(
       """
         SELECT p.id, p.paymentTitle, p.paymentContent, p.paymentMethod, p.totalAmount,
-               h.paymentStatus, p.createdAt
+               p.currentStatus, p.createdAt
         FROM PaymentEntity p
-        LEFT JOIN PaymentHistoryEntity h ON h.paymentId = p.id
         WHERE p.id = :paymentId
-        AND h.id = (
-            SELECT h2.id FROM PaymentHistoryEntity h2
-            WHERE h2.paymentId = p.id
-            ORDER BY h2.createdAt DESC
-            LIMIT 1
-        )
         """)
   List<Object[]> findPaymentWithLatestStatus(@Param("paymentId") UUID paymentId);
-  
+
+  // 이력 저장과 현재 상태 갱신을 직렬화하기 위한 잠금 조회
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM PaymentEntity p WHERE p.id = :paymentId")
+  Optional<PaymentEntity> findByIdWithLock(@Param("paymentId") UUID paymentId);
+
+  // 현재 상태 컬럼이 비어 있는 결제(컬럼 추가 이전 데이터)를 최신 이력으로 채운다
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          """
+            UPDATE p_payment p
+            SET payment_status = h.payment_status, status_updated_at = h.created_at
+            FROM (
+                SELECT DISTINCT ON (payment_id) payment_id, payment_status, created_at
+                FROM p_payment_history
+                ORDER BY payment_id, created_at DESC
+            ) h
+            WHERE h.payment_id = p.id
+            AND p.payment_status IS NULL
+            """,
+      nativeQuery = true)
+  int backfillCurrentStatus();
+
   Optional<PaymentEntity> findByOrderId(UUID orderId);
 }
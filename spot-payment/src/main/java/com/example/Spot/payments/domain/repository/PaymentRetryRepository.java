@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,16 +14,57 @@ import com.example.Spot.payments.domain.entity.PaymentRetryEntity;
 
 public interface PaymentRetryRepository extends JpaRepository<PaymentRetryEntity, UUID> {
 
-  // 재시도 가능한 항목 조회 (스케줄러용)
+  // 재시도 가능한 항목 선점 (스케줄러용) - 다른 인스턴스가 잠근 행은 건너뛰어 인스턴스 간 중복 처리를 막는다
+  @Query(
+      value =
+          """
+            SELECT * FROM p_payment_retry
+            WHERE status = 'PENDING'
+            AND next_retry_at <= :now
+            AND attempt_count < max_retry_count
+            ORDER BY next_retry_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """,
+      nativeQuery = true)
+  List<PaymentRetryEntity> findRetryablePaymentsForUpdate(
+      @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  // 재시도 대기열 깊이 (지금 재시도 가능한 항목 수)
   @Query(
       """
-        SELECT pr FROM PaymentRetryEntity pr
+        SELECT COUNT(pr) FROM PaymentRetryEntity pr
         WHERE pr.status = 'PENDING'
         AND pr.nextRetryAt <= :now
         AND pr.attemptCount < pr.maxRetryCount
-        ORDER BY pr.nextRetryAt ASC
         """)
-  List<PaymentRetryEntity> findRetryablePayments(@Param("now") LocalDateTime now);
+  long countRetryablePayments(@Param("now") LocalDateTime now);
+
+  // 선점한 인스턴스가 처리를 마치지 못한(선점 후 threshold 가 지난) 항목을 다시 대기 상태로 돌린다.
+  // PG 청구를 요청한 항목은 이미 청구됐을 수 있으므로 제외한다 (markExpiredChargesForReconciliation)
+  @Modifying
+  @Query(
+      """
+        UPDATE PaymentRetryEntity pr
+        SET pr.status = 'PENDING'
+        WHERE pr.status = 'IN_PROGRESS'
+        AND (pr.claimedAt IS NULL OR pr.claimedAt < :threshold)
+        AND pr.chargeRequestedAt IS NULL
+        """)
+  int releaseExpiredClaims(@Param("threshold") LocalDateTime threshold);
+
+  // PG 청구 요청 후 선점이 만료된 항목은 다시 청구하지 않고 대사 대상으로 돌린다
+  @Modifying
+  @Query(
+      """
+        UPDATE PaymentRetryEntity pr
+        SET pr.status = 'RECONCILE_REQUIRED',
+            pr.lastErrorMessage = '청구 요청 후 처리 미완료 (선점 만료)'
+        WHERE pr.status = 'IN_PROGRESS'
+        AND (pr.claimedAt IS NULL OR pr.claimedAt < :threshold)
+        AND pr.chargeRequestedAt IS NOT NULL
+        """)
+  int markExpiredChargesForReconciliation(@Param("threshold") LocalDateTime threshold);
 
   // 특정 결제의 재시도 내역 조회
   Optional<PaymentRetryEntity> findByPaymentIdAndStatus(
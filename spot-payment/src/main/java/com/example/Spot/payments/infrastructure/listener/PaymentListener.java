@@ -1,11 +1,16 @@
 package com.example.Spot.payments.infrastructure.listener;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import com.example.Spot.global.infrastructure.config.kafka.KafkaBatchConfig;
+import com.example.Spot.global.infrastructure.kafka.KeyedBatchProcessor;
+import com.example.Spot.global.infrastructure.kafka.RetryTopicRouter;
 import com.example.Spot.global.presentation.advice.BillingKeyNotFoundException;
 import com.example.Spot.payments.application.service.PaymentService;
 import com.example.Spot.payments.domain.entity.PaymentEntity;
@@ -27,72 +32,93 @@ public class PaymentListener {
     private final PaymentService paymentService;
     private final ObjectMapper objectMapper;
     private final PaymentEventProducer paymentEventProducer;
+    private final KeyedBatchProcessor batchProcessor;
+    private final RetryTopicRouter retryTopicRouter;
 
-    @KafkaListener(topics = "${spring.kafka.topic.order.created}", groupId = "${spring.kafka.consumer.group.payment}")
-    public void handleOrderCreated(String message, Acknowledgment ack) {
+    // 배치 단위로 수신하여 주문(orderId) 별로 병렬 처리, 연속으로 성공한 오프셋까지 커밋
+    @KafkaListener(
+            topics = "${spring.kafka.topic.order.created}",
+            groupId = "${spring.kafka.consumer.group.payment}",
+            containerFactory = KafkaBatchConfig.BATCH_LISTENER_FACTORY)
+    public void handleOrderCreated(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        batchProcessor.process("payment.order-created", records, ack, this::processOrderCreated);
+    }
+
+    // 고객취소, 가게취소, 주문거절 이벤트 수신 시 환불 처리
+    @KafkaListener(
+            topics = "${spring.kafka.topic.order.cancelled}",
+            groupId = "${spring.kafka.consumer.group.payment}",
+            containerFactory = KafkaBatchConfig.BATCH_LISTENER_FACTORY)
+    public void handleOrderCancelled(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        batchProcessor.process("payment.order-cancelled", records, ack, this::processOrderCancelled);
+    }
+
+    // 처리 실패로 재시도 토픽에 넘어온 레코드 (retry-0..n, 지수 지연). 본 토픽과 다른 그룹으로 구독한다
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.order.created}', '${spring.kafka.consumer.group.payment}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.order.created}', '${spring.kafka.consumer.group.payment}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryOrderCreated(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::processOrderCreated);
+    }
+
+    @KafkaListener(
+            topics = "#{@retryTopicRegistry.retryTopics('${spring.kafka.topic.order.cancelled}', '${spring.kafka.consumer.group.payment}')}",
+            groupId = "#{@retryTopicRegistry.retryGroup('${spring.kafka.topic.order.cancelled}', '${spring.kafka.consumer.group.payment}')}",
+            properties = RetryTopicRouter.RETRY_CONSUMER_PROPERTIES)
+    public void retryOrderCancelled(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        retryTopicRouter.consume(record, ack, this::processOrderCancelled);
+    }
+
+    private void processOrderCreated(String message) throws Exception {
+        OrderCreatedEvent event = objectMapper.readValue(message, OrderCreatedEvent.class);
+        log.info("주문 생성 이벤트 수신: orderId={}", event.getOrderId());
+
+        // 1. 부족한 정보를 채워 DTO를 조립합니다.
+        PaymentRequestDto.Confirm confirmRequest = PaymentRequestDto.Confirm.builder()
+                .title("Spot 주문 결제")
+                .content("자동 결제 시스템 처리")
+                .userId(event.getUserId())
+                .orderId(event.getOrderId())
+                .paymentMethod(PaymentEntity.PaymentMethod.CREDIT_CARD)
+                .paymentAmount(event.getAmount())
+                .build();
+
+        // 2. 가공된 DTO를 서비스에 넘기기
+        UUID paymentId = paymentService.ready(event.getUserId(), event.getOrderId(), confirmRequest);
+
+        // 3. 결제 시도 및 결과에 따른 분기 처리
         try {
-            OrderCreatedEvent event = objectMapper.readValue(message, OrderCreatedEvent.class);
-            log.info("주문 생성 이벤트 수신: orderId={}", event.getOrderId());
+            paymentService.createPaymentBillingApprove(paymentId);
+            log.info("결제 승인 완료: paymentId={}", paymentId);
 
-            // 1. 부족한 정보를 채워 DTO를 조립합니다.
-            PaymentRequestDto.Confirm confirmRequest = PaymentRequestDto.Confirm.builder()
-                    .title("Spot 주문 결제")
-                    .content("자동 결제 시스템 처리")
-                    .userId(event.getUserId())
+            // 결제 성공 이벤트 발행(자동)
+            paymentEventProducer.reservePaymentSucceededEvent(event.getOrderId(), event.getUserId());
+        } catch (BillingKeyNotFoundException e) {
+
+            AuthRequiredEvent authEvent = AuthRequiredEvent.builder()
                     .orderId(event.getOrderId())
-                    .paymentMethod(PaymentEntity.PaymentMethod.CREDIT_CARD)
-                    .paymentAmount(event.getAmount())
+                    .userId(event.getUserId())
+                    .message(e.getMessage())
                     .build();
-            
-            // 2. 가공된 DTO를 서비스에 넘기기
-            UUID paymentId = paymentService.ready(event.getUserId(), event.getOrderId(), confirmRequest);
-            
-            // 3. 결제 시도 및 결과에 따른 분기 처리
-            try {
-                paymentService.createPaymentBillingApprove(paymentId);
-                log.info("결제 승인 완료: paymentId={}", paymentId);
-                
-                // 결제 성공 이벤트 발행(자동)
-                paymentEventProducer.reservePaymentSucceededEvent(event.getOrderId(), event.getUserId());
-            } catch (BillingKeyNotFoundException e) {
-
-                AuthRequiredEvent authEvent = AuthRequiredEvent.builder()
-                        .orderId(event.getOrderId())
-                        .userId(event.getUserId())
-                        .message(e.getMessage())
-                        .build();
-                
-                paymentEventProducer.reserveAuthRequiredEvent(authEvent);
-            }
-            ack.acknowledge();
-            log.info("주문 생성 메시지 처리 완료 및 오프셋 커밋: orderId={}", event.getOrderId());
-            
-        } catch (Exception e) {
-            // 에러 처리 로직
-            log.error("주문 이벤트 처리 실패: {}", message, e);
+
+            paymentEventProducer.reserveAuthRequiredEvent(authEvent);
         }
+        log.info("주문 생성 메시지 처리 완료: orderId={}", event.getOrderId());
     }
-    
-    // 고객취소, 가게취소, 주문거절 이벤트 수신 시 환불 처리
-    @KafkaListener(topics = "${spring.kafka.topic.order.cancelled}", groupId = "${spring.kafka.consumer.group.payment}")
-    public void handleOrderCancelled(String message, Acknowledgment ack) {
-        try {
-            // 1. 이벤트 파싱
-            OrderCancelledEvent event = objectMapper.readValue(message, OrderCancelledEvent.class);
-            log.info("[결제서비스] 주문 취소/거절 이벤트 수신: orderId={}, reason={}", event.getOrderId(), event.getReason());
-            
-            // 2. 환불 서비스 호출
-            boolean isRefunded = paymentService.refundByOrderId(event.getOrderId());
-            
-            if (isRefunded) {
-                // 환불 성공 시 주문 서비스에게 이벤트 발행
-                paymentEventProducer.reservePaymentRefundedEvent(event.getOrderId());
-            } 
-            ack.acknowledge();
-            log.info("[결제서비스] 환불 및 보상 트랜잭션 완료: orderId={}", event.getOrderId());
-
-        } catch (Exception e) {
-            log.error("[결제서비스] 환불 처리 실패: {}", e.getMessage());
+
+    private void processOrderCancelled(String message) throws Exception {
+        // 1. 이벤트 파싱
+        OrderCancelledEvent event = objectMapper.readValue(message, OrderCancelledEvent.class);
+        log.info("[결제서비스] 주문 취소/거절 이벤트 수신: orderId={}, reason={}", event.getOrderId(), event.getReason());
+
+        // 2. 환불 서비스 호출
+        boolean isRefunded = paymentService.refundByOrderId(event.getOrderId());
+
+        if (isRefunded) {
+            // 환불 성공 시 주문 서비스에게 이벤트 발행
+            paymentEventProducer.reservePaymentRefundedEvent(event.getOrderId());
         }
+        log.info("[결제서비스] 환불 및 보상 트랜잭션 완료: orderId={}", event.getOrderId());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.Spot.payments.infrastructure.producer;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 
@@ -31,6 +32,9 @@ public class PaymentEventProducer {
     private String paymentSucceededTopic;
     @Value("${spring.kafka.topic.payment.refunded}")
     private String paymentRefundedTopic;
+    // debezium 이면 커넥터가 발행하므로 저장 시점에 발행 완료로 기록한다 (polling 릴레이가 다시 보내지 않도록)
+    @Value("${spot.outbox.publisher:debezium}")
+    private String outboxPublisher;
     
     public void reserveAuthRequiredEvent(AuthRequiredEvent event) {
         saveOutbox(authRequiredTopic, event.getOrderId(), event);
@@ -55,6 +59,7 @@ public class PaymentEventProducer {
                     .aggregateId(aggregateId)
                     .eventType(topic)
                     .payload(payload)
+                    .sentAt("polling".equals(outboxPublisher) ? null : LocalDateTime.now())
                     .build();
             
             outboxRepository.save(outbox);
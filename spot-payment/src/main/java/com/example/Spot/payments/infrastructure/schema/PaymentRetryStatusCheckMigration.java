@@ -0,0 +1,65 @@
+package com.example.Spot.payments.infrastructure.schema;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.payments.domain.entity.PaymentRetryEntity;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * p_payment_retry.status 의 CHECK 제약을 현재 RetryStatus 값으로 다시 만든다.
+ * <p>
+ * Hibernate 6 은 @Enumerated(STRING) 컬럼에 값 목록 CHECK 제약을 만들지만 ddl-auto: update 는 이를 넓히지 않는다.
+ * 그래서 RECONCILE_REQUIRED 추가 이전에 만들어진 DB 는 대사 표시를 거부한다. 아래와 같은 ALTER 를 기동 시 실행한다.
+ * <pre>
+ * ALTER TABLE p_payment_retry DROP CONSTRAINT p_payment_retry_status_check;
+ * ALTER TABLE p_payment_retry ADD CONSTRAINT p_payment_retry_status_check CHECK (status IN (...));
+ * </pre>
+ * 재시도 스케줄러가 돌기 전에 끝나야 하므로 스키마 갱신(entityManagerFactory) 직후 빈 초기화 단계에서 실행하고,
+ * 실패하면 기동을 멈춘다. 이미 같은 제약이면 다시 만들기만 하므로 매 기동마다 실행해도 된다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PaymentRetryStatusCheckMigration {
+
+    private static final String TABLE = "p_payment_retry";
+    private static final String CONSTRAINT = "p_payment_retry_status_check";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        String values = Arrays.stream(PaymentRetryEntity.RetryStatus.values())
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Hibernate 가 만든 이름 없는 컬럼 제약도 이름이 달라질 수 있어 정의로 찾는다
+                List<String> existing = jdbcTemplate.queryForList("""
+                        SELECT conname FROM pg_constraint
+                        WHERE conrelid = ?::regclass AND contype = 'c'
+                          AND pg_get_constraintdef(oid) LIKE '%status%'
+                        """, String.class, TABLE);
+                existing.forEach(name -> jdbcTemplate.execute(
+                        "ALTER TABLE " + TABLE + " DROP CONSTRAINT \"" + name + "\""));
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + CONSTRAINT
+                        + " CHECK (status IN (" + values + "))");
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(TABLE + ".status CHECK 제약 갱신에 실패했습니다.", e);
+        }
+        log.info("[PAYMENT-RETRY] status CHECK 제약 갱신: {}", values);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.Spot.payments.presentation.controller;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,12 +11,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
+import com.example.Spot.global.infrastructure.kafka.DeadLetterReplayService;
 import com.example.Spot.global.presentation.ApiResponse;
 import com.example.Spot.global.presentation.code.GeneralSuccessCode;
 import com.example.Spot.payments.application.service.PaymentService;
+import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
 import com.example.Spot.payments.presentation.dto.request.PaymentRequestDto;
 import com.example.Spot.payments.presentation.dto.response.PaymentResponseDto;
 
@@ -28,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final DeadLetterReplayService deadLetterReplayService;
 
     @PostMapping("/{order_id}/confirm")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OWNER', 'MANAGER', 'MASTER')")
@@ -56,8 +62,13 @@ public class PaymentController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
-    public ApiResponse<PaymentResponseDto.PaymentList> getAllPayment() {
-        PaymentResponseDto.PaymentList response = paymentService.getAllPayment();
+    public ApiResponse<PaymentResponseDto.PaymentPage> getAllPayment(
+            @RequestParam(required = false) PaymentHistoryEntity.PaymentStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) UUID cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PaymentResponseDto.PaymentPage response = paymentService.getAllPayment(status, cursorCreatedAt, cursorId, size);
         return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, response);
     }
 
@@ -115,4 +126,16 @@ public class PaymentController {
         PaymentResponseDto.SavedPaymentHistory response = paymentService.savePaymentHistory(request);
         return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, response);
     }
+
+    // DLT에 쌓인 메시지를 재시도 토픽으로 되돌린다 (예: topic=spot.order.created, group=payment-group)
+    @PostMapping("/dlt/replay")
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+    public ApiResponse<DeadLetterReplayService.ReplayResult> replayDeadLetters(
+            @RequestParam String topic,
+            @RequestParam String group,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        DeadLetterReplayService.ReplayResult response = deadLetterReplayService.replay(topic, group, limit);
+        return ApiResponse.onSuccess(GeneralSuccessCode.GOOD_REQUEST, response);
+    }
 }
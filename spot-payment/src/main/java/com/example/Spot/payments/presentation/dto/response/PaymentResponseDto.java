@@ -52,10 +52,15 @@ public class PaymentResponseDto {
       @Schema(description = "결제 생성 시간", example = "2024-01-05T15:30:00") LocalDateTime createdAt) {}
 
   @Builder
-  @Schema(description = "결제 목록 응답")
-  public record PaymentList(
+  @Schema(description = "결제 목록 페이지 응답 (키셋 페이지네이션)")
+  public record PaymentPage(
       @Schema(description = "결제 목록") List<PaymentDetail> payments,
-      @Schema(description = "총 결제 수", example = "10") int totalCount) {}
+      @Schema(description = "이번 페이지 결제 수", example = "20") int size,
+      @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext,
+      @Schema(description = "다음 페이지 커서 - 생성 시간", example = "2024-01-05T15:30:00")
+          LocalDateTime nextCursorCreatedAt,
+      @Schema(description = "다음 페이지 커서 - 결제 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+          UUID nextCursorId) {}
 
   @Builder
   @Schema(description = "취소 상세 정보")
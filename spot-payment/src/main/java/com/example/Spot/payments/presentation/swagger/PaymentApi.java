@@ -1,13 +1,17 @@
 package com.example.Spot.payments.presentation.swagger;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.global.presentation.ApiResponse;
+import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
 import com.example.Spot.payments.presentation.dto.request.PaymentRequestDto;
 import com.example.Spot.payments.presentation.dto.response.PaymentResponseDto;
 
@@ -42,12 +46,16 @@ public interface PaymentApi {
             @Valid @RequestBody PaymentRequestDto.Cancel request,
             @AuthenticationPrincipal CustomUserDetails userDetails);
 
-    @Operation(summary = "결제 목록 조회", description = "모든 결제 목록을 조회합니다. (관리자 전용)")
+    @Operation(summary = "결제 목록 조회", description = "결제 목록을 최신순으로 커서 기반 페이지 조회합니다. (관리자 전용)")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
     })
-    ApiResponse<PaymentResponseDto.PaymentList> getAllPayment();
+    ApiResponse<PaymentResponseDto.PaymentPage> getAllPayment(
+            @Parameter(description = "결제 상태 (필터)") @RequestParam(required = false) PaymentHistoryEntity.PaymentStatus status,
+            @Parameter(description = "이전 페이지 nextCursorCreatedAt") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @Parameter(description = "이전 페이지 nextCursorId") @RequestParam(required = false) UUID cursorId,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size);
 
     @Operation(summary = "결제 상세 조회", description = "특정 결제의 상세 정보를 조회합니다.")
     @ApiResponses({
@@ -0,0 +1,226 @@
+package com.example.Spot.payments.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.payments.domain.entity.PaymentEntity;
+import com.example.Spot.payments.domain.entity.PaymentHistoryEntity;
+import com.example.Spot.payments.domain.entity.PaymentRetryEntity;
+import com.example.Spot.payments.domain.entity.UserBillingAuthEntity;
+import com.example.Spot.payments.domain.repository.PaymentHistoryRepository;
+import com.example.Spot.payments.domain.repository.PaymentKeyRepository;
+import com.example.Spot.payments.domain.repository.PaymentRepository;
+import com.example.Spot.payments.domain.repository.PaymentRetryRepository;
+import com.example.Spot.payments.domain.repository.UserBillingAuthRepository;
+import com.example.Spot.payments.infrastructure.client.TossPaymentClient;
+import com.example.Spot.payments.infrastructure.dto.TossPaymentResponse;
+
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSchedulerServiceTest {
+
+    private static final int USER_ID = 1;
+    private static final String BILLING_KEY = "billing-key";
+    private static final String PAYMENT_KEY = "payment-key";
+
+    @Mock private PaymentRetryRepository paymentRetryRepository;
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private PaymentHistoryRepository paymentHistoryRepository;
+    @Mock private PaymentHistoryService paymentHistoryService;
+    @Mock private PaymentKeyRepository paymentKeyRepository;
+    @Mock private UserBillingAuthRepository userBillingAuthRepository;
+    @Mock private TossPaymentClient tossPaymentClient;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID retryId = UUID.randomUUID();
+    private final UUID paymentId = UUID.randomUUID();
+
+    private PaymentSchedulerService service;
+    private PaymentRetryEntity retry;
+    private PaymentEntity payment;
+
+    @BeforeEach
+    void setUp() {
+        // 커넥션 풀 3 이면 동시 처리 수는 2 (하나는 선점 / 요청 처리용)
+        service = new PaymentSchedulerService(paymentRetryRepository, paymentRepository, paymentHistoryRepository,
+                paymentHistoryService, paymentKeyRepository, userBillingAuthRepository, tossPaymentClient,
+                new TransactionTemplate(transactionManager), meterRegistry, RetryRegistry.ofDefaults(),
+                10, 3, 20, 8, 10, 30, 3);
+
+        retry = PaymentRetryEntity.builder()
+                .paymentId(paymentId)
+                .failedPaymentHistoryId(UUID.randomUUID())
+                .maxRetryCount(3)
+                .nextRetryAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        ReflectionTestUtils.setField(retry, "id", retryId);
+
+        payment = PaymentEntity.builder()
+                .userId(USER_ID)
+                .orderId(UUID.randomUUID())
+                .title("주문 결제")
+                .totalAmount(15_000L)
+                .build();
+        ReflectionTestUtils.setField(payment, "id", paymentId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("빈 자리(동시 처리 수)만큼만 선점하고 선점한 항목은 IN_PROGRESS 가 된다")
+    void claimsUpToConcurrency() {
+        // given
+        given(paymentRetryRepository.findRetryablePaymentsForUpdate(any(), anyInt()))
+                .willReturn(List.of(retry))
+                .willReturn(List.of());
+
+        // when
+        service.retryAbortedPayments();
+
+        // then
+        verify(paymentRetryRepository).findRetryablePaymentsForUpdate(any(), eq(2));
+        assertThat(retry.getStatus()).isEqualTo(PaymentRetryEntity.RetryStatus.IN_PROGRESS);
+        assertThat(retry.getClaimedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("청구에 성공하면 청구 요청 / 승인 정보를 남기고 결과를 기록해 SUCCEEDED")
+    void recordsSuccess() {
+        // given
+        givenClaimedRetry();
+        given(tossPaymentClient.requestBillingPayment(eq(BILLING_KEY), any(), any(), any(), any(), any()))
+                .willReturn(TossPaymentResponse.builder().paymentKey(PAYMENT_KEY).build());
+
+        // when
+        service.retryAbortedPayments();
+
+        // then
+        waitUntil(() -> retry.getStatus() == PaymentRetryEntity.RetryStatus.SUCCEEDED);
+        verify(paymentHistoryService).createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.DONE);
+        verify(paymentKeyRepository).save(any());
+        assertThat(retry.getChargeRequestedAt()).isNotNull();
+        assertThat(retry.getPgPaymentKey()).isEqualTo(PAYMENT_KEY);
+        assertThat(retry.getAttemptCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("PG 가 거절하면 실패한 시도로 세고 청구 요청 표시를 지워 다시 대기열로 보낸다")
+    void recordsFailedAttempt() {
+        // given
+        givenClaimedRetry();
+        given(tossPaymentClient.requestBillingPayment(eq(BILLING_KEY), any(), any(), any(), any(), any()))
+                .willThrow(new IllegalStateException("code=REJECT_CARD_PAYMENT, message=한도 초과"));
+
+        // when
+        service.retryAbortedPayments();
+
+        // then
+        waitUntil(() -> retry.getAttemptCount() == 1);
+        verify(paymentHistoryService, timeout(2_000))
+                .createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.ABORTED);
+        assertThat(retry.getStatus()).isEqualTo(PaymentRetryEntity.RetryStatus.PENDING);
+        assertThat(retry.getLastErrorCode()).isEqualTo("REJECT_CARD_PAYMENT");
+        assertThat(retry.getChargeRequestedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("승인 후 결과 기록에 실패하면 실패로 세지 않고 승인 정보와 함께 대사 대상으로 돌린다")
+    void marksForReconciliationWhenRecordFails() {
+        // given
+        givenClaimedRetry();
+        given(tossPaymentClient.requestBillingPayment(eq(BILLING_KEY), any(), any(), any(), any(), any()))
+                .willReturn(TossPaymentResponse.builder().paymentKey(PAYMENT_KEY).build());
+        given(paymentKeyRepository.save(any())).willThrow(new IllegalStateException("connection timeout"));
+
+        // when
+        service.retryAbortedPayments();
+
+        // then
+        waitUntil(() -> retry.getStatus() == PaymentRetryEntity.RetryStatus.RECONCILE_REQUIRED);
+        assertThat(retry.getAttemptCount()).isZero();
+        assertThat(retry.getPgOrderId()).isEqualTo(payment.getOrderId());
+        assertThat(retry.getPgPaymentKey()).isEqualTo(PAYMENT_KEY);
+        assertThat(meterRegistry.counter("payment.retry.reconcile_required").count()).isEqualTo(1);
+        verify(paymentHistoryService, never())
+                .createPaymentHistory(paymentId, PaymentHistoryEntity.PaymentStatus.ABORTED);
+    }
+
+    @Test
+    @DisplayName("선점 만료 시 청구 요청한 항목은 대사 대상으로, 나머지만 대기열로 돌린다")
+    void releasesExpiredClaims() {
+        // given
+        given(paymentRetryRepository.markExpiredChargesForReconciliation(any())).willReturn(1);
+        given(paymentRetryRepository.releaseExpiredClaims(any())).willReturn(2);
+
+        // when
+        service.releaseExpiredClaims();
+
+        // then
+        ArgumentCaptor<LocalDateTime> reconcileThreshold = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> releaseThreshold = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(paymentRetryRepository).markExpiredChargesForReconciliation(reconcileThreshold.capture());
+        verify(paymentRetryRepository).releaseExpiredClaims(releaseThreshold.capture());
+
+        LocalDateTime expected = LocalDateTime.now().minusMinutes(10);
+        assertThat(Duration.between(reconcileThreshold.getValue(), expected).abs()).isLessThan(Duration.ofSeconds(5));
+        assertThat(releaseThreshold.getValue()).isEqualTo(reconcileThreshold.getValue());
+        assertThat(meterRegistry.counter("payment.retry.reconcile_required").count()).isEqualTo(1);
+    }
+
+    private void givenClaimedRetry() {
+        given(paymentRetryRepository.findRetryablePaymentsForUpdate(any(), anyInt()))
+                .willReturn(List.of(retry))
+                .willReturn(List.of());
+        given(paymentRetryRepository.findById(retryId)).willReturn(Optional.of(retry));
+        given(paymentRepository.findById(paymentId)).willReturn(Optional.of(payment));
+        given(userBillingAuthRepository.findActiveByUserId(USER_ID)).willReturn(Optional.of(
+                UserBillingAuthEntity.builder()
+                        .userId(USER_ID)
+                        .authKey("auth-key")
+                        .customerKey("customer-key")
+                        .billingKey(BILLING_KEY)
+                        .build()));
+    }
+
+    // 재시도는 가상 스레드에서 돌기 때문에 결과가 기록될 때까지 기다린다
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건이 2초 안에 충족되지 않았습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
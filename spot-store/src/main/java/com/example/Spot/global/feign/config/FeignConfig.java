@@ -3,13 +3,15 @@ package com.example.Spot.global.feign.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.example.Spot.global.infrastructure.config.security.GatewayIdentityVerifier;
+
 import feign.RequestInterceptor;
 
 @Configuration
 public class FeignConfig {
 
     @Bean
-    public RequestInterceptor feignHeaderRelayInterceptor() {
-        return new FeignHeaderRelayInterceptor();
+    public RequestInterceptor feignHeaderRelayInterceptor(GatewayIdentityVerifier gatewayIdentityVerifier) {
+        return new FeignHeaderRelayInterceptor(gatewayIdentityVerifier);
     }
 }
@@ -17,9 +17,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JWTUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
-    public SecurityConfig(JWTUtil jwtUtil) {
+    public SecurityConfig(JWTUtil jwtUtil, GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.jwtUtil = jwtUtil;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
     @Bean
@@ -55,7 +57,7 @@ public class SecurityConfig {
         );
 
         http.addFilterBefore(
-                new JWTFilter(jwtUtil),
+                new JWTFilter(jwtUtil, gatewayIdentityVerifier),
                 UsernamePasswordAuthenticationFilter.class
         );
 
@@ -0,0 +1,61 @@
+package com.example.Spot.internal.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.Spot.internal.dto.InternalMenuOptionResponse;
+import com.example.Spot.internal.dto.InternalMenuResponse;
+import com.example.Spot.internal.dto.InternalOrderValidationRequest;
+import com.example.Spot.internal.dto.InternalOrderValidationResponse;
+import com.example.Spot.internal.dto.InternalStoreResponse;
+import com.example.Spot.menu.domain.repository.MenuOptionRepository;
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/internal")
+@RequiredArgsConstructor
+public class InternalOrderValidationController {
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final MenuOptionRepository menuOptionRepository;
+
+    // 주문 생성 시 가게/메뉴/옵션을 한 번에 조회 (메뉴·옵션 개수와 무관하게 쿼리 3회)
+    @PostMapping("/orders/validate")
+    @Transactional(readOnly = true)
+    public ResponseEntity<InternalOrderValidationResponse> validateOrder(
+            @Valid @RequestBody InternalOrderValidationRequest request) {
+
+        StoreEntity store = storeRepository.findById(request.getStoreId())
+                .orElseThrow(() -> new IllegalArgumentException("가게를 찾을 수 없습니다."));
+
+        List<InternalMenuResponse> menus = request.getMenuIds().isEmpty()
+                ? List.of()
+                : menuRepository.findAllByIdIn(request.getMenuIds()).stream()
+                        .map(InternalMenuResponse::from)
+                        .toList();
+
+        List<InternalMenuOptionResponse> menuOptions = request.getMenuOptionIds().isEmpty()
+                ? List.of()
+                : menuOptionRepository.findAllByIdIn(request.getMenuOptionIds()).stream()
+                        .map(InternalMenuOptionResponse::from)
+                        .toList();
+
+        return ResponseEntity.ok(InternalOrderValidationResponse.builder()
+                .store(InternalStoreResponse.from(store))
+                .menus(menus)
+                .menuOptions(menuOptions)
+                .build());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.Spot.internal.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InternalOrderValidationRequest {
+
+    @NotNull
+    private UUID storeId;
+
+    @Builder.Default
+    private List<UUID> menuIds = new ArrayList<>();
+
+    @Builder.Default
+    private List<UUID> menuOptionIds = new ArrayList<>();
+}
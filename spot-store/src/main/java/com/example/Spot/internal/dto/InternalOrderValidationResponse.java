@@ -0,0 +1,19 @@
+package com.example.Spot.internal.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InternalOrderValidationResponse {
+
+    private InternalStoreResponse store;
+    private List<InternalMenuResponse> menus;
+    private List<InternalMenuOptionResponse> menuOptions;
+}
@@ -19,6 +19,7 @@ import com.example.Spot.menu.presentation.dto.response.CreateMenuOptionResponseD
 import com.example.Spot.menu.presentation.dto.response.MenuOptionAdminResponseDto;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +29,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
     private final MenuOptionRepository menuOptionRepository;
+    private final StoreEventProducer storeEventProducer;
 
     // *********** //
     // 메뉴 옵션 생성 //
@@ -51,6 +53,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         } catch (DataIntegrityViolationException e) {
             throw new IllegalArgumentException("이미 같은 이름의 옵션이 존재합니다.");
         }
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, option.getId());
 
         return CreateMenuOptionResponseDto.from(option);
     }
@@ -87,6 +90,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
             option.changeAvailable(request.isAvailable());
         }
 
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, optionId);
+
         return MenuOptionAdminResponseDto.of(option, userRole);
     }
 
@@ -118,6 +123,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         }
 
         option.softDelete(userId);
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, optionId);
     }
 
     // *********** //
@@ -147,6 +153,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         }
 
         option.changeHidden(request.isHidden());
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, optionId);
     }
 
     private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
@@ -24,6 +24,7 @@ import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +34,7 @@ public class MenuServiceImpl implements MenuService {
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final MenuOptionRepository menuOptionRepository;
+    private final StoreEventProducer storeEventProducer;
 
     // ******* //
     // 메뉴 조회 //
@@ -185,6 +187,7 @@ public class MenuServiceImpl implements MenuService {
 
         MenuEntity menu = request.toEntity(store);
         menuRepository.save(menu);
+        storeEventProducer.reserveMenuChanged(storeId, menu.getId());
 
         return new CreateMenuResponseDto(menu);
     }
@@ -220,6 +223,8 @@ public class MenuServiceImpl implements MenuService {
             menu.changeAvailable(request.isAvailable());
         }
 
+        storeEventProducer.reserveMenuChanged(storeId, menuId);
+
         List<MenuOptionEntity> options;
         boolean isAdmin = userRole == Role.MASTER || userRole == Role.MANAGER;
 
@@ -249,6 +254,7 @@ public class MenuServiceImpl implements MenuService {
         validateOwner(menu.getStore(), userId, userRole, "본인 가게의 메뉴만 삭제할 수 있습니다.");
 
         menu.softDelete(userId);
+        storeEventProducer.reserveMenuChanged(menu.getStore().getId(), menuId);
     }
 
     // ******* //
@@ -267,6 +273,7 @@ public class MenuServiceImpl implements MenuService {
         validateOwner(menu.getStore(), userId, userRole, "본인 가게의 메뉴만 숨길 수 있습니다.");
 
         menu.changeHidden(request.isHidden());
+        storeEventProducer.reserveMenuChanged(menu.getStore().getId(), menuId);
     }
 
     private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
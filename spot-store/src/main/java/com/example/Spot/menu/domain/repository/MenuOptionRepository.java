@@ -1,5 +1,6 @@
 package com.example.Spot.menu.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,9 @@ public interface MenuOptionRepository extends JpaRepository<MenuOptionEntity, UU
     @Query("SELECT mo FROM MenuOptionEntity mo WHERE mo.id = :optionId")
     Optional<MenuOptionEntity> findByIdWithLock(@Param("optionId") UUID optionId);
 
+    // [내부용] 주문 검증 시 옵션 일괄 조회 (IN 쿼리 1회)
+    List<MenuOptionEntity> findAllByIdIn(Collection<UUID> optionIds);
+
     List<MenuOptionEntity> findAllByMenuIdInAndIsDeletedFalse(List<UUID> menuId);
 
     List<MenuOptionEntity> findAllByMenuIdIn(List<UUID> menuIds);
@@ -1,5 +1,6 @@
 package com.example.Spot.menu.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,9 +24,17 @@ public interface MenuRepository extends JpaRepository<MenuEntity, UUID> {
     @Query("SELECT m FROM MenuEntity m WHERE m.store.id = :storeId AND m.id = :menuId")
     Optional<MenuEntity> findByStoreIdAndIdWithLock(@Param("storeId") UUID storeId, @Param("menuId") UUID menuId);
 
+    // [내부용] 주문 검증 시 메뉴 일괄 조회 (IN 쿼리 1회)
+    List<MenuEntity> findAllByIdIn(Collection<UUID> menuIds);
+
     @Query("select m from MenuEntity m where m.store.id = :storeId AND m.isDeleted = false AND m.isHidden = false")
     List<MenuEntity> findAllActiveMenus(@Param("storeId") UUID storeId);
 
+    // [매장 상세 스냅샷] 활성 메뉴 + 옵션 한 번에 조회
+    @Query("select distinct m from MenuEntity m left join fetch m.options " +
+            "where m.store.id = :storeId AND m.isDeleted = false AND m.isHidden = false")
+    List<MenuEntity> findAllActiveMenusWithOptions(@Param("storeId") UUID storeId);
+
     // [손님용] 메뉴 상세 조회
     // 1. DISTINCT: 1:N 조인 시 데이터 중복 방지 (JPA 엔티티 중복 제거)
     // 2. 옵션이 없는 메뉴도 조회되어야 하므로 'LEFT' 사용
@@ -16,6 +16,7 @@ import com.example.Spot.review.presentation.dto.request.ReviewUpdateRequest;
 import com.example.Spot.review.presentation.dto.response.ReviewResponse;
 import com.example.Spot.review.presentation.dto.response.ReviewStatsResponse;
 import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.entity.StoreRating;
 import com.example.Spot.store.domain.repository.StoreRepository;
 
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
@@ -56,6 +57,7 @@ public class ReviewService {
 
         review.validateRating();
         ReviewEntity savedReview = reviewRepository.save(review);
+        applyRatingDelta(store.getId(), null, savedReview.getRating());
 
         return ReviewResponse.fromEntity(savedReview);
     }
@@ -65,14 +67,13 @@ public class ReviewService {
         return reviews.map(ReviewResponse::fromEntity);
     }
 
+    // 리뷰 테이블 집계 없이 매장에 유지되는 별점 분포로 응답한다
     public ReviewStatsResponse getStoreReviewStats(UUID storeId) {
-        Double averageRating = reviewRepository.getAverageRatingByStoreId(storeId);
-        Long totalReviews = reviewRepository.countByStoreIdAndIsDeletedFalse(storeId);
+        StoreRating rating = storeRepository.findById(storeId)
+                .map(StoreEntity::getRating)
+                .orElseGet(StoreRating::empty);
 
-        return new ReviewStatsResponse(
-                averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0,
-                totalReviews
-        );
+        return new ReviewStatsResponse(rating.getAverage(), rating.getCount(), rating.getDistribution());
     }
 
     @Transactional
@@ -85,8 +86,10 @@ public class ReviewService {
             throw new AccessDeniedException("본인이 작성한 리뷰만 수정할 수 있습니다.");
         }
 
+        Integer previousRating = review.getRating();
         review.updateReview(request.rating(), request.content(), userId);
         review.validateRating();
+        applyRatingDelta(review.getStore().getId(), previousRating, review.getRating());
 
         return ReviewResponse.fromEntity(review);
     }
@@ -102,5 +105,21 @@ public class ReviewService {
         }
 
         review.softDelete(userId);
+        applyRatingDelta(review.getStore().getId(), review.getRating(), null);
+    }
+
+    // 리뷰와 같은 트랜잭션에서 매장 별점 분포를 옮긴다 (removed 칸 -1, added 칸 +1)
+    private void applyRatingDelta(UUID storeId, Integer removed, Integer added) {
+        if (removed != null && removed.equals(added)) {
+            return;
+        }
+        int[] delta = new int[6];
+        if (removed != null) {
+            delta[removed]--;
+        }
+        if (added != null) {
+            delta[added]++;
+        }
+        storeRepository.applyRatingDelta(storeId, delta[1], delta[2], delta[3], delta[4], delta[5]);
     }
 }
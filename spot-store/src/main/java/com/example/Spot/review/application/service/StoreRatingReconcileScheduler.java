@@ -0,0 +1,38 @@
+package com.example.Spot.review.application.service;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingReconcileScheduler {
+
+    private final StoreRatingReconcileService reconcileService;
+
+    // 새벽 보정까지 기다리지 않도록 기동 시 별점 분포가 리뷰와 어긋나 있으면 한 번 재계산한다
+    @EventListener(ApplicationStartedEvent.class)
+    public void seedOnStartup() {
+        try {
+            if (reconcileService.needsReconcile()) {
+                reconcileService.reconcile();
+            }
+        } catch (Exception e) {
+            log.error("[STORE-RATING-RECONCILE] startup seed failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${spot.store.rating-reconcile.cron:0 30 4 * * *}")
+    public void run() {
+        try {
+            reconcileService.reconcile();
+        } catch (Exception e) {
+            log.error("[STORE-RATING-RECONCILE] scheduler failed", e);
+        }
+    }
+}
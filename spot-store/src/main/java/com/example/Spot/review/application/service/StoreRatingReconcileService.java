@@ -0,0 +1,33 @@
+package com.example.Spot.review.application.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRatingReconcileService {
+
+    private final StoreRepository storeRepository;
+
+    // 별점 분포 컬럼은 0 으로 추가되므로, 첫 배포 직후처럼 분포 합계가 실제 리뷰 수와 다르면 재계산이 필요하다
+    @Transactional(readOnly = true)
+    public boolean needsReconcile() {
+        return storeRepository.sumRatingCounts() != storeRepository.countActiveReviews();
+    }
+
+    // 증감 누락(직접 수정한 데이터, 실행 중 겹친 리뷰 트랜잭션 등)으로 어긋난 매장 별점 분포를 리뷰 기준으로 되돌린다
+    @Transactional
+    public void reconcile() {
+        int correctedCount = storeRepository.reconcileRatings();
+
+        if (correctedCount > 0) {
+            log.warn("[STORE-RATING-RECONCILE] corrected {} stores", correctedCount);
+        }
+    }
+}
@@ -45,16 +45,4 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, UUID> {
             "WHERE r.id = :reviewId " +
             "AND r.isDeleted = false")
     Optional<ReviewEntity> findByIdWithDetails(@Param("reviewId") UUID reviewId);
-
-    // 가게의 평균 별점 계산
-    @Query("SELECT AVG(r.rating) FROM ReviewEntity r " +
-            "WHERE r.store.id = :storeId " +
-            "AND r.isDeleted = false")
-    Double getAverageRatingByStoreId(@Param("storeId") UUID storeId);
-
-    // 가게의 리뷰 개수
-    @Query("SELECT COUNT(r) FROM ReviewEntity r " +
-            "WHERE r.store.id = :storeId " +
-            "AND r.isDeleted = false")
-    Long countByStoreIdAndIsDeletedFalse(@Param("storeId") UUID storeId);
 }
@@ -1,7 +1,10 @@
 package com.example.Spot.review.presentation.dto.response;
 
+import java.util.List;
+
 public record ReviewStatsResponse(
         Double averageRating,
-        Long totalReviews
+        Long totalReviews,
+        List<Integer> ratingDistribution // 1점부터 5점까지 리뷰 수
 ) {
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import com.example.Spot.store.presentation.dto.request.CategoryRequestDTO;
 import com.example.Spot.store.presentation.dto.response.CategoryResponseDTO;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 
 public interface CategoryService {
 
@@ -12,8 +13,8 @@ public interface CategoryService {
     // 매장 카테고리 조회 //
     // ************* //
     List<CategoryResponseDTO.CategoryItem> getAllCategory();
-    List<CategoryResponseDTO.StoreSummary> getStoresByCategoryId(UUID categoryId);
-    List<CategoryResponseDTO.StoreSummary> getStoresByCategoryName(String name);
+    StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStoresByCategoryId(UUID categoryId, UUID cursor, int size);
+    StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStoresByCategoryName(String name, UUID cursor, int size);
 
     // ************** //
     // 매장 카테고리 생성 //
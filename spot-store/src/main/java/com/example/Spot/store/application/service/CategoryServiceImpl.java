@@ -1,20 +1,28 @@
 package com.example.Spot.store.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.store.domain.entity.CategoryEntity;
-import com.example.Spot.store.domain.entity.StoreCategoryEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.CategoryRepository;
 import com.example.Spot.store.domain.repository.StoreCategoryRepository;
+import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.cache.StoreCountCache;
+import com.example.Spot.store.infrastructure.event.StoreDetailChangedEvent;
+import com.example.Spot.store.infrastructure.repository.StoreListingRepository;
 import com.example.Spot.store.presentation.dto.request.CategoryRequestDTO;
 import com.example.Spot.store.presentation.dto.response.CategoryResponseDTO;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +34,10 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final StoreCategoryRepository storeCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreRepository storeRepository;
+    private final StoreListingRepository storeListingRepository;
+    private final StoreCountCache storeCountCache;
 
     // ************* //
     // 매장 카테고리 조회 //
@@ -40,46 +52,46 @@ public class CategoryServiceImpl implements CategoryService {
 
 
     @Override
-    public List<CategoryResponseDTO.StoreSummary> getStoresByCategoryId(UUID categoryId) {
+    public StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStoresByCategoryId(UUID categoryId, UUID cursor, int size) {
         CategoryEntity category = categoryRepository.findByIdAndIsDeletedFalse(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + categoryId));
 
-        List<StoreEntity> stores = getDistinctStoresByCategoryId(category.getId());
-
-        return stores.stream()
-                .map(this::toStoreSummary)
-                .toList();
+        return getStoresPage(category.getId(), cursor, size);
     }
 
     @Override
-    public List<CategoryResponseDTO.StoreSummary> getStoresByCategoryName(String categoryName) {
+    public StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStoresByCategoryName(String categoryName, UUID cursor, int size) {
         CategoryEntity category = categoryRepository.findByNameAndIsDeletedFalse(categoryName);
 
         if (category == null) {
             throw new IllegalArgumentException("Category not found: " + categoryName);
         }
-        
-        List<StoreEntity> stores = getDistinctStoresByCategoryId(category.getId());
 
-        return stores.stream()
-                .map(this::toStoreSummary)
-                .toList();
+        return getStoresPage(category.getId(), cursor, size);
     }
 
-    // 카테고리 ID로 중복 제거된 Store 목록 조회
-    private List<StoreEntity> getDistinctStoresByCategoryId(UUID categoryId) {
-        List<StoreCategoryEntity> maps =
-                storeCategoryRepository.findAllActiveByCategoryIdWithStore(categoryId);
-
-        return maps.stream()
-                .map(StoreCategoryEntity::getStore)
-                .collect(Collectors.toMap(
-                        StoreEntity::getId,
-                        s -> s,
-                        (a, b) -> a
-                ))
-                .values().stream()
+    // 카테고리의 store_id 페이지를 인덱스에서 먼저 구하고(keyset) 그 id 로만 매장을 조회한다
+    private StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStoresPage(UUID categoryId, UUID cursor, int size) {
+        List<UUID> ids = storeListingRepository.findStoreIdsByCategory(categoryId, cursor, size + 1);
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+        long total = storeCountCache.get("category:" + categoryId,
+                () -> storeListingRepository.countStoresByCategory(categoryId));
+
+        Map<UUID, StoreEntity> storesById = ids.isEmpty()
+                ? Map.of()
+                : storeRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(StoreEntity::getId, Function.identity()));
+
+        List<CategoryResponseDTO.StoreSummary> content = ids.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .map(this::toStoreSummary)
                 .toList();
+
+        return new StoreCursorResponse<>(content, total, hasNext, hasNext ? ids.get(ids.size() - 1) : null);
     }
 
 
@@ -118,6 +130,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + categoryId));
 
         category.updateName(request.name());
+        publishStoreDetailChanged(categoryId);
         return new CategoryResponseDTO.CategoryDetail(category.getId(), category.getName());
     }
 
@@ -132,6 +145,15 @@ public class CategoryServiceImpl implements CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + categoryId));
 
         category.softDelete(userId);
+        publishStoreDetailChanged(categoryId);
+    }
+
+    // 카테고리 이름은 매장 상세에 포함되므로 해당 카테고리의 매장 스냅샷을 무효화한다
+    private void publishStoreDetailChanged(UUID categoryId) {
+        List<UUID> storeIds = storeCategoryRepository.findStoreIdsByCategoryId(categoryId);
+        if (!storeIds.isEmpty()) {
+            eventPublisher.publishEvent(new StoreDetailChangedEvent(storeIds));
+        }
     }
 
 
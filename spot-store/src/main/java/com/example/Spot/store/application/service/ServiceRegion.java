@@ -0,0 +1,103 @@
+package com.example.Spot.store.application.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.store.domain.GeoHash;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌표가 있는 매장의 서비스 지역 판정.
+ * 설정(service.region.bounds)의 지역 경계 상자를 기동 시 geohash 셀 집합으로 바꿔 두고,
+ * 요청마다 매장 geohash 의 접두어 하나만 집합에서 찾는다.
+ */
+@Slf4j
+@Component
+@ConfigurationProperties(prefix = "service.region")
+public class ServiceRegion {
+
+    private int cellPrecision = 6;
+    private List<Bounds> bounds = new ArrayList<>();
+
+    private Set<String> cells = Set.of();
+
+    public void setCellPrecision(int cellPrecision) {
+        this.cellPrecision = cellPrecision;
+    }
+
+    public void setBounds(List<Bounds> bounds) {
+        this.bounds = bounds;
+    }
+
+    @PostConstruct
+    public void precomputeCells() {
+        Set<String> computed = new HashSet<>();
+        for (Bounds region : bounds) {
+            Set<String> regionCells = GeoHash.cover(
+                    region.getSouth(), region.getWest(), region.getNorth(), region.getEast(), cellPrecision);
+            computed.addAll(regionCells);
+            log.info("[SERVICE-REGION] {} -> geohash 셀 {}개 (precision={})", region.getName(), regionCells.size(), cellPrecision);
+        }
+        this.cells = Set.copyOf(computed);
+    }
+
+    public int getCellPrecision() {
+        return cellPrecision;
+    }
+
+    public Set<String> getCells() {
+        return cells;
+    }
+
+    public boolean contains(String geohash) {
+        return geohash != null
+                && geohash.length() >= cellPrecision
+                && cells.contains(geohash.substring(0, cellPrecision));
+    }
+
+    public static class Bounds {
+        private String name;
+        private double south;
+        private double west;
+        private double north;
+        private double east;
+
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+        public double getSouth() {
+            return south;
+        }
+        public void setSouth(double south) {
+            this.south = south;
+        }
+        public double getWest() {
+            return west;
+        }
+        public void setWest(double west) {
+            this.west = west;
+        }
+        public double getNorth() {
+            return north;
+        }
+        public void setNorth(double north) {
+            this.north = north;
+        }
+        public double getEast() {
+            return east;
+        }
+        public void setEast(double east) {
+            this.east = east;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.Spot.store.application.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.cache.StoreDetailSnapshot;
+import com.example.Spot.store.infrastructure.cache.StoreDetailSnapshotCache;
+import com.example.Spot.store.infrastructure.event.StoreDetailChangedEvent;
+import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객용 매장 상세 스냅샷.
+ * 조회는 Redis 스냅샷 한 번으로 끝나고, 없을 때만 DB(매장 + 카테고리 + 스태프, 메뉴 + 옵션)에서 만들어 저장한다.
+ * 매장 / 메뉴 / 옵션 / 카테고리 / 스태프 변경이 커밋되면 버전을 올려 스냅샷을 지우고 바로 다시 만든다.
+ */
+@Slf4j
+@Service
+public class StoreDetailSnapshotService {
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final StoreDetailSnapshotCache snapshotCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readTransaction;
+
+    public StoreDetailSnapshotService(StoreRepository storeRepository,
+                                      MenuRepository menuRepository,
+                                      StoreDetailSnapshotCache snapshotCache,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.menuRepository = menuRepository;
+        this.snapshotCache = snapshotCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        // 커밋 이후(afterCommit)에도 DB 를 읽을 수 있도록 항상 새 트랜잭션으로 읽는다
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public StoreDetailSnapshot get(UUID storeId) {
+        Optional<StoreDetailSnapshot> cached = snapshotCache.get(storeId);
+        if (cached.isPresent()) {
+            count("hit");
+            return cached.get();
+        }
+
+        count("miss");
+        StoreDetailSnapshot snapshot = build(storeId);
+        snapshotCache.putIfCurrent(storeId, snapshot);
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreDetailChanged(StoreDetailChangedEvent event) {
+        snapshotCache.invalidate(event.storeIds());
+
+        // 카테고리 변경처럼 여러 매장이 한 번에 바뀌면 다음 조회 때 채운다
+        if (event.storeIds().size() != 1) {
+            return;
+        }
+        UUID storeId = event.storeIds().iterator().next();
+        try {
+            snapshotCache.putIfCurrent(storeId, build(storeId));
+            count("rebuild");
+        } catch (EntityNotFoundException e) {
+            // 삭제 / 미승인 매장은 고객에게 보이지 않으므로 스냅샷을 만들지 않는다
+        } catch (RuntimeException e) {
+            log.warn("[STORE-DETAIL-SNAPSHOT] 재생성 실패: storeId={}, error={}", storeId, e.getMessage());
+        }
+    }
+
+    // 버전을 먼저 읽고 DB 를 읽는다 (그 사이 변경이 커밋되면 저장 시 버전이 달라 버려진다)
+    private StoreDetailSnapshot build(UUID storeId) {
+        long version = snapshotCache.currentVersion(storeId);
+
+        return readTransaction.execute(status -> {
+            StoreEntity store = storeRepository.findByIdWithDetails(storeId, false)
+                    .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
+            List<MenuPublicResponseDto> menus = menuRepository.findAllActiveMenusWithOptions(storeId).stream()
+                    .map(menu -> MenuPublicResponseDto.of(menu, menu.getOptions()))
+                    .toList();
+
+            StoreDetailResponse detail = StoreDetailResponse.fromEntity(store, menus);
+            return new StoreDetailSnapshot(version, etag(version, detail), store.getGeohash(), detail);
+        });
+    }
+
+    private String etag(long version, StoreDetailResponse detail) {
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(objectMapper.writeValueAsBytes(detail));
+            return "\"" + version + "-" + Long.toHexString(crc.getValue()) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매장 상세 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("store.detail_snapshot.requests", "result", result).increment();
+    }
+}
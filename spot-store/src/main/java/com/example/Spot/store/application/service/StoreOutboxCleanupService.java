@@ -0,0 +1,30 @@
+package com.example.Spot.store.application.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.store.domain.repository.StoreOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreOutboxCleanupService {
+
+    private static final int RETENTION_DAYS = 7;
+    private final StoreOutboxRepository storeOutboxRepository;
+
+    @Transactional
+    public void cleanup() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        int deletedCount = storeOutboxRepository.deleteOlderThan(threshold);
+
+        if (deletedCount > 0) {
+            log.info("[STORE_OUTBOX-CLEANUP] deleted {} rows (threshold={})", deletedCount, threshold);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.Spot.store.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -10,11 +15,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.domain.repository.MenuRepository;
 import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
+import com.example.Spot.store.domain.GeoHash;
 import com.example.Spot.store.domain.StoreStatus;
 import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.entity.StoreCategoryEntity;
@@ -25,11 +32,21 @@ import com.example.Spot.store.domain.repository.StoreRepository;
 import com.example.Spot.store.infrastructure.aop.AdminOnly;
 import com.example.Spot.store.infrastructure.aop.StoreValidationContext;
 import com.example.Spot.store.infrastructure.aop.ValidateStoreAuthority;
+import com.example.Spot.store.infrastructure.cache.StoreCountCache;
+import com.example.Spot.store.infrastructure.cache.StoreDetailSnapshot;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
+import com.example.Spot.store.infrastructure.repository.StoreListingRepository;
+import com.example.Spot.store.infrastructure.repository.StoreLocationRepository;
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreNearbyResponse;
+import com.example.Spot.store.presentation.dto.response.StoreSearchResponse;
+import com.example.Spot.store.presentation.dto.response.StoreSuggestionResponse;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +56,8 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class StoreService {
 
+    private static final int MAX_NEARBY_CELLS = 16;
+
     @Value("${service.active-regions}")
     private List<String> activeRegions;
 
@@ -47,6 +66,13 @@ public class StoreService {
     private final CategoryRepository categoryRepository;
     private final MenuRepository menuRepository;
     private final UserCallService userCallService;
+    private final StoreEventProducer storeEventProducer;
+    private final StoreSearchRepository storeSearchRepository;
+    private final StoreLocationRepository storeLocationRepository;
+    private final ServiceRegion serviceRegion;
+    private final StoreDetailSnapshotService storeDetailSnapshotService;
+    private final StoreListingRepository storeListingRepository;
+    private final StoreCountCache storeCountCache;
     
     // *********** //
     // 매장 상세 조회 //
@@ -62,13 +88,13 @@ public class StoreService {
 
     public StoreDetailResponse getStoreDetails(UUID storeId, Integer userId, boolean isAdmin) {
 
-        StoreEntity store = storeRepository.findByIdWithDetails(storeId, isAdmin)
-                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
-
         if (!isAdmin) {
-            validateServiceRegion(store.getRoadAddress());
+            return getStoreDetailSnapshot(storeId).detail();
         }
 
+        StoreEntity store = storeRepository.findByIdWithDetails(storeId, true)
+                .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
+
         List<MenuEntity> menuEntities = menuRepository.findAllActiveMenus(storeId);
         List<MenuPublicResponseDto> menus = menuEntities.stream()
                 .map(menu -> MenuPublicResponseDto.of(menu, menu.getOptions()))
@@ -77,16 +103,145 @@ public class StoreService {
         return StoreDetailResponse.fromEntity(store, menus);
     }
 
+    // 고객용 매장 상세: Redis 스냅샷 한 번 읽기로 끝난다 (트랜잭션 / DB 커넥션 없이)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StoreDetailSnapshot getStoreDetailSnapshot(UUID storeId) {
+
+        StoreDetailSnapshot snapshot = storeDetailSnapshotService.get(storeId);
+        validateServiceRegion(snapshot.geohash(), snapshot.detail().roadAddress());
+        return snapshot;
+    }
+
+    // ******* //
+    // 매장 목록 //
+    // ******* //
+    // id 페이지를 인덱스에서 먼저 구하고 그 id 로만 매장 + 카테고리를 조회한다. 전체 개수는 캐시된 값을 쓴다
     public Page<StoreListResponse> getAllStores(boolean isAdmin, Pageable pageable) {
 
-        Page<StoreEntity> stores = storeRepository.findAllByRole(isAdmin, pageable);
-        return convertToPageResponse(stores, isAdmin, pageable);
+        List<UUID> ids = storeListingRepository.findStoreIds(isAdmin, null, pageable.getOffset(), pageable.getPageSize());
+        long total = countListedStores(isAdmin);
+
+        return convertToPageResponse(new PageImpl<>(findStoresInOrder(ids), pageable, total), isAdmin);
+    }
+
+    // keyset 목록: 직전 페이지의 마지막 id 이후부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다
+    public StoreCursorResponse<StoreListResponse> browseStores(UUID cursor, int size, boolean isAdmin) {
+
+        List<UUID> ids = storeListingRepository.findStoreIds(isAdmin, cursor, 0, size + 1);
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+        long total = countListedStores(isAdmin);
+
+        // 서비스 지역 필터로 페이지가 짧아져도 커서는 id 페이지 기준으로 이어간다
+        List<StoreListResponse> content = findStoresInOrder(ids).stream()
+                .filter(store -> isAdmin || isServiceable(store))
+                .map(StoreListResponse::fromEntity)
+                .toList();
+
+        return new StoreCursorResponse<>(content, total, hasNext, hasNext ? ids.get(ids.size() - 1) : null);
+    }
+
+    // 고객 목록의 전체 개수는 내용과 같은 서비스 지역 조건으로 센다
+    private long countListedStores(boolean isAdmin) {
+        if (isAdmin) {
+            return storeCountCache.get("stores:all", storeListingRepository::countAllStores);
+        }
+        return storeCountCache.get("stores:serviceable", () -> storeListingRepository.countServiceableStores(
+                serviceRegion.getCellPrecision(), serviceRegion.getCells(), activeRegions));
+    }
+
+    // id 순서를 유지한 매장 + 카테고리 조회 (IN 조회 결과는 순서가 보장되지 않는다)
+    private List<StoreEntity> findStoresInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, StoreEntity> storesById = storeRepository.findAllWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(StoreEntity::getId, Function.identity()));
+
+        return ids.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // ******* //
+    // 매장 검색 //
+    // ******* //
+    // 관련도순 id 페이지를 먼저 구하고 그 id 로만 매장을 조회한다 (size + 1 로 다음 페이지 여부 판단)
+    public StoreSearchResponse searchStores(String keyword, Double cursorScore, UUID cursorId, int size, boolean isAdmin) {
+
+        List<StoreSearchRepository.Hit> hits =
+                storeSearchRepository.search(keyword.trim(), isAdmin, cursorScore, cursorId, size + 1);
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        if (hits.isEmpty()) {
+            return new StoreSearchResponse(List.of(), false, null, null);
+        }
+
+        Map<UUID, StoreEntity> storesById = storeRepository.findAllWithCategoriesByIdIn(
+                        hits.stream().map(StoreSearchRepository.Hit::storeId).toList())
+                .stream()
+                .collect(Collectors.toMap(StoreEntity::getId, Function.identity()));
+
+        // 서비스 지역 필터로 페이지가 짧아질 수 있지만 커서는 DB 결과의 마지막 행 기준이라 누락되지 않는다
+        List<StoreListResponse> content = hits.stream()
+                .map(hit -> storesById.get(hit.storeId()))
+                .filter(Objects::nonNull)
+                .filter(store -> isAdmin || isServiceable(store))
+                .map(StoreListResponse::fromEntity)
+                .toList();
+
+        StoreSearchRepository.Hit last = hits.get(hits.size() - 1);
+        return hasNext
+                ? new StoreSearchResponse(content, true, last.score(), last.storeId())
+                : new StoreSearchResponse(content, false, null, null);
+    }
+
+    // ********** //
+    // 주변 매장 조회 //
+    // ********** //
+    // 반경을 덮는 geohash 셀로 후보를 좁히고 거리순 (distance, id) 커서로 페이지를 나눈다
+    public StoreNearbyResponse getNearbyStores(double latitude, double longitude, int radiusMeters,
+                                               Long cursorDistance, UUID cursorId, int size, boolean isAdmin) {
+
+        Set<String> cells = GeoHash.cover(latitude, longitude, radiusMeters, MAX_NEARBY_CELLS);
+        List<StoreLocationRepository.Hit> hits = storeLocationRepository.findNearby(
+                latitude, longitude, radiusMeters, cells, isAdmin, cursorDistance, cursorId, size + 1);
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        if (hits.isEmpty()) {
+            return new StoreNearbyResponse(List.of(), false, null, null);
+        }
+
+        Map<UUID, StoreEntity> storesById = storeRepository.findAllWithCategoriesByIdIn(
+                        hits.stream().map(StoreLocationRepository.Hit::storeId).toList())
+                .stream()
+                .collect(Collectors.toMap(StoreEntity::getId, Function.identity()));
+
+        List<StoreNearbyResponse.Item> content = hits.stream()
+                .filter(hit -> storesById.containsKey(hit.storeId()))
+                .filter(hit -> isAdmin || isServiceable(storesById.get(hit.storeId())))
+                .map(hit -> new StoreNearbyResponse.Item(
+                        StoreListResponse.fromEntity(storesById.get(hit.storeId())), hit.distanceMeters()))
+                .toList();
+
+        StoreLocationRepository.Hit last = hits.get(hits.size() - 1);
+        return hasNext
+                ? new StoreNearbyResponse(content, true, last.distanceMeters(), last.storeId())
+                : new StoreNearbyResponse(content, false, null, null);
     }
 
-    public Page<StoreListResponse> searchStoresByName(String keyword, boolean isAdmin, Pageable pageable) {
+    public List<StoreSuggestionResponse> autocomplete(String prefix, int size, boolean isAdmin) {
 
-        Page<StoreEntity> stores = storeRepository.searchByName(keyword, isAdmin, pageable);
-        return convertToPageResponse(stores, isAdmin, pageable);
+        return storeSearchRepository.autocomplete(prefix.trim(), isAdmin, size).stream()
+                .map(StoreSuggestionResponse::from)
+                .toList();
     }
 
     // ******* //
@@ -129,7 +284,9 @@ public class StoreService {
 
             savedStore.addStoreUser(dto.ownerId());
             savedStore.addStoreUser(dto.chefId());
-            
+
+            storeEventProducer.reserveStoreChanged(savedStore.getId());
+
             return savedStore.getId();
 
         } catch (DataIntegrityViolationException e) {
@@ -162,6 +319,11 @@ public class StoreService {
                 request.closeTime(),
                 categories
         );
+        if (request.latitude() != null && request.longitude() != null) {
+            store.updateLocation(request.latitude(), request.longitude());
+        }
+
+        storeEventProducer.reserveStoreChanged(storeId);
     }
 
 
@@ -176,14 +338,23 @@ public class StoreService {
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
         store.updateStatus(status);
+        storeEventProducer.reserveStoreChanged(storeId);
     }
     
-    private boolean isServiceable(String roadAddress) {
+    // 좌표가 있으면 미리 계산한 서비스 지역 셀로 판정하고, 좌표가 없는 기존 매장만 주소 문자열로 판정한다
+    private boolean isServiceable(StoreEntity store) {
+        return isServiceable(store.getGeohash(), store.getRoadAddress());
+    }
+
+    private boolean isServiceable(String geohash, String roadAddress) {
+        if (geohash != null) {
+            return serviceRegion.contains(geohash);
+        }
         return activeRegions.stream().anyMatch(roadAddress::contains);
     }
 
-    private void validateServiceRegion(String roadAddress) {
-        if (!isServiceable(roadAddress)) {
+    private void validateServiceRegion(String geohash, String roadAddress) {
+        if (!isServiceable(geohash, roadAddress)) {
             throw new AccessDeniedException("현재 픽업 서비스가 제공되지 않는 지역의 매장입니다.");
         }
     }
@@ -209,6 +380,8 @@ public class StoreService {
                 store.getUsers().removeIf(su -> su.getUserId().equals(change.userId()));
             }
         }
+
+        storeEventProducer.reserveStoreChanged(storeId);
     }
 
     // ******* //
@@ -237,19 +410,20 @@ public class StoreService {
         }
 
         store.softDelete(userId);
+        storeEventProducer.reserveStoreChanged(storeId);
     }
 
 
-    private Page<StoreListResponse> convertToPageResponse(Page<StoreEntity> stores, boolean isAdmin, Pageable pageable) {
+    private Page<StoreListResponse> convertToPageResponse(Page<StoreEntity> stores, boolean isAdmin) {
         if (isAdmin) {
             return stores.map(StoreListResponse::fromEntity);
         }
         List<StoreListResponse> filteredContent = stores.getContent().stream()
-                .filter(store -> isServiceable(store.getRoadAddress()))
+                .filter(this::isServiceable)
                 .map(StoreListResponse::fromEntity)
                 .toList();
 
-        return new PageImpl<>(filteredContent, pageable, filteredContent.size());
+        return new PageImpl<>(filteredContent, stores.getPageable(), stores.getTotalElements());
     }
 
 
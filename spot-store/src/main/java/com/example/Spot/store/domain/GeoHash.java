@@ -0,0 +1,97 @@
+package com.example.Spot.store.domain;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * geohash 인코딩과 영역 → 셀 집합 변환.
+ * 같은 접두어를 가진 geohash 는 같은 격자 셀 안에 있으므로, 셀 목록에 대한 접두어(LIKE 'cell%') 검색으로
+ * 주변 매장 후보를 인덱스 범위 조회로 가져올 수 있다.
+ */
+public final class GeoHash {
+
+    public static final int STORE_PRECISION = 9;     // 약 4.8m x 4.8m
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double METERS_PER_DEGREE_LAT = 111_320d;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double[] lat = {-90, 90};
+        double[] lng = {-180, 180};
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            double[] range = evenBit ? lng : lat;
+            double value = evenBit ? longitude : latitude;
+            double mid = (range[0] + range[1]) / 2;
+            if (value >= mid) {
+                ch = (ch << 1) | 1;
+                range[0] = mid;
+            } else {
+                ch = ch << 1;
+                range[1] = mid;
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 경계 상자(남/서/북/동)와 겹치는 precision 자리 셀 전체.
+     */
+    public static Set<String> cover(double south, double west, double north, double east, int precision) {
+        double cellHeight = cellHeight(precision);
+        double cellWidth = cellWidth(precision);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = south; lat < north + cellHeight; lat += cellHeight) {
+            for (double lng = west; lng < east + cellWidth; lng += cellWidth) {
+                cells.add(encode(Math.min(lat, north), Math.min(lng, east), precision));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 중심에서 radiusMeters 안의 점을 모두 포함하는 셀 집합.
+     * 셀 개수가 maxCells 를 넘지 않는 가장 작은 셀 크기를 고른다 (셀이 작을수록 후보가 적다).
+     */
+    public static Set<String> cover(double latitude, double longitude, double radiusMeters, int maxCells) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        double south = Math.max(latitude - latDelta, -90);
+        double north = Math.min(latitude + latDelta, 90);
+        double west = Math.max(longitude - lngDelta, -180);
+        double east = Math.min(longitude + lngDelta, 180);
+
+        for (int precision = STORE_PRECISION; precision > 1; precision--) {
+            long rows = (long) Math.ceil((north - south) / cellHeight(precision)) + 1;
+            long cols = (long) Math.ceil((east - west) / cellWidth(precision)) + 1;
+            if (rows * cols <= maxCells) {
+                return cover(south, west, north, east, precision);
+            }
+        }
+        return cover(south, west, north, east, 1);
+    }
+
+    // precision 자리 geohash 는 5 * precision 비트를 경도(짝수 비트)와 위도(홀수 비트)에 번갈아 쓴다
+    private static double cellHeight(int precision) {
+        return 180d / (1L << (5 * precision / 2));
+    }
+
+    private static double cellWidth(int precision) {
+        return 360d / (1L << ((5 * precision + 1) / 2));
+    }
+}
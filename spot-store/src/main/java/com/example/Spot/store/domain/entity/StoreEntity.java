@@ -9,10 +9,12 @@ import java.util.UUID;
 
 import com.example.Spot.global.common.UpdateBaseEntity;
 import com.example.Spot.review.domain.entity.ReviewEntity;
+import com.example.Spot.store.domain.GeoHash;
 import com.example.Spot.store.domain.StoreStatus;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -20,6 +22,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -37,6 +40,9 @@ import lombok.NoArgsConstructor;
             name = "uq_store_name_roadAddress_is_deleted",
             columnNames = {"name", "roadAddress", "is_deleted"}
         )
+    },
+    indexes = {
+        @Index(name = "idx_store_geohash", columnList = "geohash")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StoreEntity extends UpdateBaseEntity {
@@ -67,6 +73,17 @@ public class StoreEntity extends UpdateBaseEntity {
     @Column(nullable = false)
     private StoreStatus status;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    // 좌표의 geohash. "C" collation 이라 일반 B-tree 인덱스로 접두어(LIKE 'cell%') 검색이 된다
+    @Column(columnDefinition = "varchar(12) collate \"C\"")
+    private String geohash;
+
+    @Embedded
+    private StoreRating rating = StoreRating.empty();
+
     @OneToMany(
             mappedBy = "store",
             cascade = CascadeType.ALL,  // Store가 저장/수정될 때 연결 정보도 함께 저장/수정 //
@@ -98,7 +115,9 @@ public class StoreEntity extends UpdateBaseEntity {
             String addressDetail,
             String phoneNumber,
             LocalTime openTime,
-            LocalTime closeTime
+            LocalTime closeTime,
+            Double latitude,
+            Double longitude
     ) {
         this.name = name;
         this.roadAddress = roadAddress;
@@ -106,6 +125,9 @@ public class StoreEntity extends UpdateBaseEntity {
         this.phoneNumber = phoneNumber;
         this.openTime = openTime;
         this.closeTime = closeTime;
+        if (latitude != null && longitude != null) {
+            updateLocation(latitude, longitude);
+        }
 
         this.status = StoreStatus.PENDING;
     }
@@ -165,6 +187,15 @@ public class StoreEntity extends UpdateBaseEntity {
         }
     }
 
+    public void updateLocation(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = GeoHash.encode(latitude, longitude, GeoHash.STORE_PRECISION);
+    }
+
     public boolean isOpenNow() {
         if (this.openTime == null || this.closeTime == null) {
             return true; // 영업시간이 설정되지 않은 경우 24시간 영업으로 간주
@@ -0,0 +1,63 @@
+package com.example.Spot.store.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import com.example.Spot.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "p_store_outbox", indexes = {
+        @Index(name = "idx_store_outbox_created_at", columnList = "created_at"),
+        @Index(name = "idx_store_outbox_sent_at_created_at", columnList = "sent_at, created_at"),
+        @Index(name = "idx_store_outbox_aggregate_sent_at", columnList = "aggregate_id, sent_at, created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreOutboxEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, columnDefinition = "UUID")
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    // 폴링 발행(spot.outbox.publisher=polling) 시 Kafka 전송이 확인된 시각.
+    // CDC 발행(debezium)에서는 커넥터가 INSERT 를 발행하므로 저장할 때 채워 두고, 나중에 polling 으로 바꿔도 다시 보내지 않는다
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    public StoreOutboxEntity(String aggregateType, UUID aggregateId, String eventType, String payload,
+            LocalDateTime sentAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.sentAt = sentAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.Spot.store.domain.entity;
+
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 별점 분포 (삭제되지 않은 리뷰 기준).
+ * 리뷰 작성/수정/삭제 트랜잭션에서 StoreRepository.applyRatingDelta 로 증감하고,
+ * 어긋난 값은 StoreRatingReconcileScheduler 가 주기적으로 리뷰 테이블 기준으로 다시 맞춘다.
+ * 엔티티 flush 가 동시에 반영된 증감을 옛 값으로 덮어쓰지 않도록 컬럼은 updatable = false 이다.
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreRating {
+
+    private static final String COUNT_COLUMN = "integer not null default 0";
+
+    @Column(name = "rating_count_1", columnDefinition = COUNT_COLUMN, updatable = false)
+    private int count1;
+
+    @Column(name = "rating_count_2", columnDefinition = COUNT_COLUMN, updatable = false)
+    private int count2;
+
+    @Column(name = "rating_count_3", columnDefinition = COUNT_COLUMN, updatable = false)
+    private int count3;
+
+    @Column(name = "rating_count_4", columnDefinition = COUNT_COLUMN, updatable = false)
+    private int count4;
+
+    @Column(name = "rating_count_5", columnDefinition = COUNT_COLUMN, updatable = false)
+    private int count5;
+
+    public static StoreRating empty() {
+        return new StoreRating();
+    }
+
+    // 1점부터 5점까지 순서대로
+    public List<Integer> getDistribution() {
+        return List.of(count1, count2, count3, count4, count5);
+    }
+
+    public long getCount() {
+        return (long) count1 + count2 + count3 + count4 + count5;
+    }
+
+    public long getSum() {
+        return count1 + 2L * count2 + 3L * count3 + 4L * count4 + 5L * count5;
+    }
+
+    // 소수 첫째 자리까지, 리뷰가 없으면 0.0
+    public double getAverage() {
+        long count = getCount();
+        return count == 0 ? 0.0 : Math.round(getSum() * 10.0 / count) / 10.0;
+    }
+}
@@ -14,17 +14,6 @@ import com.example.Spot.store.domain.entity.StoreEntity;
 
 public interface StoreCategoryRepository extends JpaRepository<StoreCategoryEntity, UUID> {
 
-    // Category - 카테고리 별 매장 조회
-    @Query("""
-        select scm
-        from StoreCategoryEntity scm
-        join fetch scm.store s
-        where scm.category.id  = :categoryId
-          and s.isDeleted = false
-          and s.status = 'APPROVED'
-    """)
-    List<StoreCategoryEntity> findAllActiveByCategoryIdWithStore(@Param("categoryId") UUID categoryId);
-
     // Store
     List<StoreCategoryEntity> findByCategoryAndIsDeletedFalse(CategoryEntity category);
 
@@ -38,5 +27,9 @@ public interface StoreCategoryRepository extends JpaRepository<StoreCategoryEnti
 
     List<StoreCategoryEntity> findAllByStore_Id(UUID storeId);
 
+    // 카테고리 변경 시 상세 스냅샷을 무효화할 매장
+    @Query("select distinct scm.store.id from StoreCategoryEntity scm where scm.category.id = :categoryId")
+    List<UUID> findStoreIdsByCategoryId(@Param("categoryId") UUID categoryId);
+
     long countByCategoryAndIsDeletedFalse(CategoryEntity category);
 }
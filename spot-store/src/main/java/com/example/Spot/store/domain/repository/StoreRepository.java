@@ -4,10 +4,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,13 +18,6 @@ import jakarta.persistence.LockModeType;
 @Repository
 public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
 
-    // 기본 조회
-    @Query("SELECT s FROM StoreEntity s " +
-            "LEFT JOIN FETCH s.storeCategoryMaps sc " +
-            "LEFT JOIN FETCH sc.category " +
-            "WHERE (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
-    Page<StoreEntity> findAllByRole(@Param("isAdmin") boolean isAdmin, Pageable pageable);
-    
     // 상세 조회: or을 통해 권한 혹은 소프트제거 여부에 따른 조회범위 설정
     @Query("SELECT s FROM StoreEntity s " +
             "LEFT JOIN FETCH s.storeCategoryMaps sc " +
@@ -45,13 +37,12 @@ public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
             "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
     Optional<StoreEntity> findByIdWithDetailsWithLock(@Param("id") UUID id, @Param("isAdmin") boolean isAdmin);
 
-    // 검색 기능
+    // 검색 / 목록의 id 페이지로 매장 + 카테고리 조회 (순서는 호출 측에서 맞춘다)
     @Query("SELECT DISTINCT s FROM StoreEntity s " +
             "LEFT JOIN FETCH s.storeCategoryMaps sc " +
             "LEFT JOIN FETCH sc.category " +
-            "WHERE s.name LIKE %:keyword% " +
-            "AND (:isAdmin = true OR (s.isDeleted = false AND s.status = 'APPROVED'))")
-    Page<StoreEntity> searchByName(@Param("keyword") String keyword, @Param("isAdmin") boolean isAdmin, Pageable pageable);
+            "WHERE s.id IN :ids")
+    List<StoreEntity> findAllWithCategoriesByIdIn(@Param("ids") List<UUID> ids);
 
     // 특정 유저가 담당하는 매장 조회 (중간 테이블 Join)
     // Owner/Chef는 자신의 모든 가게를 조회 (PENDING, APPROVED, REJECTED 모두 포함)
@@ -103,4 +94,49 @@ public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
             WHERE s.id IN :storeIds
             """)
     List<Object[]> findStoreNamesByIds(@Param("storeIds") List<UUID> storeIds);
+
+    // 리뷰 작성/수정/삭제 시 별점 분포 증감 (행 단위 원자적 갱신, 엔티티 updatedAt 은 건드리지 않는다)
+    @Modifying
+    @Query(value = "UPDATE p_store SET " +
+            "rating_count_1 = rating_count_1 + :d1, " +
+            "rating_count_2 = rating_count_2 + :d2, " +
+            "rating_count_3 = rating_count_3 + :d3, " +
+            "rating_count_4 = rating_count_4 + :d4, " +
+            "rating_count_5 = rating_count_5 + :d5 " +
+            "WHERE id = :storeId", nativeQuery = true)
+    int applyRatingDelta(@Param("storeId") UUID storeId,
+                         @Param("d1") int d1, @Param("d2") int d2, @Param("d3") int d3,
+                         @Param("d4") int d4, @Param("d5") int d5);
+
+    // 매장에 유지되는 별점 분포의 총 리뷰 수 / 실제 리뷰 수 (기동 시 재계산 필요 여부 판단용)
+    @Query(value = "SELECT COALESCE(SUM(rating_count_1 + rating_count_2 + rating_count_3 + rating_count_4 + rating_count_5), 0) " +
+            "FROM p_store", nativeQuery = true)
+    long sumRatingCounts();
+
+    @Query(value = "SELECT COUNT(*) FROM p_review r JOIN p_store s ON s.id = r.store_id " +
+            "WHERE r.is_deleted = false", nativeQuery = true)
+    long countActiveReviews();
+
+    // 리뷰 테이블 기준으로 별점 분포를 다시 계산해 값이 다른 매장만 고친다
+    @Modifying
+    @Query(value = """
+            UPDATE p_store s
+            SET rating_count_1 = a.c1, rating_count_2 = a.c2, rating_count_3 = a.c3,
+                rating_count_4 = a.c4, rating_count_5 = a.c5
+            FROM (
+                SELECT st.id AS store_id,
+                       count(r.id) FILTER (WHERE r.rating = 1)::int AS c1,
+                       count(r.id) FILTER (WHERE r.rating = 2)::int AS c2,
+                       count(r.id) FILTER (WHERE r.rating = 3)::int AS c3,
+                       count(r.id) FILTER (WHERE r.rating = 4)::int AS c4,
+                       count(r.id) FILTER (WHERE r.rating = 5)::int AS c5
+                FROM p_store st
+                LEFT JOIN p_review r ON r.store_id = st.id AND r.is_deleted = false
+                GROUP BY st.id
+            ) a
+            WHERE s.id = a.store_id
+              AND (s.rating_count_1, s.rating_count_2, s.rating_count_3, s.rating_count_4, s.rating_count_5)
+                  IS DISTINCT FROM (a.c1, a.c2, a.c3, a.c4, a.c5)
+            """, nativeQuery = true)
+    int reconcileRatings();
 }
@@ -0,0 +1,41 @@
+package com.example.Spot.store.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 목록 화면의 전체 개수(totalElements) 캐시.
+ * 페이지마다 count(*) 를 다시 세지 않도록 짧게 캐시한다. 값은 ttl 만큼 늦을 수 있다.
+ * 같은 키를 동시에 요청하면 한 요청만 DB 를 센다.
+ */
+@Component
+public class StoreCountCache {
+
+    private final Cache<String, Long> counts;
+
+    public StoreCountCache(@Value("${spot.store.count-cache.ttl:30s}") Duration ttl,
+                           @Value("${spot.store.count-cache.max-size:1000}") long maxSize,
+                           MeterRegistry meterRegistry) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        // actuator metrics: cache.gets{cache=store_count,result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "store_count");
+    }
+
+    public long get(String key, Supplier<Long> loader) {
+        return counts.get(key, k -> loader.get());
+    }
+}
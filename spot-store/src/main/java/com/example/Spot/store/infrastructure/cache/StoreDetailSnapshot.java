@@ -0,0 +1,18 @@
+package com.example.Spot.store.infrastructure.cache;
+
+import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
+
+/**
+ * Redis 에 저장하는 고객용 매장 상세 스냅샷.
+ *
+ * @param version 스냅샷을 만들 때의 매장 버전 (변경이 커밋될 때마다 증가)
+ * @param etag    응답 ETag ("버전-본문 CRC32")
+ * @param geohash 서비스 지역 판정용 매장 좌표 geohash (좌표가 없으면 null)
+ */
+public record StoreDetailSnapshot(
+        long version,
+        String etag,
+        String geohash,
+        StoreDetailResponse detail
+) {
+}
@@ -0,0 +1,98 @@
+package com.example.Spot.store.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매장 상세 스냅샷 Redis 저장소.
+ * <ul>
+ *     <li>store:detail:{storeId} - 스냅샷 JSON (타입 정보 없이 저장)</li>
+ *     <li>store:detail:version:{storeId} - 매장 버전. 변경이 커밋되면 증가시키고 스냅샷을 지운다</li>
+ * </ul>
+ * 스냅샷은 만들기 전에 읽은 버전이 그대로일 때만 저장되므로, 변경과 겹친 조회가 이전 값을 다시 채우지 않는다.
+ * Redis 장애 시에는 조회가 DB 로 넘어가도록 예외를 밖으로 던지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDetailSnapshotCache {
+
+    private static final String KEY_PREFIX = "store:detail:";
+    private static final String VERSION_KEY_PREFIX = "store:detail:version:";
+    // 버전을 읽지 못하면 저장하지 않는다
+    private static final long UNKNOWN_VERSION = -1;
+
+    private static final RedisScript<Long> PUT_IF_CURRENT =
+            RedisScript.of(new ClassPathResource("scripts/store_detail_snapshot_put.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spot.store.detail-snapshot.ttl:6h}")
+    private Duration ttl;
+
+    public Optional<StoreDetailSnapshot> get(UUID storeId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + storeId);
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, StoreDetailSnapshot.class));
+        } catch (Exception e) {
+            log.warn("[STORE-DETAIL-SNAPSHOT] 조회 실패, DB 로 대체: storeId={}, error={}", storeId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public long currentVersion(UUID storeId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + storeId);
+            return version == null ? 0 : Long.parseLong(version);
+        } catch (RuntimeException e) {
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    public void putIfCurrent(UUID storeId, StoreDetailSnapshot snapshot) {
+        if (snapshot.version() == UNKNOWN_VERSION) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_IF_CURRENT,
+                    List.of(KEY_PREFIX + storeId, VERSION_KEY_PREFIX + storeId),
+                    String.valueOf(snapshot.version()),
+                    objectMapper.writeValueAsString(snapshot),
+                    String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("[STORE-DETAIL-SNAPSHOT] 저장 실패: storeId={}, error={}", storeId, e.getMessage());
+        }
+    }
+
+    public void invalidate(Collection<UUID> storeIds) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UUID storeId : storeIds) {
+                    connection.stringCommands().incr((VERSION_KEY_PREFIX + storeId).getBytes(StandardCharsets.UTF_8));
+                    connection.keyCommands().del((KEY_PREFIX + storeId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 지우지 못한 스냅샷은 TTL 이 지나야 갱신된다
+            log.error("[STORE-DETAIL-SNAPSHOT] 무효화 실패: storeIds={}, error={}", storeIds, e.getMessage());
+        }
+    }
+}
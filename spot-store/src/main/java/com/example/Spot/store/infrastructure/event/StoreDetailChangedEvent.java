@@ -0,0 +1,11 @@
+package com.example.Spot.store.infrastructure.event;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 매장 상세(매장 / 메뉴 / 옵션 / 카테고리 / 스태프)가 바뀐 매장들.
+ * 커밋 이후 StoreDetailSnapshotService 가 스냅샷을 무효화하고 다시 만든다.
+ */
+public record StoreDetailChangedEvent(Collection<UUID> storeIds) {
+}
@@ -0,0 +1,18 @@
+package com.example.Spot.store.infrastructure.event.publish;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuChangedEvent {
+    private UUID storeId;
+    private UUID menuId;
+    private UUID menuOptionId; // 옵션 변경이 아니면 null
+}
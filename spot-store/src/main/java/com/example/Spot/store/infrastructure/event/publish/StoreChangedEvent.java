@@ -0,0 +1,16 @@
+package com.example.Spot.store.infrastructure.event.publish;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private UUID storeId;
+}
@@ -0,0 +1,49 @@
+package com.example.Spot.store.infrastructure.producer;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게/메뉴가 바뀌면 spot-gateway 의 응답 캐시를 비우도록 Redis pub/sub 으로 알린다.
+ * 커밋 이후에만 발행해 롤백된 변경으로 캐시가 비워지거나, 커밋 전 값이 다시 캐시되는 것을 막는다.
+ * 발행이 실패해도 게이트웨이 캐시는 짧은 TTL 로 갱신되므로 요청은 실패시키지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatewayCachePurgePublisher {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${spot.gateway.cache.purge-channel:spot:gateway:cache-purge}")
+    private String purgeChannel;
+
+    public void publishAfterCommit(UUID storeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(storeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(storeId);
+            }
+        });
+    }
+
+    private void publish(UUID storeId) {
+        try {
+            redisTemplate.convertAndSend(purgeChannel, storeId.toString());
+        } catch (RuntimeException e) {
+            log.warn("[게이트웨이 캐시 퍼지 실패] storeId={}, error={}", storeId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.Spot.store.infrastructure.producer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.store.domain.entity.StoreOutboxEntity;
+import com.example.Spot.store.domain.repository.StoreOutboxRepository;
+import com.example.Spot.store.infrastructure.event.StoreDetailChangedEvent;
+import com.example.Spot.store.infrastructure.event.publish.MenuChangedEvent;
+import com.example.Spot.store.infrastructure.event.publish.StoreChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreEventProducer {
+
+    private final StoreOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final GatewayCachePurgePublisher gatewayCachePurgePublisher;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.kafka.topic.store.changed}")
+    private String storeChangedTopic;
+    @Value("${spring.kafka.topic.menu.changed}")
+    private String menuChangedTopic;
+    // debezium 이면 커넥터가 발행하므로 저장 시점에 발행 완료로 기록한다 (polling 릴레이가 다시 보내지 않도록)
+    @Value("${spot.outbox.publisher:debezium}")
+    private String outboxPublisher;
+
+    public void reserveStoreChanged(UUID storeId) {
+        StoreChangedEvent event = StoreChangedEvent.builder()
+                .storeId(storeId)
+                .build();
+        saveOutbox(storeChangedTopic, storeId, event);
+        gatewayCachePurgePublisher.publishAfterCommit(storeId);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(List.of(storeId)));
+    }
+
+    public void reserveMenuChanged(UUID storeId, UUID menuId) {
+        MenuChangedEvent event = MenuChangedEvent.builder()
+                .storeId(storeId)
+                .menuId(menuId)
+                .build();
+        saveOutbox(menuChangedTopic, storeId, event);
+        gatewayCachePurgePublisher.publishAfterCommit(storeId);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(List.of(storeId)));
+    }
+
+    public void reserveMenuOptionChanged(UUID storeId, UUID menuId, UUID menuOptionId) {
+        MenuChangedEvent event = MenuChangedEvent.builder()
+                .storeId(storeId)
+                .menuId(menuId)
+                .menuOptionId(menuOptionId)
+                .build();
+        saveOutbox(menuChangedTopic, storeId, event);
+        gatewayCachePurgePublisher.publishAfterCommit(storeId);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(List.of(storeId)));
+    }
+
+    // 같은 가게의 변경 이벤트는 같은 파티션으로 가도록 storeId를 aggregateId로 사용
+    public void saveOutbox(String topic, UUID aggregateId, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+
+            StoreOutboxEntity outbox = StoreOutboxEntity.builder()
+                    .aggregateType("STORE")
+                    .aggregateId(aggregateId)
+                    .eventType(topic)
+                    .payload(payload)
+                    .sentAt("polling".equals(outboxPublisher) ? null : LocalDateTime.now())
+                    .build();
+
+            outboxRepository.save(outbox);
+            log.info("[Outbox 저장 성공] topic:{}, AggregateId:{}", topic, aggregateId);
+        } catch (JsonProcessingException e) {
+            log.error("[Outbox 저장 실패] AggregateId={}, error={}", aggregateId, e.getMessage());
+            throw new RuntimeException("이벤트 발행 예약 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.Spot.store.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매장 목록 / 카테고리별 매장 목록의 id 페이지 조회 (1단계).
+ * <p>
+ * 엔티티 fetch join + Pageable 조합은 Hibernate 가 전체 행을 읽어 메모리에서 자르기 때문에,
+ * 여기서는 id 만 (id ASC) 순서로 인덱스에서 읽고, 매장과 카테고리는 호출 측이 그 id 들로만 한 번에 조회한다.
+ * 커서(직전 페이지 마지막 id)가 있으면 id > cursor 로 이어서 읽으므로 페이지 깊이와 무관하게 비용이 같다.
+ * 인덱스는 StoreListingIndexInitializer 가 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreListingRepository {
+
+    // 관리자 조회는 조건이 없어야 PK 인덱스를 그대로 탄다 (OR 로 묶으면 부분 인덱스를 못 쓴다)
+    private static final String VISIBLE_STORE = " AND s.is_deleted = false AND s.status = 'APPROVED'";
+
+    private static final String STORE_IDS = "SELECT s.id FROM p_store s WHERE true";
+
+    private static final String CATEGORY_STORE_IDS = """
+            SELECT DISTINCT sc.store_id
+            FROM p_store_category sc
+            JOIN p_store s ON s.id = sc.store_id
+            WHERE sc.category_id = :categoryId AND sc.is_deleted = false""" + VISIBLE_STORE;
+
+    private static final String COUNT_STORES = "SELECT count(*) FROM p_store s";
+
+    // StoreService.isServiceable 과 같은 판정: 좌표가 있으면 geohash 셀, 없으면 도로명 주소에 지역명 포함
+    private static final String COUNT_SERVICEABLE_STORES = """
+            SELECT count(*)
+            FROM p_store s
+            WHERE CASE WHEN s.geohash IS NOT NULL
+                       THEN left(s.geohash, :cellPrecision) = ANY(CAST(:cells AS text[]))
+                       ELSE EXISTS (SELECT 1 FROM unnest(CAST(:regions AS text[])) r WHERE strpos(s.road_address, r) > 0)
+                  END""" + VISIBLE_STORE;
+
+    private static final String COUNT_CATEGORY_STORES = """
+            SELECT count(DISTINCT sc.store_id)
+            FROM p_store_category sc
+            JOIN p_store s ON s.id = sc.store_id
+            WHERE sc.category_id = :categoryId AND sc.is_deleted = false""" + VISIBLE_STORE;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // cursor 가 있으면 keyset, 없으면 offset (기존 page 파라미터 호환)
+    public List<UUID> findStoreIds(boolean isAdmin, UUID cursor, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = STORE_IDS + (isAdmin ? "" : VISIBLE_STORE)
+                + cursorAndLimit("s.id", cursor, offset, limit, params);
+
+        return jdbcTemplate.queryForList(sql, params, UUID.class);
+    }
+
+    public List<UUID> findStoreIdsByCategory(UUID categoryId, UUID cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("categoryId", categoryId);
+        String sql = CATEGORY_STORE_IDS + cursorAndLimit("sc.store_id", cursor, 0, limit, params);
+
+        return jdbcTemplate.queryForList(sql, params, UUID.class);
+    }
+
+    public long countAllStores() {
+        Long count = jdbcTemplate.queryForObject(COUNT_STORES, new MapSqlParameterSource(), Long.class);
+        return count != null ? count : 0;
+    }
+
+    // 고객 목록은 서비스 지역 밖 매장을 걸러 보여주므로 개수도 같은 조건으로 센다
+    public long countServiceableStores(int cellPrecision, Collection<String> cells, Collection<String> regions) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cellPrecision", cellPrecision)
+                .addValue("cells", cells.toArray(String[]::new))
+                .addValue("regions", regions.toArray(String[]::new));
+        Long count = jdbcTemplate.queryForObject(COUNT_SERVICEABLE_STORES, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countStoresByCategory(UUID categoryId) {
+        Long count = jdbcTemplate.queryForObject(
+                COUNT_CATEGORY_STORES, new MapSqlParameterSource("categoryId", categoryId), Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String cursorAndLimit(String idColumn, UUID cursor, long offset, int limit,
+                                         MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder();
+        if (cursor != null) {
+            sql.append(" AND ").append(idColumn).append(" > :cursor");
+            params.addValue("cursor", cursor);
+        }
+        sql.append(" ORDER BY ").append(idColumn).append(" LIMIT :limit");
+        params.addValue("limit", limit);
+        if (cursor == null && offset > 0) {
+            sql.append(" OFFSET :offset");
+            params.addValue("offset", offset);
+        }
+        return sql.toString();
+    }
+}
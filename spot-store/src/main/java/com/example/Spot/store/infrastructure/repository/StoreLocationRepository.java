@@ -0,0 +1,75 @@
+package com.example.Spot.store.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * geohash 셀 기반 주변 매장 조회.
+ * 후보는 셀 접두어(geohash LIKE 'cell%') 인덱스 범위 조회로만 가져오고, 후보에 대해서만 거리(haversine, m)를 계산해
+ * 반경 안의 매장을 (distance, id) 순으로 반환한다. 마지막 행의 (distance, id) 가 다음 페이지 커서다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreLocationRepository {
+
+    // 관리자 조회에는 조건을 붙이지 않는다 (OR 로 묶으면 관리자/고객 요청이 같은 실행 계획을 쓴다)
+    private static final String VISIBLE_STORE = " AND s.is_deleted = false AND s.status = 'APPROVED'";
+
+    private static final String NEARBY = """
+            SELECT store_id, distance FROM (
+                SELECT s.id AS store_id,
+                       round(12742000 * asin(sqrt(
+                           power(sin(radians(s.latitude - :latitude) / 2), 2)
+                           + cos(radians(:latitude)) * cos(radians(s.latitude))
+                             * power(sin(radians(s.longitude - :longitude) / 2), 2))))::bigint AS distance
+                FROM p_store s
+                WHERE (%s)%s
+            ) nearby
+            WHERE distance <= :radius""";
+
+    private static final String CURSOR = " AND (distance > :cursorDistance OR (distance = :cursorDistance AND store_id > :cursorId))";
+
+    private static final String ORDER_AND_LIMIT = " ORDER BY distance, store_id LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Hit> findNearby(double latitude, double longitude, int radiusMeters, Collection<String> cells,
+                                boolean isAdmin, Long cursorDistance, UUID cursorId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latitude", latitude)
+                .addValue("longitude", longitude)
+                .addValue("radius", radiusMeters)
+                .addValue("limit", limit);
+
+        // 셀마다 LIKE 조건 하나씩 (OR) - 각각 geohash 인덱스 범위 조회가 된다
+        StringBuilder cellFilter = new StringBuilder();
+        int index = 0;
+        for (String cell : cells) {
+            if (index > 0) {
+                cellFilter.append(" OR ");
+            }
+            cellFilter.append("s.geohash LIKE :cell").append(index);
+            params.addValue("cell" + index, cell + "%");
+            index++;
+        }
+
+        String sql = NEARBY.formatted(cellFilter, isAdmin ? "" : VISIBLE_STORE);
+        if (cursorDistance != null && cursorId != null) {
+            sql += CURSOR;
+            params.addValue("cursorDistance", cursorDistance).addValue("cursorId", cursorId);
+        }
+
+        return jdbcTemplate.query(sql + ORDER_AND_LIMIT, params,
+                (rs, rowNum) -> new Hit(rs.getObject("store_id", UUID.class), rs.getLong("distance")));
+    }
+
+    public record Hit(UUID storeId, long distanceMeters) {
+    }
+}
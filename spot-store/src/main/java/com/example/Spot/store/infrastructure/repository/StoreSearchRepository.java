@@ -0,0 +1,139 @@
+package com.example.Spot.store.infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * pg_trgm 기반 매장 검색 (인덱스는 StoreSearchIndexInitializer 가 만든다).
+ * <p>
+ * 매장명 / 메뉴명 / 카테고리명 중 하나라도 키워드와 부분 일치하거나 유사하면 후보가 되고,
+ * 매장 점수는 세 출처 중 가장 높은 점수다. 매장명 접두어 일치는 가산점을 받고 메뉴/카테고리 일치는 감점된다.
+ * 정렬은 (score DESC, id ASC) 이고 마지막 행의 (score, id) 를 커서로 다음 페이지를 이어서 조회한다.
+ * 후보는 출처별 유사도 상위 {@value #CANDIDATE_LIMIT}건으로 제한하므로 그보다 낮은 순위는 페이지를 넘겨도 나오지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreSearchRepository {
+
+    // 관리자 조회에는 조건을 붙이지 않는다 (OR 로 묶으면 플래너가 관리자/고객 양쪽을 만족하는 계획을 세워야 한다)
+    private static final String VISIBLE_STORE = " AND s.is_deleted = false AND s.status = 'APPROVED'";
+
+    // 출처별로 유사도 상위 후보만 뽑은 뒤 합친다. 흔한 키워드여도 점수 계산 / 집계는 후보 수에 묶인다
+    private static final int CANDIDATE_LIMIT = 500;
+
+    private static final String SEARCH_TEMPLATE = """
+            WITH matched AS (
+                (SELECT s.id AS store_id,
+                        similarity(s.name, :keyword)::float8
+                            + CASE WHEN s.name ILIKE :prefix ESCAPE '\\' THEN 0.5 ELSE 0 END AS score
+                 FROM p_store s
+                 WHERE (s.name %% :keyword OR s.name ILIKE :contains ESCAPE '\\')%1$s
+                 ORDER BY score DESC, s.id
+                 LIMIT :candidates)
+                UNION ALL
+                (SELECT m.store_id, similarity(m.name, :keyword)::float8 * 0.8 AS score
+                 FROM p_menu m
+                 JOIN p_store s ON s.id = m.store_id
+                 WHERE m.is_deleted = false AND m.is_hidden = false
+                   AND (m.name %% :keyword OR m.name ILIKE :contains ESCAPE '\\')%1$s
+                 ORDER BY score DESC, m.id
+                 LIMIT :candidates)
+                UNION ALL
+                (SELECT sc.store_id, similarity(c.name, :keyword)::float8 * 0.6 AS score
+                 FROM p_category c
+                 JOIN p_store_category sc ON sc.category_id = c.id AND sc.is_deleted = false
+                 JOIN p_store s ON s.id = sc.store_id
+                 WHERE c.is_deleted = false
+                   AND (c.name %% :keyword OR c.name ILIKE :contains ESCAPE '\\')%1$s
+                 ORDER BY score DESC, sc.store_id
+                 LIMIT :candidates)
+            ),
+            ranked AS (
+                -- 커서 비교가 부동소수 오차에 흔들리지 않도록 소수 6자리로 자른다
+                SELECT store_id, round(max(score)::numeric, 6)::float8 AS score
+                FROM matched
+                GROUP BY store_id
+            )
+            SELECT r.store_id, r.score
+            FROM ranked r""";
+
+    private static final String SEARCH = SEARCH_TEMPLATE.formatted(VISIBLE_STORE);
+
+    private static final String ADMIN_SEARCH = SEARCH_TEMPLATE.formatted("");
+
+    private static final String CURSOR = " WHERE r.score < :cursorScore OR (r.score = :cursorScore AND r.store_id > :cursorId)";
+
+    private static final String ORDER_AND_LIMIT = " ORDER BY r.score DESC, r.store_id ASC LIMIT :limit";
+
+    // 접두어 일치 이름을 lower(name) 순으로 인덱스에서 바로 읽고 limit 에서 멈춘다
+    private static final String AUTOCOMPLETE_TEMPLATE = """
+            SELECT name, type FROM (
+                (SELECT DISTINCT ON (lower(s.name)) s.name, 'STORE' AS type, lower(s.name) AS sort_key
+                 FROM p_store s
+                 WHERE lower(s.name) LIKE :prefix ESCAPE '\\'%1$s
+                 ORDER BY lower(s.name)
+                 LIMIT :limit)
+                UNION ALL
+                (SELECT DISTINCT ON (lower(m.name)) m.name, 'MENU' AS type, lower(m.name) AS sort_key
+                 FROM p_menu m
+                 JOIN p_store s ON s.id = m.store_id
+                 WHERE lower(m.name) LIKE :prefix ESCAPE '\\'
+                   AND m.is_deleted = false AND m.is_hidden = false%1$s
+                 ORDER BY lower(m.name)
+                 LIMIT :limit)
+            ) suggestions
+            ORDER BY type DESC, length(sort_key), sort_key
+            LIMIT :limit
+            """;
+
+    private static final String AUTOCOMPLETE = AUTOCOMPLETE_TEMPLATE.formatted(VISIBLE_STORE);
+
+    private static final String ADMIN_AUTOCOMPLETE = AUTOCOMPLETE_TEMPLATE.formatted("");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Hit> search(String keyword, boolean isAdmin, Double cursorScore, UUID cursorId, int limit) {
+        String escaped = escapeLike(keyword);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("prefix", escaped + "%")
+                .addValue("contains", "%" + escaped + "%")
+                .addValue("limit", limit)
+                .addValue("candidates", CANDIDATE_LIMIT);
+
+        // 커서가 있을 때만 조건을 붙인다 (null 파라미터 타입 추론 문제 회피)
+        String where = "";
+        if (cursorScore != null && cursorId != null) {
+            where = CURSOR;
+            params.addValue("cursorScore", cursorScore).addValue("cursorId", cursorId);
+        }
+
+        return jdbcTemplate.query((isAdmin ? ADMIN_SEARCH : SEARCH) + where + ORDER_AND_LIMIT, params,
+                (rs, rowNum) -> new Hit(rs.getObject("store_id", UUID.class), rs.getDouble("score")));
+    }
+
+    public List<Suggestion> autocomplete(String prefix, boolean isAdmin, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("prefix", escapeLike(prefix.toLowerCase()) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(isAdmin ? ADMIN_AUTOCOMPLETE : AUTOCOMPLETE, params,
+                (rs, rowNum) -> new Suggestion(rs.getString("name"), rs.getString("type")));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record Hit(UUID storeId, double score) {
+    }
+
+    public record Suggestion(String text, String type) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.Spot.store.infrastructure.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매장 목록 / 카테고리별 매장 목록 id 페이지 조회용 부분 인덱스 (StoreListingRepository).
+ * <ul>
+ *     <li>고객에게 보이는 매장(삭제 X, 승인)만 담은 id 인덱스: 목록 keyset / count</li>
+ *     <li>(category_id, store_id) 인덱스: 카테고리별 store_id 순 keyset</li>
+ * </ul>
+ * JPA 로는 부분 인덱스를 선언할 수 없어 기동 후 IF NOT EXISTS 로 만든다.
+ * 실패한 문장은 StoreListingIndexHealthIndicator 로 드러낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreListingIndexInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_store_visible_id ON p_store (id) "
+                    + "WHERE is_deleted = false AND status = 'APPROVED'",
+            "CREATE INDEX IF NOT EXISTS idx_store_category_category_store ON p_store_category (category_id, store_id) "
+                    + "WHERE is_deleted = false"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 실패한 문장 -> 원인. 기동 전(false) 과 전부 성공(빈 맵) 을 구분한다
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private volatile boolean completed;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void createIndexes() {
+        failures.clear();
+        // 한 문장이 실패해도 나머지 인덱스는 만든다
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (Exception e) {
+                failures.put(statement, String.valueOf(e.getMessage()));
+                log.error("[STORE-LISTING] 목록 인덱스 생성 실패: {}", statement, e);
+            }
+        }
+        completed = true;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Map<String, String> getFailures() {
+        return Map.copyOf(failures);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.Spot.store.infrastructure.search;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/health 의 storeSearchIndex 항목.
+ * 인덱스 생성이 하나라도 실패하면 DOWN 과 실패한 문장을 보여준다.
+ * liveness / readiness 그룹에는 들어가지 않으므로 재기동을 유발하지는 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndexHealthIndicator implements HealthIndicator {
+
+    private final StoreSearchIndexInitializer initializer;
+
+    @Override
+    public Health health() {
+        if (!initializer.isCompleted()) {
+            return Health.unknown().withDetail("reason", "index creation not finished").build();
+        }
+        Map<String, String> failures = initializer.getFailures();
+        if (failures.isEmpty()) {
+            return Health.up().build();
+        }
+        return Health.down().withDetails(failures).build();
+    }
+}
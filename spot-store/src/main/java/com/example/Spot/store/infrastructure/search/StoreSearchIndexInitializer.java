@@ -0,0 +1,66 @@
+package com.example.Spot.store.infrastructure.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매장/메뉴/카테고리 이름 검색용 인덱스 (PostgreSQL pg_trgm).
+ * <ul>
+ *     <li>GIN trigram 인덱스: 부분 일치(ILIKE '%키워드%')와 유사도(%) 검색</li>
+ *     <li>lower(name) text_pattern_ops 인덱스: 자동완성 접두어 검색 + 이름순 정렬</li>
+ * </ul>
+ * 테이블은 JPA(ddl-auto)가 만들기 때문에 기동 후 IF NOT EXISTS 로 만든다. 매 기동마다 실행해도 된다.
+ * 인덱스가 없어도 검색은 동작하지만 전체 스캔이 되므로, 실패한 문장은 StoreSearchIndexHealthIndicator 로 드러낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndexInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_store_name_trgm ON p_store USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_menu_name_trgm ON p_menu USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_category_name_trgm ON p_category USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_store_name_prefix ON p_store (lower(name) text_pattern_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_menu_name_prefix ON p_menu (lower(name) text_pattern_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 실패한 문장 -> 원인. 기동 전(false) 과 전부 성공(빈 맵) 을 구분한다
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private volatile boolean completed;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void createIndexes() {
+        failures.clear();
+        // 한 문장이 실패해도 나머지 인덱스는 만든다
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (Exception e) {
+                failures.put(statement, String.valueOf(e.getMessage()));
+                log.error("[STORE-SEARCH] 검색 인덱스 생성 실패: {}", statement, e);
+            }
+        }
+        completed = true;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Map<String, String> getFailures() {
+        return Map.copyOf(failures);
+    }
+}
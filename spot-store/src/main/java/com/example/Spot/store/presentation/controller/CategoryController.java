@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,6 +23,7 @@ import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.store.application.service.CategoryService;
 import com.example.Spot.store.presentation.dto.request.CategoryRequestDTO;
 import com.example.Spot.store.presentation.dto.response.CategoryResponseDTO;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 import com.example.Spot.store.presentation.swagger.CategoryApi;
 
 import jakarta.validation.Valid;
@@ -33,6 +35,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/categories")
 public class CategoryController implements CategoryApi {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final CategoryService categoryService;
 
     @Override
@@ -46,8 +50,12 @@ public class CategoryController implements CategoryApi {
 
     @Override
     @GetMapping("/{categoryName}/stores")
-    public List<CategoryResponseDTO.StoreSummary> getStores(@PathVariable String categoryName) {
-        return categoryService.getStoresByCategoryName(categoryName);
+    public StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStores(
+            @PathVariable String categoryName,
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return categoryService.getStoresByCategoryName(categoryName, cursor, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
     }
 
     @Override
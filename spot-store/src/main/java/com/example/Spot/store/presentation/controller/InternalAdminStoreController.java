@@ -30,6 +30,8 @@ public class InternalAdminStoreController {
 
     private final AdminStoreInternalService adminStoreInternalService;
 
+    // 조회는 관리자 대시보드의 백그라운드 갱신(서비스 자격 증명)도 허용한다
+    @PreAuthorize("hasAnyRole('MASTER','MANAGER','SERVICE')")
     @GetMapping
     public ResponseEntity<StorePageResponse<AdminStoreListResponse>> getAllStores(
             @RequestParam(defaultValue = "0") int page,
@@ -52,6 +54,8 @@ public class InternalAdminStoreController {
         adminStoreInternalService.deleteStore(storeId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    @PreAuthorize("hasAnyRole('MASTER','MANAGER','SERVICE')")
     @GetMapping("/count")
     public ResponseEntity<Long> getStoreCount() {
         long count = adminStoreInternalService.getStoreCount();
@@ -1,5 +1,6 @@
 package com.example.Spot.store.presentation.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -24,11 +25,16 @@ import com.example.Spot.global.feign.dto.StorePageResponse;
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.store.application.service.StoreService;
 import com.example.Spot.store.domain.StoreStatus;
+import com.example.Spot.store.infrastructure.cache.StoreDetailSnapshot;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreNearbyResponse;
+import com.example.Spot.store.presentation.dto.response.StoreSearchResponse;
+import com.example.Spot.store.presentation.dto.response.StoreSuggestionResponse;
 import com.example.Spot.store.presentation.swagger.StoreApi;
 
 import jakarta.validation.Valid;
@@ -42,6 +48,10 @@ public class StoreController implements StoreApi {
 
     // Store는 Master, Manager 인지 Owner인지 확인하는 강한 결합을 가지고 있음.
     
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SUGGESTION_SIZE = 20;
+    private static final int MAX_NEARBY_RADIUS = 10_000;
+
     private final StoreService storeService;
 
 //    @Override
@@ -71,7 +81,7 @@ public class StoreController implements StoreApi {
 
     @GetMapping("/my")
     @PreAuthorize("hasAnyRole('OWNER','CHEF')")
-    public ResponseEntity<java.util.List<StoreListResponse>> getMyStores(
+    public ResponseEntity<List<StoreListResponse>> getMyStores(
             @AuthenticationPrincipal CustomUserDetails principal
     ) {
         Integer userId = principal.getUserId();
@@ -91,7 +101,15 @@ public class StoreController implements StoreApi {
         boolean isAdmin = principal != null &&
                 ("MANAGER".equals(principal.getRole()) || "MASTER".equals(principal.getRole()));
 
-        return ResponseEntity.ok(storeService.getStoreDetails(storeId, userId, isAdmin));
+        if (isAdmin) {
+            return ResponseEntity.ok(storeService.getStoreDetails(storeId, userId, true));
+        }
+
+        // If-None-Match 가 ETag 와 같으면 본문 없이 304 로 응답한다
+        StoreDetailSnapshot snapshot = storeService.getStoreDetailSnapshot(storeId);
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .body(snapshot.detail());
     }
 
     @Override
@@ -110,6 +128,19 @@ public class StoreController implements StoreApi {
 
         return ResponseEntity.ok(StorePageResponse.from(stores));
     }
+
+    @Override
+    @GetMapping("/browse")
+    public ResponseEntity<StoreCursorResponse<StoreListResponse>> browseStores(
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        boolean isAdmin =
+                "MANAGER".equals(principal.getRole()) || "MASTER".equals(principal.getRole());
+
+        return ResponseEntity.ok(storeService.browseStores(cursor, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE), isAdmin));
+    }
     
     @Override
     @PatchMapping("/{storeId}")
@@ -163,20 +194,60 @@ public class StoreController implements StoreApi {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    @GetMapping("/nearby")
+    public ResponseEntity<StoreNearbyResponse> getNearbyStores(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3000") int radius,
+            @RequestParam(required = false) Long cursorDistance,
+            @RequestParam(required = false) UUID cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "올바르지 않은 좌표입니다.");
+        }
+        boolean isAdmin =
+                "MANAGER".equals(principal.getRole()) || "MASTER".equals(principal.getRole());
+
+        return ResponseEntity.ok(storeService.getNearbyStores(
+                latitude, longitude, Math.min(Math.max(radius, 1), MAX_NEARBY_RADIUS),
+                cursorDistance, cursorId, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE), isAdmin));
+    }
+
     @Override
     @GetMapping("/search")
-    public ResponseEntity<StorePageResponse<StoreListResponse>> searchStores(
+    public ResponseEntity<StoreSearchResponse> searchStores(
             @RequestParam String keyword,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Double cursorScore,
+            @RequestParam(required = false) UUID cursorId,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails principal
     ) {
+        if (keyword.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
         boolean isAdmin =
                 "MANAGER".equals(principal.getRole()) || "MASTER".equals(principal.getRole());
-        Pageable pageable = PageRequest.of(page, size);
-        Page<StoreListResponse> stores =
-                storeService.searchStoresByName(keyword, isAdmin, pageable);
 
-        return ResponseEntity.ok(StorePageResponse.from(stores));
+        return ResponseEntity.ok(storeService.searchStores(
+                keyword, cursorScore, cursorId, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE), isAdmin));
+    }
+
+    @Override
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<List<StoreSuggestionResponse>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        if (prefix.isBlank()) {
+            return ResponseEntity.ok(List.of());
+        }
+        boolean isAdmin =
+                "MANAGER".equals(principal.getRole()) || "MASTER".equals(principal.getRole());
+
+        return ResponseEntity.ok(storeService.autocomplete(prefix, Math.min(Math.max(size, 1), MAX_SUGGESTION_SIZE), isAdmin));
     }
 }
@@ -6,6 +6,8 @@ import java.util.List;
 import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.entity.StoreEntity;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -21,7 +23,9 @@ public record StoreCreateRequest (
         @NotNull LocalTime closeTime,
         @NotEmpty List<String> categoryNames,
         @NotNull Integer ownerId,
-        @NotNull Integer chefId
+        @NotNull Integer chefId,
+        @DecimalMin("-90") @DecimalMax("90") Double latitude,
+        @DecimalMin("-180") @DecimalMax("180") Double longitude
 ) {
     public StoreEntity toEntity(List<CategoryEntity> categories) {
         StoreEntity store = StoreEntity.builder()
@@ -31,6 +35,8 @@ public record StoreCreateRequest (
                 .phoneNumber(phoneNumber)
                 .openTime(openTime)
                 .closeTime(closeTime)
+                .latitude(latitude)
+                .longitude(longitude)
                 .build();
         
         if (categories != null) {
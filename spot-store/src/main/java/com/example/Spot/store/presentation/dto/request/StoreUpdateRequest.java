@@ -3,6 +3,9 @@ package com.example.Spot.store.presentation.dto.request;
 import java.time.LocalTime;
 import java.util.List;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+
 public record StoreUpdateRequest(
         
     String name,
@@ -11,6 +14,8 @@ public record StoreUpdateRequest(
     String phoneNumber,
     LocalTime openTime,
     LocalTime closeTime,
-    List<String> categoryNames
+    List<String> categoryNames,
+    @DecimalMin("-90") @DecimalMax("90") Double latitude,
+    @DecimalMin("-180") @DecimalMax("180") Double longitude
 ) {}
 
@@ -0,0 +1,16 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매장 목록 keyset 페이지 (id 오름차순).
+ * hasNext 가 true 이면 nextCursor 를 다음 요청의 cursor 로 넘긴다. totalElements 는 캐시된 값이라 잠시 늦을 수 있다.
+ */
+public record StoreCursorResponse<T>(
+        List<T> content,
+        long totalElements,
+        boolean hasNext,
+        UUID nextCursor
+) {
+}
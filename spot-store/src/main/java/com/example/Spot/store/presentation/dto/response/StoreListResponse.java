@@ -15,7 +15,11 @@ public record StoreListResponse (
     String phoneNumber,
     List<String> categoryNames,
     StoreStatus status,
-    boolean isDeleted
+    boolean isDeleted,
+    Double latitude,
+    Double longitude,
+    double averageRating,
+    long reviewCount
 ) {
     // Entity -> DTO 변환 메서드
     public static StoreListResponse fromEntity(StoreEntity store) {
@@ -29,7 +33,11 @@ public record StoreListResponse (
                         .map(map -> map.getCategory().getName())
                         .toList(),
                 store.getStatus(),
-                store.getIsDeleted()
+                store.getIsDeleted(),
+                store.getLatitude(),
+                store.getLongitude(),
+                store.getRating().getAverage(),
+                store.getRating().getCount()
         );
     }
 }
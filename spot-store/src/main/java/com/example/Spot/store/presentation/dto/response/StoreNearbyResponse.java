@@ -0,0 +1,21 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주변 매장 (거리순 keyset 페이지).
+ * hasNext 가 true 이면 nextCursorDistance / nextCursorId 를 그대로 다음 요청의 커서로 넘긴다.
+ */
+public record StoreNearbyResponse(
+        List<Item> content,
+        boolean hasNext,
+        Long nextCursorDistance,
+        UUID nextCursorId
+) {
+    public record Item(
+            StoreListResponse store,
+            long distanceMeters
+    ) {
+    }
+}
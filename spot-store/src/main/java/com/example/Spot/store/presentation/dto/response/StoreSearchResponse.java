@@ -0,0 +1,16 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매장 검색 결과 (관련도순 keyset 페이지).
+ * hasNext 가 true 이면 nextCursorScore / nextCursorId 를 그대로 다음 요청의 커서로 넘긴다.
+ */
+public record StoreSearchResponse(
+        List<StoreListResponse> content,
+        boolean hasNext,
+        Double nextCursorScore,
+        UUID nextCursorId
+) {
+}
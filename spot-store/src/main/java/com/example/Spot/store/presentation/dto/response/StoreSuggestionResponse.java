@@ -0,0 +1,15 @@
+package com.example.Spot.store.presentation.dto.response;
+
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
+
+/**
+ * 검색어 자동완성 항목. type 은 STORE(매장명) 또는 MENU(메뉴명).
+ */
+public record StoreSuggestionResponse(
+        String text,
+        String type
+) {
+    public static StoreSuggestionResponse from(StoreSearchRepository.Suggestion suggestion) {
+        return new StoreSuggestionResponse(suggestion.text(), suggestion.type());
+    }
+}
@@ -6,10 +6,12 @@ import java.util.UUID;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.store.presentation.dto.request.CategoryRequestDTO;
 import com.example.Spot.store.presentation.dto.response.CategoryResponseDTO;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,13 +29,17 @@ public interface CategoryApi {
     })
     List<CategoryResponseDTO.CategoryItem> getAllCategory();
 
-    @Operation(summary = "카테고리별 매장 조회", description = "특정 카테고리에 속한 매장 목록을 조회합니다.")
+    @Operation(summary = "카테고리별 매장 조회",
+            description = "특정 카테고리에 속한 매장 목록을 id 순 keyset 페이지로 조회합니다. "
+                    + "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
     })
-    List<CategoryResponseDTO.StoreSummary> getStores(
-            @Parameter(description = "카테고리 이름") @PathVariable String categoryName);
+    StoreCursorResponse<CategoryResponseDTO.StoreSummary> getStores(
+            @Parameter(description = "카테고리 이름") @PathVariable String categoryName,
+            @Parameter(description = "커서 - 이전 페이지의 nextCursor") @RequestParam(required = false) UUID cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size);
 
     @Operation(summary = "카테고리 생성", description = "새로운 카테고리를 생성합니다.")
     @ApiResponses({
@@ -1,5 +1,6 @@
 package com.example.Spot.store.presentation.swagger;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
@@ -13,8 +14,12 @@ import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreCursorResponse;
 import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 import com.example.Spot.store.presentation.dto.response.StoreListResponse;
+import com.example.Spot.store.presentation.dto.response.StoreNearbyResponse;
+import com.example.Spot.store.presentation.dto.response.StoreSearchResponse;
+import com.example.Spot.store.presentation.dto.response.StoreSuggestionResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -58,6 +63,17 @@ public interface StoreApi {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
+    @Operation(summary = "매장 목록 커서 조회",
+            description = "매장 목록을 id 순 keyset 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    ResponseEntity<StoreCursorResponse<StoreListResponse>> browseStores(
+            @Parameter(description = "커서 - 이전 페이지의 nextCursor") @RequestParam(required = false) UUID cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
     @Operation(summary = "매장 정보 수정", description = "매장 기본 정보를 수정합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "수정 성공"),
@@ -93,14 +109,45 @@ public interface StoreApi {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 
-    @Operation(summary = "매장 검색", description = "매장 이름으로 검색합니다.")
+    @Operation(summary = "주변 매장 조회",
+            description = "좌표 기준 반경(m, 최대 10km) 안의 매장을 가까운 순으로 반환합니다. "
+                    + "다음 페이지는 응답의 nextCursorDistance, nextCursorId 를 커서로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표")
+    })
+    ResponseEntity<StoreNearbyResponse> getNearbyStores(
+            @Parameter(description = "위도") @RequestParam double latitude,
+            @Parameter(description = "경도") @RequestParam double longitude,
+            @Parameter(description = "반경 (m)") @RequestParam(defaultValue = "3000") int radius,
+            @Parameter(description = "커서 - 이전 페이지의 nextCursorDistance") @RequestParam(required = false) Long cursorDistance,
+            @Parameter(description = "커서 - 이전 페이지의 nextCursorId") @RequestParam(required = false) UUID cursorId,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "매장 검색",
+            description = "매장명 / 메뉴명 / 카테고리명으로 검색해 관련도순으로 반환합니다. "
+                    + "다음 페이지는 응답의 nextCursorScore, nextCursorId 를 커서로 넘겨 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "검색 성공")
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 누락")
     })
-    ResponseEntity<StorePageResponse<StoreListResponse>> searchStores(
+    ResponseEntity<StoreSearchResponse> searchStores(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
-            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "커서 - 이전 페이지의 nextCursorScore") @RequestParam(required = false) Double cursorScore,
+            @Parameter(description = "커서 - 이전 페이지의 nextCursorId") @RequestParam(required = false) UUID cursorId,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
+    );
+
+    @Operation(summary = "검색어 자동완성", description = "입력한 접두어로 시작하는 매장명 / 메뉴명을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    ResponseEntity<List<StoreSuggestionResponse>> autocomplete(
+            @Parameter(description = "접두어") @RequestParam String prefix,
+            @Parameter(description = "최대 개수 (최대 20)") @RequestParam(defaultValue = "10") int size,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal
     );
 }
@@ -0,0 +1,12 @@
+-- 매장 상세 스냅샷 저장 (버전이 그대로일 때만)
+-- KEYS[1] : 스냅샷 키, KEYS[2] : 버전 키
+-- ARGV[1] : 스냅샷을 만들기 전에 읽은 버전, ARGV[2] : 스냅샷 JSON, ARGV[3] : TTL(ms)
+-- 반환    : 저장 여부(1/0)
+-- 만드는 사이 변경이 커밋되어 버전이 올라갔다면 오래된 스냅샷이므로 버린다
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+if tonumber(ARGV[1]) ~= current then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
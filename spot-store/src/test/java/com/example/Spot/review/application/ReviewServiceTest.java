@@ -0,0 +1,117 @@
+package com.example.Spot.review.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.global.feign.UserClient;
+import com.example.Spot.review.application.service.ReviewService;
+import com.example.Spot.review.domain.entity.ReviewEntity;
+import com.example.Spot.review.domain.repository.ReviewRepository;
+import com.example.Spot.review.presentation.dto.request.ReviewCreateRequest;
+import com.example.Spot.review.presentation.dto.request.ReviewUpdateRequest;
+import com.example.Spot.store.domain.entity.StoreEntity;
+import com.example.Spot.store.domain.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceTest {
+
+    @Mock private ReviewRepository reviewRepository;
+    @Mock private StoreRepository storeRepository;
+    @Mock private UserClient userClient;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID reviewId = UUID.randomUUID();
+    private StoreEntity store;
+
+    @BeforeEach
+    void setUp() {
+        store = StoreEntity.builder().name("맛나식당").build();
+        ReflectionTestUtils.setField(store, "id", storeId);
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 작성한 별점 칸만 +1")
+    void createReviewIncrementsRating() {
+        // given
+        given(storeRepository.findByIdAndIsDeletedFalse(storeId)).willReturn(Optional.of(store));
+        given(reviewRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        reviewService.createReview(new ReviewCreateRequest(storeId, 4, "맛있어요"), 1);
+
+        // then
+        verify(storeRepository).applyRatingDelta(storeId, 0, 0, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("별점을 바꾸면 이전 칸 -1, 새 칸 +1")
+    void updateReviewMovesRating() {
+        // given
+        ReviewEntity review = review(4);
+        given(reviewRepository.findByIdWithDetails(reviewId)).willReturn(Optional.of(review));
+
+        // when
+        reviewService.updateReview(reviewId, new ReviewUpdateRequest(2, null), 1);
+
+        // then
+        assertThat(review.getRating()).isEqualTo(2);
+        verify(storeRepository).applyRatingDelta(storeId, 0, 1, 0, -1, 0);
+    }
+
+    @Test
+    @DisplayName("내용만 수정하면 별점 분포는 그대로")
+    void updateContentOnlyKeepsRating() {
+        // given
+        given(reviewRepository.findByIdWithDetails(reviewId)).willReturn(Optional.of(review(4)));
+
+        // when
+        reviewService.updateReview(reviewId, new ReviewUpdateRequest(null, "다시 먹어보니 괜찮아요"), 1);
+
+        // then
+        verify(storeRepository, never()).applyRatingDelta(any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("리뷰 삭제 시 해당 별점 칸 -1")
+    void deleteReviewDecrementsRating() {
+        // given
+        ReviewEntity review = review(5);
+        given(reviewRepository.findByIdWithDetails(reviewId)).willReturn(Optional.of(review));
+
+        // when
+        reviewService.deleteReview(reviewId, 1, false);
+
+        // then
+        assertThat(review.getIsDeleted()).isTrue();
+        verify(storeRepository).applyRatingDelta(storeId, 0, 0, 0, 0, -1);
+    }
+
+    private ReviewEntity review(int rating) {
+        return ReviewEntity.builder()
+                .store(store)
+                .userId(1)
+                .rating(rating)
+                .content("맛있어요")
+                .createdBy(1)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.Spot.store.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -16,12 +17,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.Spot.store.application.service.CategoryServiceImpl;
 import com.example.Spot.store.domain.entity.CategoryEntity;
 import com.example.Spot.store.domain.repository.CategoryRepository;
 import com.example.Spot.store.domain.repository.StoreCategoryRepository;
+import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.cache.StoreCountCache;
+import com.example.Spot.store.infrastructure.repository.StoreListingRepository;
 import com.example.Spot.store.presentation.dto.request.CategoryRequestDTO;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +35,10 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
     @Mock private StoreCategoryRepository storeCategoryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private StoreRepository storeRepository;
+    @Mock private StoreListingRepository storeListingRepository;
+    @Mock private StoreCountCache storeCountCache;
 
     @InjectMocks
     private CategoryServiceImpl categoryService;
@@ -61,14 +70,16 @@ class CategoryServiceTest {
         ReflectionTestUtils.setField(mockCategory, "id", catId);
 
         given(categoryRepository.findByNameAndIsDeletedFalse(catName)).willReturn(mockCategory);
-        given(storeCategoryRepository.findAllActiveByCategoryIdWithStore(catId)).willReturn(List.of());
+        given(storeListingRepository.findStoreIdsByCategory(catId, null, 21)).willReturn(List.of());
+        given(storeCountCache.get(eq("category:" + catId), any())).willReturn(0L);
 
         // when
-        var result = categoryService.getStoresByCategoryName(catName);
+        var result = categoryService.getStoresByCategoryName(catName, null, 20);
 
         // then
-        assertThat(result).isNotNull();
-        verify(storeCategoryRepository).findAllActiveByCategoryIdWithStore(catId);
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        verify(storeListingRepository).findStoreIdsByCategory(catId, null, 21);
     }
 
     @Test
@@ -24,6 +24,8 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.Spot.menu.domain.repository.MenuRepository;
+import com.example.Spot.store.application.service.ServiceRegion;
+import com.example.Spot.store.application.service.StoreDetailSnapshotService;
 import com.example.Spot.store.application.service.StoreService;
 import com.example.Spot.store.application.service.UserCallService;
 import com.example.Spot.store.domain.entity.CategoryEntity;
@@ -32,8 +34,13 @@ import com.example.Spot.store.domain.repository.CategoryRepository;
 import com.example.Spot.store.domain.repository.StoreCategoryRepository;
 import com.example.Spot.store.domain.repository.StoreRepository;
 import com.example.Spot.store.infrastructure.aop.StoreValidationContext;
+import com.example.Spot.store.infrastructure.cache.StoreDetailSnapshot;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
+import com.example.Spot.store.infrastructure.repository.StoreLocationRepository;
+import com.example.Spot.store.infrastructure.repository.StoreSearchRepository;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
+import com.example.Spot.store.presentation.dto.response.StoreDetailResponse;
 
 @ExtendWith(MockitoExtension.class)
 class StoreServiceTest {
@@ -44,6 +51,11 @@ class StoreServiceTest {
     @Mock private StoreCategoryRepository storeCategoryRepository;
     @Mock private MenuRepository menuRepository;
     @Mock private UserCallService userCallService;
+    @Mock private StoreEventProducer storeEventProducer;
+    @Mock private StoreSearchRepository storeSearchRepository;
+    @Mock private StoreLocationRepository storeLocationRepository;
+    @Mock private ServiceRegion serviceRegion;
+    @Mock private StoreDetailSnapshotService storeDetailSnapshotService;
 
     @InjectMocks
     private StoreService storeService;
@@ -58,7 +70,7 @@ class StoreServiceTest {
     @DisplayName("매장 생성 성공 테스트")
     void createStoreSuccess() {
         // given
-        StoreCreateRequest request = new StoreCreateRequest("맛나식당", "서울시 강남구", "101호", "02-123-4567", LocalTime.of(9, 0), LocalTime.of(22, 0), List.of("한식"), 1, 2);
+        StoreCreateRequest request = new StoreCreateRequest("맛나식당", "서울시 강남구", "101호", "02-123-4567", LocalTime.of(9, 0), LocalTime.of(22, 0), List.of("한식"), 1, 2, null, null);
         CategoryEntity mockCategory = CategoryEntity.builder().name("한식").build();
 
         given(categoryRepository.findAllByNameInAndIsDeletedFalse(anyList()))
@@ -79,9 +91,10 @@ class StoreServiceTest {
     void getStoreDetailsFailRegion() {
         // given
         UUID storeId = UUID.randomUUID();
-        StoreEntity store = StoreEntity.builder().roadAddress("부산시 해운대구").build(); // '서울/경기'가 아님
+        StoreDetailResponse detail = new StoreDetailResponse(storeId, "매장", "부산시 해운대구", null, null, // '서울/경기'가 아님
+                null, null, List.of(), List.of(), List.of(), false, null, null);
 
-        given(storeRepository.findByIdWithDetails(storeId, false)).willReturn(Optional.of(store));
+        given(storeDetailSnapshotService.get(storeId)).willReturn(new StoreDetailSnapshot(1, "\"1-0\"", null, detail));
 
         // when & then
         assertThatThrownBy(() -> storeService.getStoreDetails(storeId, 1, false))
@@ -95,7 +108,7 @@ class StoreServiceTest {
         // given
         UUID storeId = UUID.randomUUID();
         StoreEntity store = spy(StoreEntity.builder().name("옛날이름").build());
-        StoreUpdateRequest request = new StoreUpdateRequest("새이름", "서울", "상세", "010", LocalTime.of(10, 0), LocalTime.of(20, 0), null);
+        StoreUpdateRequest request = new StoreUpdateRequest("새이름", "서울", "상세", "010", LocalTime.of(10, 0), LocalTime.of(20, 0), null, null, null);
 
         // AOP에서 컨텍스트에 저장했다고 가정
         StoreValidationContext.setCurrentStore(store);
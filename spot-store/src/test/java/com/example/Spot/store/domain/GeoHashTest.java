@@ -0,0 +1,34 @@
+package com.example.Spot.store.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("좌표를 geohash 로 인코딩한다")
+    void encode() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.5729, 126.9794, 5)).isEqualTo("wydm9");
+    }
+
+    @Test
+    @DisplayName("반경을 덮는 셀은 중심 좌표와 반경 끝 좌표의 셀을 모두 포함한다")
+    void coverRadius() {
+        double latitude = 37.5729;
+        double longitude = 126.9794;
+
+        Set<String> cells = GeoHash.cover(latitude, longitude, 3000, 16);
+
+        assertThat(cells).hasSizeLessThanOrEqualTo(16);
+        int precision = cells.iterator().next().length();
+        assertThat(cells).contains(
+                GeoHash.encode(latitude, longitude, precision),
+                GeoHash.encode(latitude + 0.026, longitude, precision),
+                GeoHash.encode(latitude, longitude - 0.033, precision));
+    }
+}
@@ -6,18 +6,19 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-import com.example.Spot.global.feign.dto.OrderResponse;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import com.example.Spot.admin.presentation.dto.response.AdminStatsResponseDto;
 import com.example.Spot.global.feign.OrderClient;
 import com.example.Spot.global.feign.StoreAdminClient;
-import com.example.Spot.global.feign.dto.OrderPageResponse;
+import com.example.Spot.global.feign.dto.OrderResponse;
 import com.example.Spot.global.feign.dto.OrderStatsResponse;
+import com.example.Spot.global.infrastructure.cache.RefreshAheadCache;
 import com.example.Spot.user.domain.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -26,105 +27,99 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminDashboardService {
 
+    private static final String CACHE_NAME = "admin_dashboard";
+
     private final UserRepository userRepository;
     private final OrderClient orderClient;
     private final StoreAdminClient storeAdminClient;
+    private final AdminSectionLoader sectionLoader;
+    private final RefreshAheadCache refreshAheadCache;
 
-    @Cacheable(value = "admin_dashboard", key = "'dashboard'", cacheManager = "redisCacheManager")
+    // 캐시 키 하나당 재계산은 한 인스턴스에서 한 번만 한다 (RefreshAheadCache)
     public AdminStatsResponseDto getDashboard() {
-        Long totalUsers = 0L;
-        List<AdminStatsResponseDto.UserGrowthDto> userGrowth = calculateUserGrowth(7);
-
-        Long totalOrders = 0L;
-        BigDecimal totalRevenue = BigDecimal.ZERO;
-        Long totalStores = 0L;
-
-        List<OrderResponse> recentOrders = List.of();
-        List<AdminStatsResponseDto.OrderStatusStatsDto> orderStatusStats = List.of();
+        return refreshAheadCache.get(CACHE_NAME, "dashboard", AdminStatsResponseDto.class,
+                this::loadDashboard, AdminStatsResponseDto::isComplete);
+    }
 
-        try {
-            totalUsers = userRepository.count();
-        } catch (Exception ignored) {
-            totalUsers = 0L;
+    // 서로 독립적인 호출은 동시에 보내고, 최근 주문의 매장명 조회만 최근 주문 결과를 기다린다
+    private AdminStatsResponseDto loadDashboard() {
+        try (AdminSectionLoader.Sections sections = sectionLoader.begin()) {
+            CompletableFuture<Long> usersFuture = sections.load("users", userRepository::count);
+            CompletableFuture<OrderStatsResponse> orderStatsFuture = sections.load("orderStats", orderClient::getOrderStats);
+            CompletableFuture<Long> storesFuture = sections.load("stores", storeAdminClient::getStoreCount);
+            CompletableFuture<List<OrderResponse>> recentOrdersFuture = sections.load("recentOrders",
+                    () -> orderClient.getAllOrders(0, 10, "createdAt", "DESC"))
+                    .thenApply(page -> page == null || page.getContent() == null ? List.<OrderResponse>of() : page.getContent());
+            CompletableFuture<Map<UUID, String>> storeNamesFuture = recentOrdersFuture
+                    .thenCompose(orders -> loadStoreNames(sections, orders));
+
+            Long totalUsers = sections.await("users", usersFuture);
+            OrderStatsResponse orderStats = sections.await("orderStats", orderStatsFuture);
+            Long totalStores = sections.await("stores", storesFuture);
+            List<OrderResponse> recentOrders = sections.await("recentOrders", recentOrdersFuture);
+            Map<UUID, String> storeNames = recentOrders == null || recentOrders.isEmpty()
+                    ? Map.of()
+                    : sections.await("storeNames", storeNamesFuture);
+
+            return AdminStatsResponseDto.builder()
+                    .totalUsers(totalUsers)
+                    .userGrowth(calculateUserGrowth(7))
+                    .totalOrders(orderStats != null ? orderStats.getTotalOrders() : null)
+                    .totalRevenue(orderStats != null ? totalRevenue(orderStats) : null)
+                    .orderStats(orderStats != null ? toOrderStatusStats(orderStats) : null)
+                    .totalStores(totalStores)
+                    .recentOrders(recentOrders != null ? withStoreNames(recentOrders, storeNames) : null)
+                    .degradedSections(sections.degradedSections())
+                    .build();
         }
+    }
 
-        try {
-            OrderStatsResponse stats = orderClient.getOrderStats();
-            if (stats != null) {
-                totalOrders = stats.getTotalOrders();
-                totalRevenue = stats.getTotalRevenue() == null ? BigDecimal.ZERO : stats.getTotalRevenue();
-
-                if (stats.getOrderStatusStats() != null) {
-                    orderStatusStats = stats.getOrderStatusStats()
-                            .stream()
-                            .map(s -> AdminStatsResponseDto.OrderStatusStatsDto.builder()
-                                    .status(s.getStatus())
-                                    .count(s.getCount())
-                                    .build())
-                            .collect(Collectors.toList());
-                }
-            }
-        } catch (Exception ignored) {
-            totalOrders = 0L;
-            totalRevenue = BigDecimal.ZERO;
-            orderStatusStats = List.of();
+    private CompletableFuture<Map<UUID, String>> loadStoreNames(AdminSectionLoader.Sections sections,
+                                                                List<OrderResponse> orders) {
+        List<UUID> storeIds = orders.stream()
+                .map(OrderResponse::getStoreId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (storeIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
         }
+        return sections.load("storeNames", () -> storeAdminClient.getStoreNames(storeIds));
+    }
 
-        try {
-            OrderPageResponse page = orderClient.getAllOrders(0, 10, "createdAt", "DESC");
-            if (page != null && page.getContent() != null) {
-                recentOrders = page.getContent();
-            }
-            List<UUID> storeIds = recentOrders.stream()
-                    .map(OrderResponse::getStoreId)
-                    .filter(id -> id != null)
-                    .distinct()
-                    .toList();
-
-            Map<UUID, String> storeNameMap = Map.of();
-
-            if (!storeIds.isEmpty()) {
-                Map<UUID, String> resp = storeAdminClient.getStoreNames(storeIds);
-
-                if (resp != null) {
-                    storeNameMap = resp;
-                }
-            }
-
-
-            Map<UUID, String> finalStoreNameMap = storeNameMap;
-            recentOrders = recentOrders.stream()
-                    .map(o -> OrderResponse.builder()
-                            .orderId(o.getOrderId())
-                            .userId(o.getUserId())
-                            .storeId(o.getStoreId())
-                            .storeName(finalStoreNameMap.getOrDefault(o.getStoreId(), null))
-                            .orderNumber(o.getOrderNumber())
-                            .pickupTime(o.getPickupTime())
-                            .createdAt(o.getCreatedAt())
-                            .status(o.getStatus())
-                            .totalAmount(o.getTotalAmount())
-                            .build())
-                    .toList();
-        } catch (Exception ignored) {
-            recentOrders = List.of();
-        }
+    private BigDecimal totalRevenue(OrderStatsResponse stats) {
+        return stats.getTotalRevenue() == null ? BigDecimal.ZERO : stats.getTotalRevenue();
+    }
 
-        try {
-            totalStores = storeAdminClient.getStoreCount();
-        } catch (Exception ignored) {
-            totalStores = 0L;
+    private List<AdminStatsResponseDto.OrderStatusStatsDto> toOrderStatusStats(OrderStatsResponse stats) {
+        if (stats.getOrderStatusStats() == null) {
+            return List.of();
         }
+        return stats.getOrderStatusStats()
+                .stream()
+                .map(s -> AdminStatsResponseDto.OrderStatusStatsDto.builder()
+                        .status(s.getStatus())
+                        .count(s.getCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-        return AdminStatsResponseDto.builder()
-                .totalUsers(totalUsers)
-                .userGrowth(userGrowth)
-                .totalOrders(totalOrders)
-                .totalRevenue(totalRevenue)
-                .totalStores(totalStores)
-                .recentOrders(recentOrders)
-                .orderStats(orderStatusStats)
-                .build();
+    // 매장명 섹션이 degraded 면 storeName 만 비우고 주문 목록은 그대로 보여준다
+    private List<OrderResponse> withStoreNames(List<OrderResponse> orders, Map<UUID, String> storeNames) {
+        Map<UUID, String> names = storeNames != null ? storeNames : Map.of();
+        return orders.stream()
+                .map(o -> OrderResponse.builder()
+                        .orderId(o.getOrderId())
+                        .userId(o.getUserId())
+                        .storeId(o.getStoreId())
+                        .storeName(names.getOrDefault(o.getStoreId(), null))
+                        .orderNumber(o.getOrderNumber())
+                        .pickupTime(o.getPickupTime())
+                        .createdAt(o.getCreatedAt())
+                        .status(o.getStatus())
+                        .totalAmount(o.getTotalAmount())
+                        .build())
+                .toList();
     }
 
     private List<AdminStatsResponseDto.UserGrowthDto> calculateUserGrowth(int days) {
@@ -0,0 +1,145 @@
+package com.example.Spot.admin.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대시보드 / 통계의 섹션별 원격 호출을 가상 스레드에서 동시에 실행한다.
+ * <ul>
+ *     <li>호출마다 call-timeout, 화면 전체는 deadline 안에서만 기다린다</li>
+ *     <li>실패하거나 시간을 넘긴 섹션은 0 으로 채우지 않고 null + degradedSections 로 표시한다</li>
+ *     <li>섹션별 소요 시간: admin.section.latency{section, outcome=success|failure|timeout}</li>
+ * </ul>
+ * Feign 헤더 릴레이(FeignHeaderRelayInterceptor)가 RequestContextHolder / SecurityContextHolder 를 읽으므로
+ * 요청 속성과 인증 정보를 작업 스레드로 넘긴다.
+ */
+@Slf4j
+@Component
+public class AdminSectionLoader {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry meterRegistry;
+    private final Duration callTimeout;
+    private final Duration deadline;
+
+    public AdminSectionLoader(MeterRegistry meterRegistry,
+                              @Value("${spot.admin.dashboard.call-timeout:2s}") Duration callTimeout,
+                              @Value("${spot.admin.dashboard.deadline:3s}") Duration deadline) {
+        this.meterRegistry = meterRegistry;
+        this.callTimeout = callTimeout;
+        this.deadline = deadline;
+    }
+
+    // 화면 하나를 조립하는 동안 쓰는 섹션 묶음. deadline 은 이 시점부터 잰다
+    public Sections begin() {
+        return new Sections(RequestContextHolder.getRequestAttributes(), SecurityContextHolder.getContext(),
+                System.nanoTime() + deadline.toNanos());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Sections implements AutoCloseable {
+
+        private final RequestAttributes requestAttributes;
+        private final SecurityContext securityContext;
+        private final long deadlineNanos;
+        private final List<String> degraded = new ArrayList<>();
+        private volatile boolean closed;
+
+        private Sections(RequestAttributes requestAttributes, SecurityContext securityContext, long deadlineNanos) {
+            this.requestAttributes = requestAttributes;
+            this.securityContext = securityContext;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public <T> CompletableFuture<T> load(String section, Supplier<T> call) {
+            long start = System.nanoTime();
+            return CompletableFuture.supplyAsync(() -> call(call), executor)
+                    .orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> record(section, start, error));
+        }
+
+        /**
+         * deadline 까지 결과를 기다린다. 실패 / 시간 초과면 섹션을 degraded 로 표시하고 null 을 돌려준다.
+         */
+        public <T> T await(String section, CompletableFuture<T> future) {
+            long remaining = deadlineNanos - System.nanoTime();
+            try {
+                return remaining > 0 ? future.get(remaining, TimeUnit.NANOSECONDS) : future.getNow(null);
+            } catch (TimeoutException e) {
+                log.warn("[ADMIN-SECTION] {} 섹션이 화면 deadline({}ms)을 넘겼습니다.", section, deadline.toMillis());
+            } catch (ExecutionException | CancellationException e) {
+                log.warn("[ADMIN-SECTION] {} 섹션 조회 실패: {}", section, rootMessage(e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            degraded.add(section);
+            return null;
+        }
+
+        public List<String> degradedSections() {
+            return List.copyOf(degraded);
+        }
+
+        // 응답을 만든 뒤에는 요청 객체가 재사용될 수 있으므로, 아직 시작하지 않은 후속 호출은 실행하지 않는다
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private <T> T call(Supplier<T> call) {
+            if (closed) {
+                throw new CancellationException("admin sections already closed");
+            }
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return call.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+
+    private void record(String section, long start, Throwable error) {
+        String outcome = error == null ? "success" : error instanceof TimeoutException ? "timeout" : "failure";
+        Timer.builder("admin.section.latency")
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
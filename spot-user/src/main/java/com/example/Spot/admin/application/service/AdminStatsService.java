@@ -4,10 +4,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import com.example.Spot.admin.presentation.dto.response.AdminStatsResponseDto;
@@ -15,6 +15,7 @@ import com.example.Spot.global.feign.OrderClient;
 import com.example.Spot.global.feign.StoreAdminClient;
 import com.example.Spot.global.feign.dto.OrderPageResponse;
 import com.example.Spot.global.feign.dto.OrderStatsResponse;
+import com.example.Spot.global.infrastructure.cache.RefreshAheadCache;
 import com.example.Spot.user.domain.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,50 +24,80 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminStatsService {
 
+    private static final String CACHE_NAME = "admin_dashboard";
+
     private final UserRepository userRepository;
     private final OrderClient orderClient;
     private final StoreAdminClient storeAdminClient;
+    private final AdminSectionLoader sectionLoader;
+    private final RefreshAheadCache refreshAheadCache;
 
-    @Cacheable(value = "admin_dashboard", key = "'user_stats'", cacheManager = "redisCacheManager")
     public AdminStatsResponseDto getUserStats() {
-        Long totalUsers = userRepository.count();
-        List<AdminStatsResponseDto.UserGrowthDto> userGrowth = calculateUserGrowth(7);
+        return refreshAheadCache.get(CACHE_NAME, "user_stats", AdminStatsResponseDto.class,
+                this::loadUserStats, AdminStatsResponseDto::isComplete);
+    }
+
+    private AdminStatsResponseDto loadUserStats() {
+        try (AdminSectionLoader.Sections sections = sectionLoader.begin()) {
+            Long totalUsers = sections.await("users", sections.load("users", userRepository::count));
 
-        return AdminStatsResponseDto.builder()
-                .totalUsers(totalUsers)
-                .userGrowth(userGrowth)
-                .build();
+            return AdminStatsResponseDto.builder()
+                    .totalUsers(totalUsers)
+                    .userGrowth(calculateUserGrowth(7))
+                    .degradedSections(sections.degradedSections())
+                    .build();
+        }
     }
 
-    @Cacheable(value = "admin_dashboard", key = "'order_stats'", cacheManager = "redisCacheManager")
     public AdminStatsResponseDto getOrderStats() {
-        OrderStatsResponse orderStats = orderClient.getOrderStats();
-        OrderPageResponse recentOrders = orderClient.getAllOrders(0, 10, "createdAt", "DESC");
-
-        List<AdminStatsResponseDto.OrderStatusStatsDto> orderStatusStats =
-                (orderStats.getOrderStatusStats() == null ? List.<OrderStatsResponse.OrderStatusStats>of() : orderStats.getOrderStatusStats())
-                        .stream()
-                        .map(stat -> AdminStatsResponseDto.OrderStatusStatsDto.builder()
-                                .status(stat.getStatus())
-                                .count(stat.getCount())
-                                .build())
-                        .collect(Collectors.toList());
-
-        return AdminStatsResponseDto.builder()
-                .totalOrders(orderStats.getTotalOrders())
-                .totalRevenue(orderStats.getTotalRevenue())
-                .recentOrders(recentOrders.getContent())
-                .orderStats(orderStatusStats)
-                .build();
+        return refreshAheadCache.get(CACHE_NAME, "order_stats", AdminStatsResponseDto.class,
+                this::loadOrderStats, AdminStatsResponseDto::isComplete);
+    }
+
+    // 주문 통계와 최근 주문은 서로 독립적이라 동시에 조회한다
+    private AdminStatsResponseDto loadOrderStats() {
+        try (AdminSectionLoader.Sections sections = sectionLoader.begin()) {
+            CompletableFuture<OrderStatsResponse> orderStatsFuture = sections.load("orderStats", orderClient::getOrderStats);
+            CompletableFuture<OrderPageResponse> recentOrdersFuture = sections.load("recentOrders",
+                    () -> orderClient.getAllOrders(0, 10, "createdAt", "DESC"));
+
+            OrderStatsResponse orderStats = sections.await("orderStats", orderStatsFuture);
+            OrderPageResponse recentOrders = sections.await("recentOrders", recentOrdersFuture);
+
+            return AdminStatsResponseDto.builder()
+                    .totalOrders(orderStats != null ? orderStats.getTotalOrders() : null)
+                    .totalRevenue(orderStats != null ? orderStats.getTotalRevenue() : null)
+                    .orderStats(orderStats != null ? toOrderStatusStats(orderStats) : null)
+                    .recentOrders(recentOrders != null ? recentOrders.getContent() : null)
+                    .degradedSections(sections.degradedSections())
+                    .build();
+        }
     }
 
-    @Cacheable(value = "admin_dashboard", key = "'store_stats'", cacheManager = "redisCacheManager")
     public AdminStatsResponseDto getStoreStats() {
-        long totalStores = storeAdminClient.getStoreCount();
+        return refreshAheadCache.get(CACHE_NAME, "store_stats", AdminStatsResponseDto.class,
+                this::loadStoreStats, AdminStatsResponseDto::isComplete);
+    }
+
+    private AdminStatsResponseDto loadStoreStats() {
+        try (AdminSectionLoader.Sections sections = sectionLoader.begin()) {
+            Long totalStores = sections.await("stores", sections.load("stores", storeAdminClient::getStoreCount));
+
+            return AdminStatsResponseDto.builder()
+                    .totalStores(totalStores)
+                    .degradedSections(sections.degradedSections())
+                    .build();
+        }
+    }
 
-        return AdminStatsResponseDto.builder()
-                .totalStores(totalStores)
-                .build();
+    private List<AdminStatsResponseDto.OrderStatusStatsDto> toOrderStatusStats(OrderStatsResponse orderStats) {
+        return (orderStats.getOrderStatusStats() == null ? List.<OrderStatsResponse.OrderStatusStats>of() : orderStats.getOrderStatusStats())
+                .stream()
+                .map(stat -> AdminStatsResponseDto.OrderStatusStatsDto.builder()
+                        .status(stat.getStatus())
+                        .count(stat.getCount())
+                        .build())
+                .collect(Collectors.toList());
     }
 
 
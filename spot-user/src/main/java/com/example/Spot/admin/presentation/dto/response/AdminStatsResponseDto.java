@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import com.example.Spot.global.feign.dto.OrderResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,6 +25,14 @@ public class AdminStatsResponseDto {
     private List<OrderResponse> recentOrders;
     private List<UserGrowthDto> userGrowth;
     private List<OrderStatusStatsDto> orderStats;
+    // 조회에 실패했거나 시간 안에 오지 않은 섹션 이름 (해당 값은 null)
+    private List<String> degradedSections;
+
+    // 모든 섹션을 받아 온 응답인지 (캐시 갱신 주기 결정용, 응답 JSON 에는 넣지 않는다)
+    @JsonIgnore
+    public boolean isComplete() {
+        return degradedSections == null || degradedSections.isEmpty();
+    }
 
     @Getter
     @Builder
@@ -1,9 +1,11 @@
 package com.example.Spot.auth.jwt;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,13 +27,32 @@ public class JWTFilter extends OncePerRequestFilter {
 
     // jwtUtil을 주입받음
     private final JWTUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
-    public JWTFilter(JWTUtil jwtUtil) {
+    public JWTFilter(JWTUtil jwtUtil, GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.jwtUtil = jwtUtil;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 게이트웨이 신뢰 모드: 게이트웨이가 서명한 사용자 헤더로 인증 (JWT 재검증 생략), 또는 서비스 자격 증명
+        if (gatewayIdentityVerifier.supports(request)) {
+            try {
+                GatewayIdentityVerifier.GatewayIdentity identity = gatewayIdentityVerifier.verify(request);
+                if (identity.isService()) {
+                    authenticateService(identity.service());
+                } else {
+                    authenticate(identity.userId(), identity.role());
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // request에서 Authorization 헤더를 찾음
         String authorization = request.getHeader("Authorization");
 
@@ -48,28 +69,27 @@ public class JWTFilter extends OncePerRequestFilter {
 
         // 유효한 토큰만 통과
         try {
-            // refresh 토큰은 SecurityContext에 올리지 않음
-            if (jwtUtil.isExpired(token)) {
+            // 서명 검증 + 파싱은 한 번만 (검증된 토큰은 만료 전까지 캐시)
+            JWTUtil.VerifiedToken verified = jwtUtil.verify(token);
+            if (verified.isExpired()) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
-            String type = jwtUtil.getTokenType(token);
-            if (!"access".equals(type)) {
+            // refresh 토큰은 SecurityContext에 올리지 않음
+            if (!verified.isAccessToken()) {
 
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            Integer userId = jwtUtil.getUserId(token);
-            Role role = jwtUtil.getRole(token);
-
-            UserEntity userForAuth = UserEntity.forAuthentication(userId, role);
-            CustomUserDetails principal = new CustomUserDetails(userForAuth);
-
-            Authentication authToken =
-                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+            Integer userId = verified.userId();
+            Role role = verified.role();
+            if (userId == null || role == null) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
 
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+            authenticate(userId, role);
 
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             // 만료된 토큰 → 401
@@ -86,4 +106,22 @@ public class JWTFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // 내부 서비스 계정: 사용자 principal 없이 ROLE_SERVICE 권한만 가진다
+    private void authenticateService(String service) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                service, null, List.of(new SimpleGrantedAuthority("ROLE_SERVICE")));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private void authenticate(Integer userId, Role role) {
+        UserEntity userForAuth = UserEntity.forAuthentication(userId, role);
+        CustomUserDetails principal = new CustomUserDetails(userForAuth);
+
+        Authentication authToken =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -1,7 +1,12 @@
 package com.example.Spot.auth.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -10,58 +15,96 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.Spot.user.domain.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
 public class JWTUtil {
     /*
-      JWT Util: 토큰 생성, id와 role 리턴 수행
+      JWT Util: 토큰 생성, 검증(userId, role, type 리턴) 수행
      */
 
     // jwt secret값 불러와서 암호화
-    private SecretKey secretKey;
-
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
-        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+    private final SecretKey secretKey;
+
+    // 검증을 마친 토큰의 claims (key = 토큰 SHA-256). 각 항목은 토큰 만료 시각에 함께 만료된다
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Duration maxCacheTtl;
+
+    public JWTUtil(
+            @Value("${spring.jwt.secret}") String secret,
+            @Value("${spring.jwt.verify-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${spring.jwt.verify-cache.max-ttl-seconds:600}") long cacheMaxTtlSeconds,
+            MeterRegistry meterRegistry) {
+        this.secretKey = new SecretKeySpec(
+                secret.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm()
+        );
+        this.maxCacheTtl = Duration.ofSeconds(cacheMaxTtlSeconds);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) -> ttl(token)))
+                .recordStats()
+                .build();
+
+        // actuator metrics: cache.gets{cache=jwt_verified,result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt_verified");
     }
 
-    public Integer getUserId(String token) {
-        String sub = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-
-        return Integer.valueOf(sub);
+    /**
+     * 서명 검증 + claims 파싱을 한 번만 수행하고 필요한 값을 모두 돌려준다.
+     * 같은 토큰은 만료 전까지 캐시된 결과를 재사용한다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 형식 오류, 만료된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(parseClaims(token));
+        verifiedTokens.put(key, verified);
+        return verified;
     }
 
-    // Role enum으로 리턴
-    public Role getRole(String token) {
-        String roleStr = Jwts.parser()
+    // 내부에서 공통으로 쓰는 "서명 검증 + Claims 파싱" (만료된 토큰은 ExpiredJwtException)
+    private Claims parseClaims(String token) {
+        return Jwts.parser()
                 .verifyWith(secretKey)
                 .build()
                 .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
-
-        return Role.valueOf(roleStr);
+                .getPayload();
     }
 
-    public String getTokenType(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("type", String.class);
+    private Duration ttl(VerifiedToken token) {
+        if (token.expiresAt() == null) {
+            return maxCacheTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxCacheTtl) < 0 ? remaining : maxCacheTtl;
     }
 
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
+    // Access Token
     public String createJwt(Integer userId, Role role, Long expiredMs) {
         return Jwts.builder()
                 .subject(userId.toString())
@@ -84,4 +127,30 @@ public class JWTUtil {
                 .compact();
     }
 
+    /**
+     * 검증된 토큰의 claims.
+     * subject 를 userId 로 쓰고 있으니 Integer 로 변환해 둔다 (subject/role 이 없으면 null).
+     */
+    public record VerifiedToken(Integer userId, Role role, String type, Instant expiresAt) {
+
+        static VerifiedToken from(Claims claims) {
+            String sub = claims.getSubject();
+            String roleStr = claims.get("role", String.class);
+            Date exp = claims.getExpiration();
+            return new VerifiedToken(
+                    sub == null || sub.isBlank() ? null : Integer.valueOf(sub),
+                    roleStr == null || roleStr.isBlank() ? null : Role.valueOf(roleStr),
+                    claims.get("type", String.class),
+                    exp == null ? null : exp.toInstant()
+            );
+        }
+
+        public boolean isAccessToken() {
+            return "access".equals(type);
+        }
+
+        public boolean isExpired() {
+            return expiresAt != null && expiresAt.isBefore(Instant.now());
+        }
+    }
 }
@@ -1,8 +1,11 @@
 package com.example.Spot.global.feign.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.example.Spot.auth.jwt.GatewayIdentityVerifier;
+
 import feign.RequestInterceptor;
 
 
@@ -11,7 +14,8 @@ import feign.RequestInterceptor;
 public class FeignConfig {
 
     @Bean
-    public RequestInterceptor feignHeaderRelayInterceptor() {
-        return new FeignHeaderRelayInterceptor();
+    public RequestInterceptor feignHeaderRelayInterceptor(GatewayIdentityVerifier gatewayIdentityVerifier,
+                                                          @Value("${spring.application.name}") String serviceName) {
+        return new FeignHeaderRelayInterceptor(gatewayIdentityVerifier, serviceName);
     }
 }
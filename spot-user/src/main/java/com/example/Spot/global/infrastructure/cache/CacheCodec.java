@@ -0,0 +1,12 @@
+package com.example.Spot.global.infrastructure.cache;
+
+/**
+ * 캐시 값 직렬화 방식. 타입 정보를 값에 넣지 않으므로 읽을 때 타입을 넘겨야 한다.
+ * 실패하면 org.springframework.data.redis.serializer.SerializationException 을 던진다.
+ */
+public interface CacheCodec {
+
+    byte[] encode(Object value);
+
+    <T> T decode(byte[] bytes, Class<T> type);
+}
@@ -0,0 +1,30 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.config.redis.RedisCacheProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 이름별 코덱 (spot.cache.caches.&lt;name&gt;.codec / compress-threshold). 이름마다 한 번만 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheCodecRegistry {
+
+    private final RedisCacheProperties cacheProperties;
+    private final Map<String, CacheCodec> codecs = new ConcurrentHashMap<>();
+
+    public CacheCodec codec(String cacheName) {
+        return codecs.computeIfAbsent(cacheName, name -> create(cacheProperties.spec(name)));
+    }
+
+    public static CacheCodec create(RedisCacheProperties.CacheSpec spec) {
+        CacheCodec codec = spec.getCodec().create();
+        return spec.getCompressThreshold() > 0 ? new CompressingCacheCodec(codec, spec.getCompressThreshold()) : codec;
+    }
+}
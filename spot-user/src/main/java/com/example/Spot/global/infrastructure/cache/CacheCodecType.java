@@ -0,0 +1,48 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * 캐시 코덱 종류. 모두 같은 Jackson 매핑(필드명 기준, 타입 정보 없음)을 쓰고 바이트 형식만 다르다.
+ * SMILE / CBOR 는 바이너리 형식이라 JSON 보다 작고 파싱이 빠르다.
+ */
+public enum CacheCodecType {
+
+    JSON {
+        @Override
+        ObjectMapper mapper() {
+            return JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+        }
+    },
+    SMILE {
+        @Override
+        ObjectMapper mapper() {
+            return SmileMapper.builder()
+                    .findAndAddModules()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+        }
+    },
+    CBOR {
+        @Override
+        ObjectMapper mapper() {
+            return CBORMapper.builder()
+                    .findAndAddModules()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+        }
+    };
+
+    abstract ObjectMapper mapper();
+
+    public CacheCodec create() {
+        return new JacksonCacheCodec(mapper());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * RedisCacheManager 용 타입 고정 직렬화기. 값 타입을 설정으로 알고 있으므로 클래스 이름을 값에 넣지 않는다.
+ */
+public class CodecRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final CacheCodec codec;
+    private final Class<T> type;
+
+    public CodecRedisSerializer(CacheCodec codec, Class<T> type) {
+        this.codec = codec;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        return value == null ? null : codec.encode(value);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        return bytes == null ? null : codec.decode(bytes, type);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * threshold 바이트 이상인 값만 deflate(BEST_SPEED)로 압축한다.
+ * 첫 바이트가 압축 여부(0 = 원본, 1 = deflate)이므로 threshold 를 바꿔도 기존 값을 그대로 읽는다.
+ */
+public class CompressingCacheCodec implements CacheCodec {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private final CacheCodec delegate;
+    private final int threshold;
+
+    public CompressingCacheCodec(CacheCodec delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        byte[] encoded = delegate.encode(value);
+        if (encoded.length < threshold) {
+            return withHeader(RAW, encoded, encoded.length);
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(encoded);
+            deflater.finish();
+            byte[] buffer = new byte[encoded.length];
+            int length = deflater.deflate(buffer);
+            // 압축해도 작아지지 않으면 원본을 저장한다
+            return deflater.finished()
+                    ? withHeader(DEFLATED, buffer, length)
+                    : withHeader(RAW, encoded, encoded.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        if (bytes.length == 0) {
+            throw new SerializationException("빈 캐시 값");
+        }
+        byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return delegate.decode(bytes[0] == DEFLATED ? inflate(body) : body, type);
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("손상된 압축 캐시 값");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축 캐시 값 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] withHeader(byte flag, byte[] body, int length) {
+        byte[] result = new byte[length + 1];
+        result[0] = flag;
+        System.arraycopy(body, 0, result, 1, length);
+        return result;
+    }
+}
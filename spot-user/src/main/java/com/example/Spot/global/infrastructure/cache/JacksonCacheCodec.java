@@ -0,0 +1,34 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import java.io.IOException;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JacksonCacheCodec implements CacheCodec {
+
+    private final ObjectMapper mapper;
+
+    public JacksonCacheCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패: " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.config.redis.RedisCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재계산 폭주(stampede)를 막는 refresh-ahead Redis 캐시.
+ * <ul>
+ *     <li>값마다 갱신 시각(refreshAt)을 함께 저장하고, Redis TTL 은 그보다 stale-ttl 만큼 길게 둔다</li>
+ *     <li>갱신 시각이 가까워지면 재계산 소요 시간에 비례한 확률로 미리 갱신한다 (XFetch)</li>
+ *     <li>재계산은 Redis 락(SET NX PX)을 잡은 인스턴스 하나만 백그라운드에서 하고, 나머지는 기존 값을 그대로 받는다</li>
+ *     <li>값이 아예 없을 때만 락을 잡은 요청이 직접 계산하고, 다른 요청은 그 결과가 저장될 때까지 기다린다</li>
+ * </ul>
+ * 따라서 관리자가 몇 명이든 캐시 키 하나당 재계산은 한 번에 하나다.
+ * 일부 섹션이 빠진 값(complete 가 false)은 degraded-ttl 뒤에 다시 계산하고, 이미 있는 완전한 값을 덮어쓰지 않는다
+ * (완전한 값은 Redis TTL 이 끝날 때까지 그대로 내주고 degraded-ttl 마다 다시 갱신을 시도한다).
+ * 값은 캐시별 코덱(CacheCodecRegistry)으로 직렬화하고, max-entry-bytes 보다 크면 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class RefreshAheadCache {
+
+    // 값 앞에 갱신 시각(8바이트) + 재계산 소요 시간(8바이트) + 완전한 값 여부(1바이트)를 붙여 저장한다.
+    // 형식이 바뀌면 버전을 올린다
+    private static final String KEY_PREFIX = "refresh-ahead:v3:";
+    private static final int HEADER_BYTES = Long.BYTES * 2 + 1;
+    private static final byte COMPLETE = 1;
+    private static final byte DEGRADED = 0;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private static final RedisScript<Long> RELEASE_LOCK =
+            RedisScript.of(new ClassPathResource("scripts/cache_lock_release.lua"), Long.class);
+
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, byte[]> bytesRedisTemplate;
+    private final CacheCodecRegistry codecRegistry;
+    private final RedisCacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    public RefreshAheadCache(StringRedisTemplate redisTemplate,
+                             RedisTemplate<String, byte[]> bytesRedisTemplate,
+                             CacheCodecRegistry codecRegistry,
+                             RedisCacheProperties cacheProperties,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.bytesRedisTemplate = bytesRedisTemplate;
+        this.codecRegistry = codecRegistry;
+        this.cacheProperties = cacheProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T get(String cacheName, String key, Class<T> type, Supplier<T> loader, Predicate<T> complete) {
+        RedisCacheProperties.CacheSpec spec = cacheProperties.spec(cacheName);
+        String valueKey = KEY_PREFIX + cacheName + "::" + key;
+        String lockKey = valueKey + ":lock";
+
+        try {
+            Entry<T> entry = read(cacheName, valueKey, type);
+            if (entry != null) {
+                if (shouldRefresh(entry, spec)) {
+                    refreshInBackground(cacheName, valueKey, lockKey, spec, loader, complete);
+                } else {
+                    count(cacheName, "hit");
+                }
+                return entry.value();
+            }
+
+            count(cacheName, "miss");
+            return loadOrWait(cacheName, valueKey, lockKey, type, spec, loader, complete);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 캐시 없이 계산한다
+            log.warn("[REFRESH-AHEAD] {} Redis 사용 불가, 캐시 없이 계산합니다: {}", valueKey, e.getMessage());
+            count(cacheName, "bypass");
+            return loader.get();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 락을 잡으면 직접 계산, 못 잡으면 계산 중인 쪽이 저장할 때까지 기다린다 (리스가 끝나면 락을 다시 시도)
+    private <T> T loadOrWait(String cacheName, String valueKey, String lockKey, Class<T> type,
+                             RedisCacheProperties.CacheSpec spec, Supplier<T> loader, Predicate<T> complete) {
+        long giveUpAt = System.nanoTime() + spec.getLockLease().multipliedBy(2).toNanos();
+        while (System.nanoTime() < giveUpAt) {
+            String token = tryLock(lockKey, spec);
+            if (token != null) {
+                try {
+                    return computeAndStore(cacheName, valueKey, spec, loader, complete);
+                } finally {
+                    unlock(lockKey, token);
+                }
+            }
+
+            sleep();
+            Entry<T> entry = read(cacheName, valueKey, type);
+            if (entry != null) {
+                count(cacheName, "wait");
+                return entry.value();
+            }
+        }
+
+        log.warn("[REFRESH-AHEAD] {} 재계산 대기 시간 초과, 저장 없이 계산합니다.", valueKey);
+        return loader.get();
+    }
+
+    private <T> void refreshInBackground(String cacheName, String valueKey, String lockKey,
+                                         RedisCacheProperties.CacheSpec spec, Supplier<T> loader, Predicate<T> complete) {
+        String token = tryLock(lockKey, spec);
+        if (token == null) {
+            count(cacheName, "hit");
+            return;
+        }
+
+        count(cacheName, "refresh");
+        refresher.execute(() -> {
+            try {
+                computeAndStore(cacheName, valueKey, spec, loader, complete);
+            } catch (RuntimeException e) {
+                log.warn("[REFRESH-AHEAD] {} 백그라운드 갱신 실패, 기존 값을 유지합니다.", valueKey, e);
+            } finally {
+                unlock(lockKey, token);
+            }
+        });
+    }
+
+    private <T> T computeAndStore(String cacheName, String valueKey, RedisCacheProperties.CacheSpec spec,
+                                  Supplier<T> loader, Predicate<T> complete) {
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        long now = System.currentTimeMillis();
+
+        boolean isComplete = complete.test(value);
+        if (!isComplete && keepCompleteEntry(cacheName, valueKey, spec, now)) {
+            return value;
+        }
+
+        Duration fresh = isComplete ? spec.getTtl() : spec.getDegradedTtl();
+        try {
+            byte[] payload = codecRegistry.codec(cacheName).encode(value);
+            if (payload.length > spec.getMaxEntryBytes()) {
+                log.warn("[REFRESH-AHEAD] {} 값이 너무 커서({} bytes > {}) 저장하지 않습니다.",
+                        valueKey, payload.length, spec.getMaxEntryBytes());
+                count(cacheName, "oversize");
+                return value;
+            }
+            byte[] stored = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                    .putLong(now + fresh.toMillis())
+                    .putLong(now - start)
+                    .put(isComplete ? COMPLETE : DEGRADED)
+                    .put(payload)
+                    .array();
+            bytesRedisTemplate.opsForValue().set(valueKey, stored, fresh.plus(spec.getStaleTtl()));
+        } catch (SerializationException e) {
+            log.warn("[REFRESH-AHEAD] {} 직렬화 실패로 저장하지 않습니다.", valueKey, e);
+        }
+        return value;
+    }
+
+    // XFetch: 남은 시간이 (재계산 시간 * beta * -ln(rand)) 보다 짧아지면 갱신. 갱신 시각이 지났으면 항상 갱신
+    private boolean shouldRefresh(Entry<?> entry, RedisCacheProperties.CacheSpec spec) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double earlyMillis = entry.computeMillis() * spec.getBeta() * -Math.log(random);
+        return System.currentTimeMillis() + earlyMillis >= entry.refreshAt();
+    }
+
+    private <T> Entry<T> read(String cacheName, String valueKey, Class<T> type) {
+        byte[] stored = bytesRedisTemplate.opsForValue().get(valueKey);
+        if (stored == null) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(stored);
+            long refreshAt = buffer.getLong();
+            long computeMillis = buffer.getLong();
+            buffer.get();
+            byte[] payload = new byte[buffer.remaining()];
+            buffer.get(payload);
+            return new Entry<>(codecRegistry.codec(cacheName).decode(payload, type), refreshAt, computeMillis);
+        } catch (SerializationException | BufferUnderflowException e) {
+            // 코덱 설정이 바뀌었거나 형식이 다른 값은 없는 것으로 보고 다시 계산한다
+            log.warn("[REFRESH-AHEAD] {} 역직렬화 실패: {}", valueKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이미 완전한 값이 있으면 degraded 값으로 덮어쓰지 않고, 기존 값의 갱신 시각만 degraded-ttl 뒤로 미룬다.
+     * Redis TTL 은 그대로 두므로 하위 서비스 장애가 길어지면 stale-ttl 이 지난 뒤에는 degraded 값이 저장된다.
+     */
+    private boolean keepCompleteEntry(String cacheName, String valueKey, RedisCacheProperties.CacheSpec spec, long now) {
+        byte[] stored = bytesRedisTemplate.opsForValue().get(valueKey);
+        if (stored == null || stored.length < HEADER_BYTES || stored[Long.BYTES * 2] != COMPLETE) {
+            return false;
+        }
+
+        ByteBuffer.wrap(stored).putLong(0, now + spec.getDegradedTtl().toMillis());
+        byte[] key = valueKey.getBytes(StandardCharsets.UTF_8);
+        Boolean kept = bytesRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(key, stored, Expiration.keepTtl(), RedisStringCommands.SetOption.SET_IF_PRESENT));
+        if (!Boolean.TRUE.equals(kept)) {
+            return false;
+        }
+
+        log.warn("[REFRESH-AHEAD] {} 일부 섹션이 빠진 값이라 기존 값을 유지합니다.", valueKey);
+        count(cacheName, "degraded_kept");
+        return true;
+    }
+
+    private String tryLock(String lockKey, RedisCacheProperties.CacheSpec spec) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, spec.getLockLease());
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), token);
+        } catch (DataAccessException e) {
+            // 해제하지 못해도 리스가 끝나면 풀린다
+            log.warn("[REFRESH-AHEAD] {} 락 해제 실패: {}", lockKey, e.getMessage());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void count(String cacheName, String result) {
+        meterRegistry.counter("cache.refresh_ahead.requests", "cache", cacheName, "result", result).increment();
+    }
+
+    private record Entry<T>(T value, long refreshAt, long computeMillis) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.Spot.global.infrastructure.config.redis;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.cache.CacheCodecType;
+
+/**
+ * 캐시 이름별 설정 (spot.cache.caches.&lt;name&gt;). 설정이 없는 캐시는 default-ttl 을 쓴다.
+ * ttl 은 @Cacheable(RedisCacheManager) 캐시의 TTL 이자 RefreshAheadCache 의 갱신 주기이다.
+ * codec / compress-threshold 는 값을 저장하는 바이트 형식이다 (CacheCodecRegistry).
+ */
+@Component
+@ConfigurationProperties(prefix = "spot.cache")
+public class RedisCacheProperties {
+
+    private Duration defaultTtl = Duration.ofMinutes(10);
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public Map<String, CacheSpec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, CacheSpec> caches) {
+        this.caches = caches;
+    }
+
+    public CacheSpec spec(String cacheName) {
+        CacheSpec spec = caches.get(cacheName);
+        if (spec != null) {
+            return spec;
+        }
+        CacheSpec defaults = new CacheSpec();
+        defaults.setTtl(defaultTtl);
+        return defaults;
+    }
+
+    public static class CacheSpec {
+        private Duration ttl = Duration.ofMinutes(10);
+        private Duration staleTtl = Duration.ofMinutes(5);      // 갱신 주기가 지난 값을 재계산 동안 내줄 수 있는 시간
+        private Duration degradedTtl = Duration.ofSeconds(15);  // 일부 섹션이 빠진 값은 이 주기로 다시 계산한다
+        private Duration lockLease = Duration.ofSeconds(10);    // 재계산 락 리스 (재계산 최대 시간보다 길게)
+        private double beta = 1.0;                              // 조기 갱신 강도 (클수록 일찍 갱신)
+        private CacheCodecType codec = CacheCodecType.JSON;
+        private int compressThreshold = 1024;                   // 이 크기(바이트) 이상만 압축, 0 이하면 압축하지 않는다
+        private int maxEntryBytes = 512 * 1024;                 // 이보다 큰 값은 저장하지 않는다 (RefreshAheadCache)
+        private Class<?> valueType;                             // @Cacheable 캐시를 코덱으로 저장할 때의 값 타입
+
+        public Duration getTtl() {
+            return ttl;
+        }
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+        public Duration getStaleTtl() {
+            return staleTtl;
+        }
+        public void setStaleTtl(Duration staleTtl) {
+            this.staleTtl = staleTtl;
+        }
+        public Duration getDegradedTtl() {
+            return degradedTtl;
+        }
+        public void setDegradedTtl(Duration degradedTtl) {
+            this.degradedTtl = degradedTtl;
+        }
+        public Duration getLockLease() {
+            return lockLease;
+        }
+        public void setLockLease(Duration lockLease) {
+            this.lockLease = lockLease;
+        }
+        public double getBeta() {
+            return beta;
+        }
+        public void setBeta(double beta) {
+            this.beta = beta;
+        }
+        public CacheCodecType getCodec() {
+            return codec;
+        }
+        public void setCodec(CacheCodecType codec) {
+            this.codec = codec;
+        }
+        public int getCompressThreshold() {
+            return compressThreshold;
+        }
+        public void setCompressThreshold(int compressThreshold) {
+            this.compressThreshold = compressThreshold;
+        }
+        public int getMaxEntryBytes() {
+            return maxEntryBytes;
+        }
+        public void setMaxEntryBytes(int maxEntryBytes) {
+            this.maxEntryBytes = maxEntryBytes;
+        }
+        public Class<?> getValueType() {
+            return valueType;
+        }
+        public void setValueType(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.Spot.global.infrastructure.config.redis;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -9,10 +10,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.Spot.global.infrastructure.cache.CacheCodecRegistry;
+import com.example.Spot.global.infrastructure.cache.CodecRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
@@ -23,7 +28,45 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class RedisConfig {
 
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory, RedisCacheProperties cacheProperties) {
+        // 1~2. 값 타입을 모르는 캐시용 기본 Serializer (JSON 에 클래스 정보 포함)
+        GenericJackson2JsonRedisSerializer serializer = typedJsonSerializer();
+
+        // 3. 캐시 설정에 적용
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer)) // 커스텀 시리얼라이저 적용
+            .entryTtl(cacheProperties.getDefaultTtl());
+
+        // 4. 캐시 이름별 TTL (spot.cache.caches.<name>.ttl)
+        //    value-type 이 있으면 클래스 정보 없이 설정한 코덱(codec / compress-threshold)으로 저장한다
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        cacheProperties.getCaches().forEach((name, spec) -> {
+            RedisCacheConfiguration cacheConfig = config.entryTtl(spec.getTtl());
+            if (spec.getValueType() != null) {
+                cacheConfig = cacheConfig.serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(codecSerializer(spec, spec.getValueType())));
+            }
+            perCache.put(name, cacheConfig);
+        });
+
+        return RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(config)
+            .withInitialCacheConfigurations(perCache)
+            .build();
+    }
+
+    // RefreshAheadCache 가 코덱으로 만든 바이트를 그대로 저장할 때 쓴다
+    @Bean
+    public RedisTemplate<String, byte[]> cacheBytesRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    public static GenericJackson2JsonRedisSerializer typedJsonSerializer() {
         // 1. 날짜 처리를 위한 ObjectMapper 설정
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // 날짜 모듈 등록
@@ -36,16 +79,10 @@ public class RedisConfig {
         objectMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL);
 
         // 2. 위 설정을 가진 Serializer 생성
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-
-        // 3. 캐시 설정에 적용
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer)) // 커스텀 시리얼라이저 적용
-            .entryTtl(Duration.ofMinutes(10));
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(config)
-            .build();
+    private static <T> RedisSerializer<T> codecSerializer(RedisCacheProperties.CacheSpec spec, Class<T> type) {
+        return new CodecRedisSerializer<>(CacheCodecRegistry.create(spec), type);
     }
 }
@@ -13,6 +13,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.example.Spot.auth.jwt.GatewayIdentityVerifier;
 import com.example.Spot.auth.jwt.JWTFilter;
 import com.example.Spot.auth.jwt.JWTUtil;
 import com.example.Spot.auth.jwt.LoginFilter;
@@ -26,12 +27,15 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     //JWTUtil 주입
     private final JWTUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 //    // TokenService 주입
 //    private final TokenService tokenService;
 
-    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil) {
+    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil,
+                          GatewayIdentityVerifier gatewayIdentityVerifier) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
+        this.gatewayIdentityVerifier = gatewayIdentityVerifier;
     }
 
     //AuthenticationManager Bean 등록
@@ -103,7 +107,7 @@ public class SecurityConfig {
                 );
 
         http.addFilterBefore(
-                new JWTFilter(jwtUtil),
+                new JWTFilter(jwtUtil, gatewayIdentityVerifier),
                 UsernamePasswordAuthenticationFilter.class
         );
 
@@ -26,16 +26,17 @@ public class TokenService {
     @Transactional(readOnly = true)
     public ReissueResult reissueByRefresh(String refreshToken) {
 
-        if (jwtUtil.isExpired(refreshToken)) {
+        // 만료/위조 토큰은 JwtException
+        JWTUtil.VerifiedToken verified = jwtUtil.verify(refreshToken);
+        if (verified.isExpired()) {
             throw new IllegalArgumentException("Refresh token expired");
         }
 
-        String type = jwtUtil.getTokenType(refreshToken);
-        if (!"refresh".equals(type)) {
+        if (!"refresh".equals(verified.type())) {
             throw new IllegalArgumentException("Not a refresh token");
         }
 
-        Integer userId = jwtUtil.getUserId(refreshToken);
+        Integer userId = verified.userId();
 
         // 권한은 DB에서 최신 role 조회 (수정 중이면 대기)
         Role role = userRepository.findByIdWithLock(userId)
@@ -0,0 +1,9 @@
+-- 캐시 재계산 락 해제 (내가 잡은 락일 때만)
+-- KEYS[1] : 락 키
+-- ARGV[1] : 락을 잡을 때 넣은 토큰
+-- 반환    : 해제 여부(1/0)
+-- 리스가 만료되어 다른 인스턴스가 이미 락을 잡았다면 지우지 않는다
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
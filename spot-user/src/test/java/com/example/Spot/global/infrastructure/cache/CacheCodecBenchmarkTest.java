@@ -0,0 +1,169 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.example.Spot.admin.presentation.dto.response.AdminStatsResponseDto;
+import com.example.Spot.global.feign.dto.OrderResponse;
+import com.example.Spot.global.infrastructure.config.redis.RedisCacheProperties;
+import com.example.Spot.global.infrastructure.config.redis.RedisConfig;
+
+/**
+ * 캐시 코덱 왕복 검증 + 크기 / 속도 비교.
+ * 벤치마크는 -Dbenchmark=true 일 때만 실행한다. (./gradlew :spot-user:test --tests '*CacheCodecBenchmarkTest' -Dbenchmark=true)
+ */
+class CacheCodecBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    void 모든_코덱이_대시보드_값을_그대로_복원한다() {
+        AdminStatsResponseDto dashboard = dashboard(20);
+
+        for (CacheCodecType type : CacheCodecType.values()) {
+            for (int threshold : new int[]{0, 64}) {
+                CacheCodec codec = CacheCodecRegistry.create(spec(type, threshold));
+
+                AdminStatsResponseDto decoded = codec.decode(codec.encode(dashboard), AdminStatsResponseDto.class);
+
+                assertThat(decoded).usingRecursiveComparison().isEqualTo(dashboard);
+                assertThat(decoded.isComplete()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void 압축해도_작아지지_않는_값은_원본으로_저장한다() {
+        CacheCodec codec = new CompressingCacheCodec(CacheCodecType.JSON.create(), 1);
+
+        byte[] encoded = codec.encode("a");
+
+        assertThat(encoded[0]).isZero();
+        assertThat(codec.decode(encoded, String.class)).isEqualTo("a");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 코덱별_크기와_직렬화_시간을_비교한다() {
+        benchmark("admin_dashboard", dashboard(20), AdminStatsResponseDto.class);
+        benchmark("store_detail", storeDetail(30, 4), StoreDetail.class);
+    }
+
+    private <T> void benchmark(String payloadName, T value, Class<T> type) {
+        Map<String, Function<T, byte[]>> encoders = new LinkedHashMap<>();
+        Map<String, Function<byte[], T>> decoders = new LinkedHashMap<>();
+
+        // 기존 방식: 클래스 정보(@class)를 값에 넣는 JSON
+        GenericJackson2JsonRedisSerializer typedJson = RedisConfig.typedJsonSerializer();
+        encoders.put("typed-json", typedJson::serialize);
+        decoders.put("typed-json", bytes -> typedJson.deserialize(bytes, type));
+
+        for (CacheCodecType codecType : CacheCodecType.values()) {
+            for (int threshold : new int[]{0, 1024}) {
+                CacheCodec codec = CacheCodecRegistry.create(spec(codecType, threshold));
+                String name = codecType.name().toLowerCase() + (threshold > 0 ? "+deflate" : "");
+                encoders.put(name, codec::encode);
+                decoders.put(name, bytes -> codec.decode(bytes, type));
+            }
+        }
+
+        System.out.printf("%n[%s]%n%-16s %8s %12s %12s%n", payloadName, "codec", "bytes", "ser(us)", "deser(us)");
+        encoders.forEach((name, encoder) -> {
+            Function<byte[], T> decoder = decoders.get(name);
+            byte[] bytes = encoder.apply(value);
+            for (int i = 0; i < WARMUP; i++) {
+                decoder.apply(encoder.apply(value));
+            }
+
+            long serNanos = 0;
+            long deserNanos = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                byte[] encoded = encoder.apply(value);
+                long mid = System.nanoTime();
+                decoder.apply(encoded);
+                deserNanos += System.nanoTime() - mid;
+                serNanos += mid - start;
+            }
+            System.out.printf("%-16s %8d %12.2f %12.2f%n", name, bytes.length,
+                    serNanos / 1_000.0 / ITERATIONS, deserNanos / 1_000.0 / ITERATIONS);
+        });
+    }
+
+    private static RedisCacheProperties.CacheSpec spec(CacheCodecType type, int threshold) {
+        RedisCacheProperties.CacheSpec spec = new RedisCacheProperties.CacheSpec();
+        spec.setCodec(type);
+        spec.setCompressThreshold(threshold);
+        return spec;
+    }
+
+    // typed-json 은 불변 컬렉션(List.of) 타입을 복원하지 못하므로 목록은 ArrayList 로 만든다
+    private static AdminStatsResponseDto dashboard(int recentOrders) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<OrderResponse> orders = IntStream.range(0, recentOrders)
+                .mapToObj(i -> OrderResponse.builder()
+                        .orderId(UUID.randomUUID())
+                        .userId(i)
+                        .storeId(UUID.randomUUID())
+                        .orderNumber("ORD-20260101-" + i)
+                        .pickupTime(now.plusMinutes(30))
+                        .createdAt(now.minusMinutes(i))
+                        .status("COMPLETED")
+                        .totalAmount(BigDecimal.valueOf(15_000L + i * 100L))
+                        .storeName("테스트 매장 " + i)
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        return AdminStatsResponseDto.builder()
+                .totalUsers(12_345L)
+                .totalOrders(67_890L)
+                .totalStores(321L)
+                .totalRevenue(new BigDecimal("123456789.00"))
+                .recentOrders(orders)
+                .degradedSections(new ArrayList<>(List.of("userGrowth", "orderStats")))
+                .build();
+    }
+
+    // spot-store 의 StoreDetailResponse 와 같은 모양 (매장 + 메뉴 + 옵션)
+    private static StoreDetail storeDetail(int menus, int optionsPerMenu) {
+        List<StoreDetail.Menu> menuList = new ArrayList<>();
+        for (int i = 0; i < menus; i++) {
+            List<StoreDetail.Option> options = new ArrayList<>();
+            for (int j = 0; j < optionsPerMenu; j++) {
+                options.add(new StoreDetail.Option(UUID.randomUUID(), "옵션 " + j, "추가 선택", 500 * j));
+            }
+            menuList.add(new StoreDetail.Menu(UUID.randomUUID(), "메뉴 " + i, "메인",
+                    8_000 + i * 500, "맛있는 메뉴 설명입니다. " + i, "https://cdn.example.com/menu/" + i + ".png",
+                    false, options));
+        }
+        return new StoreDetail(UUID.randomUUID(), "테스트 매장", "서울시 강남구 테헤란로 1", "101호",
+                "02-123-4567", "09:00", "22:00", new ArrayList<>(List.of("한식", "분식")), 4.3, 128, menuList);
+    }
+
+    record StoreDetail(UUID id, String name, String roadAddress, String addressDetail, String phoneNumber,
+                       String openTime, String closeTime, List<String> categories, Double averageRating,
+                       Integer reviewCount, List<Menu> menus) {
+
+        record Menu(UUID id, String name, String category, Integer price, String description, String imageUrl,
+                    Boolean isHidden, List<Option> options) {
+        }
+
+        record Option(UUID id, String name, String detail, Integer price) {
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.Spot.global.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.example.Spot.admin.presentation.dto.response.AdminStatsResponseDto;
+import com.example.Spot.auth.jwt.GatewayIdentityVerifier;
+import com.example.Spot.global.feign.config.FeignHeaderRelayInterceptor;
+import com.example.Spot.global.infrastructure.config.redis.RedisCacheProperties;
+
+import feign.Request;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshAheadCacheTest {
+
+    private static final String STATS_PATH = "/api/internal/admin/orders/stats";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> lockOps;
+    @Mock
+    private RedisTemplate<String, byte[]> bytesRedisTemplate;
+    @Mock
+    private ValueOperations<String, byte[]> bytesOps;
+
+    private final GatewayIdentityVerifier verifier = new GatewayIdentityVerifier(false, "test-secret", 60, true);
+    private final FeignHeaderRelayInterceptor interceptor = new FeignHeaderRelayInterceptor(verifier, "spot-user");
+
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // ttl 0: 저장하자마자 갱신 시각이 지나 다음 조회는 항상 백그라운드 갱신을 시도한다
+        RedisCacheProperties properties = new RedisCacheProperties();
+        properties.setDefaultTtl(Duration.ZERO);
+        cache = new RefreshAheadCache(redisTemplate, bytesRedisTemplate, new CacheCodecRegistry(properties),
+                properties, new SimpleMeterRegistry());
+
+        when(redisTemplate.opsForValue()).thenReturn(lockOps);
+        when(lockOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(bytesRedisTemplate.opsForValue()).thenReturn(bytesOps);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신은 요청 없이 서비스 자격 증명으로 호출하고, degraded 결과로 완전한 값을 덮어쓰지 않는다")
+    void backgroundRefreshKeepsCompleteEntry() {
+        // 1) 요청 스레드의 첫 조회: 완전한 값을 계산해 저장
+        AdminStatsResponseDto complete = AdminStatsResponseDto.builder()
+                .totalOrders(10L)
+                .degradedSections(List.of())
+                .build();
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        cache.get("admin_dashboard", "dashboard", AdminStatsResponseDto.class, () -> complete,
+                AdminStatsResponseDto::isComplete);
+        verify(bytesOps).set(anyString(), stored.capture(), any(Duration.class));
+
+        // 2) 다음 조회: 기존 값을 바로 내주고, 갱신은 요청 컨텍스트가 없는 가상 스레드에서 돈다
+        when(bytesOps.get(anyString())).thenReturn(stored.getValue());
+        doReturn(true).when(bytesRedisTemplate).execute(any(RedisCallback.class));
+        AtomicBoolean hadRequestContext = new AtomicBoolean(true);
+        AtomicReference<Map<String, Collection<String>>> sentHeaders = new AtomicReference<>();
+
+        AdminStatsResponseDto served = cache.get("admin_dashboard", "dashboard", AdminStatsResponseDto.class, () -> {
+            hadRequestContext.set(RequestContextHolder.getRequestAttributes() != null);
+            RequestTemplate template = new RequestTemplate().method(Request.HttpMethod.GET).uri(STATS_PATH);
+            interceptor.apply(template);
+            sentHeaders.set(template.headers());
+            // 하위 서비스 호출이 실패한 결과
+            return AdminStatsResponseDto.builder().degradedSections(List.of("orderStats")).build();
+        }, AdminStatsResponseDto::isComplete);
+
+        verify(redisTemplate, timeout(2_000).times(2)).execute(any(RedisScript.class), anyList(), any());
+
+        assertThat(served.getTotalOrders()).isEqualTo(10L);
+        assertThat(hadRequestContext).isFalse();
+
+        // degraded 값은 저장하지 않고 (set 은 첫 저장 1번), 기존 값의 갱신 시각만 미룬다
+        verify(bytesOps, times(1)).set(anyString(), any(byte[].class), any(Duration.class));
+        verify(bytesRedisTemplate).execute(any(RedisCallback.class));
+
+        // 서비스 자격 증명은 호출 대상 method / path 로 검증된다 (신뢰 모드가 꺼져 있어도 spot.auth.service.enabled 면)
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", STATS_PATH);
+        sentHeaders.get().forEach((name, values) -> values.forEach(value -> request.addHeader(name, value)));
+        assertThat(verifier.supports(request)).isTrue();
+        GatewayIdentityVerifier.GatewayIdentity identity = verifier.verify(request);
+        assertThat(identity.isService()).isTrue();
+        assertThat(identity.service()).isEqualTo("spot-user");
+    }
+}